@@ -0,0 +1,68 @@
+package ec.com.nttdata.accounts_movements_service.config.kafka;
+
+import static ec.com.nttdata.accounts_movements_service.producer.topics.Topic.TOPIC_MOVEMENT_EVENT;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ec.com.nttdata.accounts_movements_service.config.ObjectMapperConfig;
+import ec.com.nttdata.accounts_movements_service.enums.MovementTypeEnum;
+import ec.com.nttdata.accounts_movements_service.producer.customer.dto.MovementCustomerRequest;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+/**
+ * Compara el costo de serializar un evento de movimiento con el codec JSON y con el codec Avro.
+ *
+ * <p>El tamaño en bytes de cada formato se imprime al iniciar el benchmark. Ejecutar con {@code ./gradlew jmh}; el
+ * profiler {@code gc} reporta los bytes asignados por operación.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaEventSerializationBenchmark {
+
+    private static final String JSON_TOPIC = "movements-json";
+
+    private KafkaEventSerializer<KafkaMessage<?>> serializer;
+    private KafkaMessage<?> message;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapperConfig().objectMapper();
+        AvroEventEncoder codec = AvroEventEncoder.fromClasspath(KafkaConfig.MOVEMENT_EVENT_SCHEMA, objectMapper);
+        serializer = new KafkaEventSerializer<>(new JsonSerializer<KafkaMessage<?>>(objectMapper).noTypeInfo(),
+                Map.of(TOPIC_MOVEMENT_EVENT, codec));
+        message = new KafkaMessage<>("create", 1, MovementCustomerRequest.builder()
+                .customerId(7L)
+                .amount(new BigDecimal("25.50"))
+                .movementType(MovementTypeEnum.DEPOSIT)
+                .build());
+
+        System.out.printf("Message size: json=%d bytes, avro=%d bytes%n", json().length, avro().length);
+    }
+
+    @Benchmark
+    public byte[] json() {
+        return serializer.serialize(JSON_TOPIC, new RecordHeaders(), message);
+    }
+
+    @Benchmark
+    public byte[] avro() {
+        return serializer.serialize(TOPIC_MOVEMENT_EVENT, new RecordHeaders(), message);
+    }
+}
@@ -3,9 +3,11 @@ package ec.com.nttdata.accounts_movements_service;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableFeignClients
+@EnableScheduling
 public class AccountsMovementsServiceApplication {
 
     public static void main(String[] args) {
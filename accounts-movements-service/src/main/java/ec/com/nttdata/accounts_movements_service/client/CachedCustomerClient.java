@@ -0,0 +1,153 @@
+package ec.com.nttdata.accounts_movements_service.client;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import ec.com.nttdata.accounts_movements_service.client.dto.CustomerDto;
+import ec.com.nttdata.accounts_movements_service.exception.CustomerNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caché en memoria delante de {@link ResilientCustomerClient}.
+ *
+ * <p>Acotada por tamaño (Caffeine, W-TinyLFU) y con expiración por entrada: los clientes encontrados viven
+ * {@code ttl} y los inexistentes (404 o ausentes en {@code /customers/by-ids}) solo {@code negative-ttl}, para que un
+ * cliente recién creado no quede oculto mucho tiempo. {@link #showByIds} consulta en remoto únicamente los ids que no
+ * están en caché y guarda tanto los encontrados como los faltantes; los ids que {@link #show} no encuentra en caché
+ * se resuelven con {@link CustomerBatchLoader}, que agrupa las consultas concurrentes. La caché guarda futuros: la
+ * consulta remota se espera fuera del cómputo de Caffeine, sin retener el lock de la entrada, y un futuro fallido se
+ * descarta solo, así los errores de disponibilidad no se cachean.
+ * Las métricas se publican como {@code cache.*} con {@code cache=customers}.</p>
+ */
+@Slf4j
+@Component
+public class CachedCustomerClient {
+
+    static final String CACHE_NAME = "customers";
+    private static final String NOT_FOUND_MESSAGE = "Customer with ID %d does not exist";
+
+    private final ResilientCustomerClient customerClient;
+    private final CustomerBatchLoader batchLoader;
+    private final AsyncCache<Long, CachedCustomer> cache;
+
+    @Autowired
+    public CachedCustomerClient(ResilientCustomerClient customerClient,
+                                CustomerBatchLoader batchLoader,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.customer-cache.max-size:10000}") long maxSize,
+                                @Value("${app.customer-cache.ttl:5m}") Duration ttl,
+                                @Value("${app.customer-cache.negative-ttl:30s}") Duration negativeTtl) {
+        this(customerClient, batchLoader, meterRegistry, maxSize, ttl, negativeTtl, Ticker.systemTicker());
+    }
+
+    CachedCustomerClient(ResilientCustomerClient customerClient, CustomerBatchLoader batchLoader,
+                         MeterRegistry meterRegistry, long maxSize, Duration ttl, Duration negativeTtl, Ticker ticker) {
+        this.customerClient = customerClient;
+        this.batchLoader = batchLoader;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new CustomerExpiry(ttl.toNanos(), negativeTtl.toNanos()))
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public CustomerDto show(Long id) {
+        // get(...) registra un solo futuro por clave: las consultas concurrentes del mismo id esperan al primero
+        CachedCustomer cached = join(cache.get(id, (key, executor) -> this.load(key)));
+        if (cached.customer() == null) {
+            throw new CustomerNotFoundException(String.format(NOT_FOUND_MESSAGE, id));
+        }
+        return cached.customer();
+    }
+
+    public Set<CustomerDto> showByIds(Set<Long> ids) {
+        Map<Long, CachedCustomer> entries = join(cache.getAll(ids, this::loadAll));
+        Set<CustomerDto> customers = new HashSet<>();
+        for (CachedCustomer cached : entries.values()) {
+            if (cached.customer() != null) {
+                customers.add(cached.customer());
+            }
+        }
+        return customers;
+    }
+
+    public void evict(Long id) {
+        cache.synchronous().invalidate(id);
+    }
+
+    private CompletableFuture<CachedCustomer> load(Long id) {
+        return batchLoader.load(id).thenApply(customer -> {
+            if (customer == null) {
+                log.debug("Customer {} not found, caching negative result", id);
+                return CachedCustomer.MISSING;
+            }
+            return new CachedCustomer(customer);
+        });
+    }
+
+    private Map<Long, CachedCustomer> loadAll(Set<? extends Long> missing) {
+        log.debug("Fetching {} customers not present in cache", missing.size());
+        Map<Long, CachedCustomer> loaded = new HashMap<>();
+        for (CustomerDto customer : customerClient.showByIds(new HashSet<>(missing))) {
+            loaded.put(customer.getId(), new CachedCustomer(customer));
+        }
+        // Los ids que customer-service no devolvió no existen: se cachean como negativos
+        missing.forEach(id -> loaded.putIfAbsent(id, CachedCustomer.MISSING));
+        return loaded;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    long estimatedSize() {
+        cache.synchronous().cleanUp();
+        return cache.synchronous().estimatedSize();
+    }
+
+    private record CachedCustomer(CustomerDto customer) {
+        static final CachedCustomer MISSING = new CachedCustomer(null);
+    }
+
+    private record CustomerExpiry(long ttlNanos, long negativeTtlNanos) implements Expiry<Long, CachedCustomer> {
+
+        @Override
+        public long expireAfterCreate(Long id, CachedCustomer value, long currentTime) {
+            return Objects.isNull(value.customer()) ? negativeTtlNanos : ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long id, CachedCustomer value, long currentTime, long currentDuration) {
+            return expireAfterCreate(id, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long id, CachedCustomer value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package ec.com.nttdata.accounts_movements_service.client;
+
+import ec.com.nttdata.accounts_movements_service.client.dto.CustomerDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Agrupa las consultas concurrentes de clientes individuales en una sola llamada a {@code POST /customers/by-ids}.
+ *
+ * <p>La primera consulta abre una ventana de {@code window}; las que llegan mientras está abierta se suman al mismo
+ * lote (un id repetido comparte el mismo future). El lote se despacha al cerrar la ventana o en cuanto alcanza
+ * {@code max-size} ids. Cada future se completa con su cliente, con {@code null} si customer-service no lo devolvió
+ * (no existe), o con el error de la llamada remota para todo el lote.</p>
+ */
+@Slf4j
+@Component
+public class CustomerBatchLoader implements DisposableBean {
+
+    private static final String BATCH_SIZE_METRIC = "customer.client.batch.size";
+
+    private final ResilientCustomerClient customerClient;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final DistributionSummary batchSize;
+    private final ScheduledExecutorService scheduler;
+    private final ThreadPoolTaskExecutor executor;
+    private final Object lock = new Object();
+    private Map<Long, CompletableFuture<CustomerDto>> pending = new HashMap<>();
+    private ScheduledFuture<?> flushTask;
+
+    public CustomerBatchLoader(ResilientCustomerClient customerClient,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.customer-client.batch.window:5ms}") Duration window,
+                               @Value("${app.customer-client.batch.max-size:100}") int maxBatchSize,
+                               @Value("${app.customer-client.batch.dispatch-threads:4}") int dispatchThreads) {
+        this.customerClient = customerClient;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.batchSize = DistributionSummary.builder(BATCH_SIZE_METRIC)
+                .description("Customer ids resolved per POST /customers/by-ids call")
+                .register(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "customer-batch-window");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(dispatchThreads);
+        this.executor.setMaxPoolSize(dispatchThreads);
+        this.executor.setThreadNamePrefix("customer-batch-");
+        this.executor.initialize();
+    }
+
+    public CompletableFuture<CustomerDto> load(Long id) {
+        CompletableFuture<CustomerDto> future;
+        Map<Long, CompletableFuture<CustomerDto>> full = null;
+        synchronized (lock) {
+            future = pending.computeIfAbsent(id, key -> new CompletableFuture<>());
+            if (pending.size() >= maxBatchSize) {
+                full = drain();
+            } else if (flushTask == null) {
+                flushTask = scheduler.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return future;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        flush();
+        executor.shutdown();
+    }
+
+    private void flush() {
+        Map<Long, CompletableFuture<CustomerDto>> batch;
+        synchronized (lock) {
+            batch = drain();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    // Debe llamarse con el lock tomado
+    private Map<Long, CompletableFuture<CustomerDto>> drain() {
+        Map<Long, CompletableFuture<CustomerDto>> batch = pending;
+        pending = new HashMap<>();
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(Map<Long, CompletableFuture<CustomerDto>> batch) {
+        batchSize.record(batch.size());
+        try {
+            executor.execute(() -> resolve(batch));
+        } catch (RejectedExecutionException e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private void resolve(Map<Long, CompletableFuture<CustomerDto>> batch) {
+        try {
+            Map<Long, CustomerDto> found = new HashMap<>();
+            for (CustomerDto customer : customerClient.showByIds(new HashSet<>(batch.keySet()))) {
+                found.put(customer.getId(), customer);
+            }
+            log.debug("Resolved {} of {} customers in one batch", found.size(), batch.size());
+            batch.forEach((id, future) -> future.complete(found.get(id)));
+        } catch (RuntimeException e) {
+            log.warn("Customer batch lookup of {} ids failed: {}", batch.size(), e.getMessage());
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package ec.com.nttdata.accounts_movements_service.client;
+
+import ec.com.nttdata.accounts_movements_service.client.dto.CustomerDto;
+import ec.com.nttdata.accounts_movements_service.exception.CustomerNotFoundException;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Política de resiliencia de las llamadas a customer-service.
+ *
+ * <p>Cada llamada pasa, de afuera hacia adentro, por: reintento con backoff exponencial y jitter
+ * ({@value #RETRY}), circuit breaker ({@value #CIRCUIT_BREAKER}), bulkhead de semáforo ({@value #BULKHEAD}) y límite
+ * de tiempo por intento ({@value #TIME_LIMITER}); los umbrales se configuran en {@code resilience4j.*}. Con
+ * {@code app.customer-client.hedge.enabled}, si un intento no responde dentro del percentil
+ * {@code hedge.percentile} de la latencia observada (nunca antes de {@code hedge.min-delay}) se lanza una segunda
+ * solicitud idéntica y gana la primera respuesta exitosa. Un 404 se propaga tal cual; cualquier otra falla se
+ * informa como {@link CustomerNotFoundException} con el motivo.</p>
+ *
+ * <p>El bulkhead limita las llamadas en curso, no las solicitudes HTTP: cuando el límite de tiempo vence, el
+ * intento se abandona pero su hilo sigue bloqueado en el socket hasta el read timeout de Feign (que por eso no debe
+ * superar el {@code timeoutDuration}), y el reintento o la réplica ya corren con el permiso liberado. El tope real de
+ * solicitudes simultáneas lo pone el pool de intentos, sin cola: {@code maxConcurrentCalls} hilos (el doble con
+ * hedging); un intento que no encuentra hilo libre falla de inmediato con {@link RejectedExecutionException} en
+ * lugar de esperar y salir cuando su llamador ya se rindió. La métrica {@value #IN_FLIGHT_METRIC} reporta los
+ * intentos en curso, abandonados incluidos.</p>
+ *
+ * <p>{@link #showByIds} divide los ids en bloques de {@code by-ids.chunk-size} y consulta hasta
+ * {@code by-ids.parallelism} bloques a la vez, cada uno con la política completa, para no generar cláusulas IN ni
+ * respuestas enormes en customer-service.</p>
+ */
+@Slf4j
+@Component
+public class ResilientCustomerClient implements DisposableBean {
+
+    public static final String RETRY = "customerClientRetry";
+    public static final String CIRCUIT_BREAKER = "customerClientCircuit";
+    public static final String BULKHEAD = "customerClientBulkhead";
+    public static final String TIME_LIMITER = "customerClientTimeLimiter";
+    private static final String LATENCY_METRIC = "customer.client.latency";
+    private static final String HEDGES_METRIC = "customer.client.hedges";
+    private static final String IN_FLIGHT_METRIC = "customer.client.in.flight";
+    private static final long HEDGE_DELAY_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final CustomerClient customerClient;
+    private final Retry retry;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final TimeLimiter timeLimiter;
+    private final boolean hedgeEnabled;
+    private final double hedgePercentile;
+    private final long minHedgeDelayNanos;
+    private final Timer latency;
+    private final Counter hedges;
+    private final int chunkSize;
+    private final int parallelism;
+    private final ThreadPoolTaskExecutor executor;
+    private final ThreadPoolTaskExecutor chunkExecutor;
+    private final ScheduledExecutorService scheduler;
+    private volatile long hedgeDelayNanos;
+    private volatile long hedgeDelayRefreshedAt;
+
+    public ResilientCustomerClient(CustomerClient customerClient,
+                                   RetryRegistry retryRegistry,
+                                   CircuitBreakerRegistry circuitBreakerRegistry,
+                                   BulkheadRegistry bulkheadRegistry,
+                                   TimeLimiterRegistry timeLimiterRegistry,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.customer-client.hedge.enabled:false}") boolean hedgeEnabled,
+                                   @Value("${app.customer-client.hedge.percentile:0.95}") double hedgePercentile,
+                                   @Value("${app.customer-client.hedge.min-delay:50ms}") Duration minHedgeDelay,
+                                   @Value("${app.customer-client.by-ids.chunk-size:200}") int chunkSize,
+                                   @Value("${app.customer-client.by-ids.parallelism:4}") int parallelism,
+                                   @Value("${app.customer-client.by-ids.pool-size:16}") int chunkPoolSize) {
+        this.customerClient = customerClient;
+        this.retry = retryRegistry.retry(RETRY);
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER);
+        this.bulkhead = bulkheadRegistry.bulkhead(BULKHEAD);
+        this.timeLimiter = timeLimiterRegistry.timeLimiter(TIME_LIMITER);
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgePercentile = hedgePercentile;
+        this.minHedgeDelayNanos = minHedgeDelay.toNanos();
+        this.hedgeDelayNanos = minHedgeDelayNanos;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.parallelism = Math.max(1, parallelism);
+        this.latency = Timer.builder(LATENCY_METRIC)
+                .description("Latency of single customer-service requests, hedges included")
+                .publishPercentiles(hedgePercentile)
+                .register(meterRegistry);
+        this.hedges = Counter.builder(HEDGES_METRIC)
+                .description("Hedged customer-service requests launched after the percentile delay")
+                .register(meterRegistry);
+        // Un intento y, como máximo, su réplica por cada llamada admitida por el bulkhead; sin cola
+        int threads = bulkhead.getBulkheadConfig().getMaxConcurrentCalls() * (hedgeEnabled ? 2 : 1);
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(threads);
+        this.executor.setMaxPoolSize(threads);
+        this.executor.setQueueCapacity(0);
+        this.executor.setThreadNamePrefix("customer-client-");
+        this.executor.initialize();
+        Gauge.builder(IN_FLIGHT_METRIC, executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("customer-service requests still running, abandoned attempts included")
+                .register(meterRegistry);
+        // Pool propio: los bloques esperan a sus intentos, que corren en el pool anterior. La cola acotada rechaza
+        // bloques cuando muchas consultas grandes llegan a la vez
+        this.chunkExecutor = new ThreadPoolTaskExecutor();
+        this.chunkExecutor.setCorePoolSize(chunkPoolSize);
+        this.chunkExecutor.setMaxPoolSize(chunkPoolSize);
+        this.chunkExecutor.setQueueCapacity(chunkPoolSize);
+        this.chunkExecutor.setThreadNamePrefix("customer-by-ids-");
+        this.chunkExecutor.initialize();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "customer-client-hedge");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public CustomerDto show(Long id) {
+        return execute(() -> customerClient.show(id));
+    }
+
+    public Set<CustomerDto> showByIds(Set<Long> ids) {
+        if (ids.size() <= chunkSize) {
+            return execute(() -> customerClient.showByIds(ids));
+        }
+        Semaphore permits = new Semaphore(parallelism);
+        List<CompletableFuture<Set<CustomerDto>>> futures = new ArrayList<>();
+        for (Set<Long> chunk : chunks(ids)) {
+            acquire(permits);
+            if (futures.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                permits.release();
+                break;
+            }
+            CompletableFuture<Set<CustomerDto>> future;
+            try {
+                future = CompletableFuture.supplyAsync(() -> execute(() -> customerClient.showByIds(chunk)),
+                        chunkExecutor);
+            } catch (RejectedExecutionException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            futures.add(future.whenComplete((customers, error) -> permits.release()));
+        }
+        Set<CustomerDto> customers = new HashSet<>();
+        try {
+            futures.forEach(future -> customers.addAll(future.join()));
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return customers;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        chunkExecutor.shutdown();
+        executor.shutdown();
+    }
+
+    private List<Set<Long>> chunks(Set<Long> ids) {
+        List<Set<Long>> chunks = new ArrayList<>();
+        Set<Long> current = new HashSet<>();
+        for (Long id : ids) {
+            current.add(id);
+            if (current.size() == chunkSize) {
+                chunks.add(current);
+                current = new HashSet<>();
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    private static void acquire(Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomerNotFoundException("Interrupted while fetching customers");
+        }
+    }
+
+    private <T> T execute(Supplier<T> call) {
+        Callable<T> attempt = () -> timeLimiter.executeFutureSupplier(() -> hedged(call));
+        Callable<T> decorated = Retry.decorateCallable(retry,
+                CircuitBreaker.decorateCallable(circuitBreaker,
+                        Bulkhead.decorateCallable(bulkhead, attempt)));
+        try {
+            return decorated.call();
+        } catch (FeignException.NotFound e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("Customer service call failed: {}", e.toString());
+            throw new CustomerNotFoundException("Customer service is unavailable. Error: " + e.getMessage());
+        }
+    }
+
+    private <T> CompletableFuture<T> hedged(Supplier<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger outstanding = new AtomicInteger(1);
+        launch(call, result, outstanding);
+        if (hedgeEnabled) {
+            ScheduledFuture<?> hedge = scheduler.schedule(() -> {
+                // Solo se replica si el intento sigue pendiente; si ya falló, el resultado está completo
+                if (outstanding.incrementAndGet() > 1 && !result.isDone()) {
+                    hedges.increment();
+                    launch(call, result, outstanding);
+                } else {
+                    outstanding.decrementAndGet();
+                }
+            }, hedgeDelayNanos(), TimeUnit.NANOSECONDS);
+            result.whenComplete((value, error) -> hedge.cancel(false));
+        }
+        return result;
+    }
+
+    private <T> void launch(Supplier<T> call, CompletableFuture<T> result, AtomicInteger outstanding) {
+        CompletableFuture<T> attempt;
+        try {
+            attempt = CompletableFuture.supplyAsync(() -> latency.record(call), executor);
+        } catch (RejectedExecutionException e) {
+            attempt = CompletableFuture.failedFuture(e);
+        }
+        attempt.whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+            } else if (outstanding.decrementAndGet() == 0) {
+                // Solo falla el resultado cuando ya no queda ningún intento en curso
+                result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            }
+        });
+    }
+
+    private long hedgeDelayNanos() {
+        long now = System.nanoTime();
+        if (now - hedgeDelayRefreshedAt > HEDGE_DELAY_REFRESH_NANOS) {
+            hedgeDelayRefreshedAt = now;
+            for (ValueAtPercentile value : latency.takeSnapshot().percentileValues()) {
+                hedgeDelayNanos = Math.max(minHedgeDelayNanos, (long) value.value(TimeUnit.NANOSECONDS));
+            }
+        }
+        return hedgeDelayNanos;
+    }
+}
@@ -0,0 +1,44 @@
+package ec.com.nttdata.accounts_movements_service.config;
+
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+@Slf4j
+@Configuration
+public class MovementPostingRetryConfig {
+
+    public static final String MOVEMENT_POSTING_RETRY = "movementPostingRetry";
+
+    /**
+     * Cuenta los conflictos de versión al contabilizar movimientos (reintentados o no). Los reintentos en sí se
+     * publican como resilience4j.retry.calls{name="movementPostingRetry"}.
+     */
+    @Bean
+    public Counter movementPostingConflictCounter(RetryRegistry retryRegistry, MeterRegistry meterRegistry) {
+        Counter conflicts = Counter.builder("movements.posting.conflicts")
+                .description("Version conflicts detected while posting movements")
+                .register(meterRegistry);
+
+        Retry retry = retryRegistry.retry(MOVEMENT_POSTING_RETRY);
+        retry.getEventPublisher()
+                .onRetry(event -> {
+                    conflicts.increment();
+                    log.warn("Movement posting conflict, retry attempt {} in {}",
+                            event.getNumberOfRetryAttempts(), event.getWaitInterval());
+                })
+                .onError(event -> {
+                    if (event.getLastThrowable() instanceof OptimisticLockingFailureException) {
+                        conflicts.increment();
+                        log.error("Movement posting failed after {} attempts due to version conflicts",
+                                event.getNumberOfRetryAttempts());
+                    }
+                });
+        return conflicts;
+    }
+}
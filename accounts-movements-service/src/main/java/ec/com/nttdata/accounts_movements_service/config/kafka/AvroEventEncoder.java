@@ -0,0 +1,173 @@
+package ec.com.nttdata.accounts_movements_service.config.kafka;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Escribe el {@link KafkaMessage} en Avro con el esquema local del topic ({@code .avsc}), sin schema registry.
+ *
+ * <p>El valor usa la codificación de objeto único de Avro ({@link BinaryMessageEncoder}): el binario lleva la huella
+ * del esquema con que se escribió, así el consumidor resuelve ese esquema contra el suyo (campos agregados con
+ * default, campos quitados) en lugar de depender de que ambos sean idénticos. El DTO se copia a un
+ * {@link GenericRecord} con los getters que resuelve Jackson una vez por clase; los nombres de campo siguen el
+ * snake_case del {@link ObjectMapper}. Los montos viajan como texto plano para conservar la escala del
+ * {@code BigDecimal} y los enums con el mismo texto que produce Jackson. Un {@link JsonNode} (el payload que reenvía
+ * el outbox) se copia por nombre de campo con las mismas reglas.</p>
+ */
+public class AvroEventEncoder {
+
+    public static final String NAME = "avro";
+
+    private final Schema schema;
+    private final ObjectMapper objectMapper;
+    private final BinaryMessageEncoder<GenericRecord> encoder;
+    private final Map<Class<?>, RecordWriter> recordWriters = new ConcurrentHashMap<>();
+    private final Map<Enum<?>, String> enumNames = new ConcurrentHashMap<>();
+
+    public AvroEventEncoder(Schema schema, ObjectMapper objectMapper) {
+        this.schema = schema;
+        this.objectMapper = objectMapper;
+        this.encoder = new BinaryMessageEncoder<>(GenericData.get(), schema);
+    }
+
+    public static AvroEventEncoder fromClasspath(String location, ObjectMapper objectMapper) {
+        try (InputStream schemaStream = new ClassPathResource(location).getInputStream()) {
+            return new AvroEventEncoder(new Schema.Parser().parse(schemaStream), objectMapper);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load Avro schema " + location, e);
+        }
+    }
+
+    public byte[] encode(Object message) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        try {
+            encoder.encode(toRecord(schema, message), out);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Could not encode message with schema " + schema.getFullName(), e);
+        }
+        return out.toByteArray();
+    }
+
+    public Schema getSchema() {
+        return schema;
+    }
+
+    private GenericRecord toRecord(Schema recordSchema, Object value) {
+        return recordWriters.computeIfAbsent(value.getClass(), type -> new RecordWriter(type))
+                .write(recordSchema, value);
+    }
+
+    private String enumName(Enum<?> value) {
+        // Mismo texto que el JSON (@JsonValue, @JsonProperty); se calcula una vez por constante
+        return enumNames.computeIfAbsent(value, constant -> objectMapper.convertValue(constant, String.class));
+    }
+
+    /**
+     * Copia las propiedades de una clase a un record del esquema, con los getters resueltos al construirse.
+     */
+    private final class RecordWriter {
+
+        private final Map<String, AnnotatedMember> getters;
+
+        RecordWriter(Class<?> type) {
+            if (JsonNode.class.isAssignableFrom(type)) {
+                this.getters = null;
+                return;
+            }
+            BeanDescription bean = objectMapper.getSerializationConfig().introspect(objectMapper.constructType(type));
+            this.getters = new HashMap<>();
+            for (BeanPropertyDefinition property : bean.findProperties()) {
+                if (property.getAccessor() != null) {
+                    property.getAccessor().fixAccess(false);
+                    getters.put(property.getName(), property.getAccessor());
+                }
+            }
+        }
+
+        GenericRecord write(Schema recordSchema, Object bean) {
+            GenericData.Record record = new GenericData.Record(recordSchema);
+            for (Schema.Field field : recordSchema.getFields()) {
+                JsonNode node = getters == null ? ((JsonNode) bean).get(field.name()) : null;
+                AnnotatedMember getter = getters != null ? getters.get(field.name()) : null;
+                if (node == null && getter == null) {
+                    // Campo del esquema sin propiedad en el objeto: se escribe su default, si lo tiene
+                    record.put(field.pos(), field.hasDefaultValue() ? GenericData.get().getDefaultValue(field) : null);
+                    continue;
+                }
+                Object value = node != null ? treeValue(node) : getter.getValue(bean);
+                record.put(field.pos(), value != null ? avroValue(field, nonNullBranch(field.schema()), value) : null);
+            }
+            return record;
+        }
+    }
+
+    private Object avroValue(Schema.Field field, Schema valueSchema, Object value) {
+        switch (valueSchema.getType()) {
+            case RECORD:
+                return toRecord(valueSchema, value);
+            case STRING:
+                return text(value);
+            case LONG:
+                return ((Number) value).longValue();
+            case INT:
+                return ((Number) value).intValue();
+            case DOUBLE:
+                return ((Number) value).doubleValue();
+            case BOOLEAN:
+                return value;
+            default:
+                throw new IllegalArgumentException("Unsupported Avro type " + valueSchema.getType()
+                        + " for field " + field.name());
+        }
+    }
+
+    private static Object treeValue(JsonNode node) {
+        if (node.isNull()) {
+            return null;
+        }
+        if (node.isObject()) {
+            return node;
+        }
+        if (node.isNumber()) {
+            // Los montos se escriben en notación plana, igual que WRITE_BIGDECIMAL_AS_PLAIN
+            return node.decimalValue();
+        }
+        return node.isBoolean() ? node.booleanValue() : node.asText();
+    }
+
+    private String text(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return value instanceof Enum<?> constant ? enumName(constant) : value.toString();
+    }
+
+    private static Schema nonNullBranch(Schema fieldSchema) {
+        if (fieldSchema.getType() != Schema.Type.UNION) {
+            return fieldSchema;
+        }
+        for (Schema branch : fieldSchema.getTypes()) {
+            if (branch.getType() != Schema.Type.NULL) {
+                return branch;
+            }
+        }
+        throw new IllegalArgumentException("Union without non-null branch: " + fieldSchema);
+    }
+}
@@ -1,11 +1,14 @@
 package ec.com.nttdata.accounts_movements_service.config.kafka;
 
+import static ec.com.nttdata.accounts_movements_service.producer.topics.Topic.TOPIC_MOVEMENT_EVENT;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.HashMap;
 import java.util.Map;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +22,8 @@ import org.springframework.kafka.support.serializer.JsonSerializer;
 @EnableKafka
 public class KafkaConfig {
 
+    public static final String MOVEMENT_EVENT_SCHEMA = "avro/movement-event-v1.avsc";
+
     private final ObjectMapper objectMapper;
 
     public KafkaConfig(ObjectMapper objectMapper) {
@@ -30,6 +35,9 @@ public class KafkaConfig {
         config.put(ConsumerConfig.GROUP_ID_CONFIG, kafkaProperties.getConsumer().getGroupId());
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaProperties.getBootstrapServers());
         config.put(ProducerConfig.MAX_REQUEST_SIZE_CONFIG, "4000000");
+        // Productor idempotente: los reintentos internos no duplican ni reordenan mensajes de una partición
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
         config.put(ConsumerConfig.FETCH_MAX_BYTES_CONFIG, "4000000");
         return config;
     }
@@ -40,12 +48,19 @@ public class KafkaConfig {
     }
 
     @Bean
-    public <T> ProducerFactory<String, T> producerFactory(KafkaProperties kafkaProperties) {
+    public <T> ProducerFactory<String, T> producerFactory(
+            KafkaProperties kafkaProperties,
+            @Value("${app.kafka.topics.movements.codec:json}") String movementsCodec) {
         JsonSerializer<T> valueSerializer = new JsonSerializer<>(objectMapper);
+        // Codec por topic: los topics en Avro se listan aquí, el resto sigue en JSON
+        Map<String, AvroEventEncoder> avroTopics = new HashMap<>();
+        if (AvroEventEncoder.NAME.equalsIgnoreCase(movementsCodec)) {
+            avroTopics.put(TOPIC_MOVEMENT_EVENT, AvroEventEncoder.fromClasspath(MOVEMENT_EVENT_SCHEMA, objectMapper));
+        }
         return new DefaultKafkaProducerFactory<>(
                 getConfig(kafkaProperties),
                 new StringSerializer(),
-                valueSerializer.noTypeInfo()
+                new KafkaEventSerializer<>(valueSerializer.noTypeInfo(), avroTopics)
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package ec.com.nttdata.accounts_movements_service.config.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+/**
+ * Cabeceras que identifican el tipo y la versión del evento; el consumidor las usa para deserializar el
+ * {@link KafkaMessage} directamente al DTO correspondiente.
+ */
+public final class KafkaEventHeaders {
+
+    public static final String TYPE = "event-type";
+    public static final String VERSION = "event-version";
+    /** Codec del valor ({@code json} o {@code avro}); si falta, el mensaje es JSON. */
+    public static final String CODEC = "event-codec";
+
+    private KafkaEventHeaders() {
+    }
+
+    public static Headers of(String type, int version) {
+        return new RecordHeaders(List.of(
+                new RecordHeader(TYPE, type.getBytes(StandardCharsets.UTF_8)),
+                new RecordHeader(VERSION, String.valueOf(version).getBytes(StandardCharsets.UTF_8))));
+    }
+}
@@ -0,0 +1,43 @@
+package ec.com.nttdata.accounts_movements_service.config.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Serializa cada {@link KafkaMessage} con el codec configurado para su topic: Avro para los topics registrados en
+ * {@code avroTopics} y JSON para el resto. El codec usado viaja en la cabecera {@link KafkaEventHeaders#CODEC}.
+ */
+public class KafkaEventSerializer<T> implements Serializer<T> {
+
+    private static final byte[] AVRO = AvroEventEncoder.NAME.getBytes(StandardCharsets.UTF_8);
+
+    private final Serializer<T> jsonSerializer;
+    private final Map<String, AvroEventEncoder> avroTopics;
+
+    public KafkaEventSerializer(Serializer<T> jsonSerializer, Map<String, AvroEventEncoder> avroTopics) {
+        this.jsonSerializer = jsonSerializer;
+        this.avroTopics = Map.copyOf(avroTopics);
+    }
+
+    @Override
+    public byte[] serialize(String topic, T data) {
+        return jsonSerializer.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, T data) {
+        AvroEventEncoder encoder = avroTopics.get(topic);
+        if (encoder == null || !(data instanceof KafkaMessage<?>)) {
+            return jsonSerializer.serialize(topic, headers, data);
+        }
+        headers.add(KafkaEventHeaders.CODEC, AVRO);
+        return encoder.encode(data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
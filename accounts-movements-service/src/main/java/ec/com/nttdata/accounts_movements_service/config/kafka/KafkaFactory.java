@@ -1,6 +1,10 @@
 package ec.com.nttdata.accounts_movements_service.config.kafka;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import ec.com.nttdata.accounts_movements_service.client.dto.CustomerDto;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
@@ -20,15 +24,16 @@ public class KafkaFactory {
     }
 
     @Bean(name = "config.kafka.consumerFactory")
-    public ConcurrentKafkaListenerContainerFactory<String, KafkaMessage> consumerFactory(
+    public ConcurrentKafkaListenerContainerFactory<String, KafkaMessage<?>> consumerFactory(
             KafkaProperties kafkaProperties) {
-        ConcurrentKafkaListenerContainerFactory<String, KafkaMessage> containerFactory =
+        ConcurrentKafkaListenerContainerFactory<String, KafkaMessage<?>> containerFactory =
                 new ConcurrentKafkaListenerContainerFactory<>();
 
-        ErrorHandlingDeserializer<KafkaMessage> errorHandlingDeserializer =
-                new ErrorHandlingDeserializer<>(new JsonDeserializer<>(KafkaMessage.class, objectMapper));
+        ErrorHandlingDeserializer<KafkaMessage<?>> errorHandlingDeserializer =
+                new ErrorHandlingDeserializer<>(new JsonDeserializer<>(
+                        objectMapper.getTypeFactory().constructType(KafkaMessage.class), objectMapper));
 
-        DefaultKafkaConsumerFactory<String, KafkaMessage> consumerFactory =
+        DefaultKafkaConsumerFactory<String, KafkaMessage<?>> consumerFactory =
                 new DefaultKafkaConsumerFactory<>(
                         KafkaConfig.getConfig(kafkaProperties),
                         new StringDeserializer(),
@@ -38,4 +43,29 @@ public class KafkaFactory {
         containerFactory.setConsumerFactory(consumerFactory);
         return containerFactory;
     }
-}
\ No newline at end of file
+
+    /**
+     * Consumidor del topic compactado de clientes: el sobre se deserializa directamente a
+     * {@code KafkaMessage<CustomerDto>}; un tombstone (cliente eliminado) llega con valor nulo.
+     */
+    @Bean(name = "config.kafka.customerReplicaConsumerFactory")
+    public ConcurrentKafkaListenerContainerFactory<String, KafkaMessage<CustomerDto>> customerReplicaConsumerFactory(
+            KafkaProperties kafkaProperties) {
+        Map<String, Object> config = KafkaConfig.getConfig(kafkaProperties);
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        JavaType messageType = objectMapper.getTypeFactory()
+                .constructParametricType(KafkaMessage.class, CustomerDto.class);
+        ErrorHandlingDeserializer<KafkaMessage<CustomerDto>> errorHandlingDeserializer =
+                new ErrorHandlingDeserializer<>(new JsonDeserializer<>(messageType, objectMapper));
+
+        ConcurrentKafkaListenerContainerFactory<String, KafkaMessage<CustomerDto>> containerFactory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        containerFactory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(
+                config,
+                new StringDeserializer(),
+                errorHandlingDeserializer
+        ));
+        return containerFactory;
+    }
+}
@@ -9,8 +9,9 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-public class KafkaMessage {
+public class KafkaMessage<T> {
 
     private String action;
-    private Object data;
-}
\ No newline at end of file
+    private int version;
+    private T data;
+}
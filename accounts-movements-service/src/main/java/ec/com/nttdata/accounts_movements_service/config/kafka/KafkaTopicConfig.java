@@ -0,0 +1,26 @@
+package ec.com.nttdata.accounts_movements_service.config.kafka;
+
+import static ec.com.nttdata.accounts_movements_service.producer.topics.Topic.TOPIC_MOVEMENT_EVENT;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * Declara los topics del servicio; {@code KafkaAdmin} los crea al arrancar (o amplía sus particiones).
+ */
+@Configuration
+public class KafkaTopicConfig {
+
+    @Bean
+    public NewTopic movementsTopic(@Value("${app.kafka.topics.movements.partitions:6}") int partitions,
+                                   @Value("${app.kafka.topics.movements.replicas:1}") int replicas) {
+        // Los eventos se publican con el id de cuenta como clave: cada cuenta cae siempre en la misma partición
+        return TopicBuilder.name(TOPIC_MOVEMENT_EVENT)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+}
@@ -2,8 +2,11 @@ package ec.com.nttdata.accounts_movements_service.controller;
 
 import ec.com.nttdata.accounts_movements_service.dto.account.request.AccountRequest;
 import ec.com.nttdata.accounts_movements_service.dto.account.response.AccountResponse;
+import ec.com.nttdata.accounts_movements_service.dto.page.CursorPage;
 import ec.com.nttdata.accounts_movements_service.dto.retentions.OnCreate;
 import ec.com.nttdata.accounts_movements_service.service.AccountService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -31,6 +35,14 @@ public class AccountController {
         return new ResponseEntity<>(service.index(pageable), HttpStatus.OK);
     }
 
+    // Con el parámetro cursor (vacío para la primera página) se pagina por keyset en lugar de offset
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPage<AccountResponse>> scroll(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(1000) int size) {
+        return new ResponseEntity<>(service.scroll(cursor, size), HttpStatus.OK);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<AccountResponse> show(@PathVariable Long id) {
         return new ResponseEntity<>(service.show(id), HttpStatus.OK);
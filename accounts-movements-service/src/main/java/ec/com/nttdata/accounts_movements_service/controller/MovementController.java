@@ -1,14 +1,28 @@
 package ec.com.nttdata.accounts_movements_service.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import ec.com.nttdata.accounts_movements_service.dto.movement.request.MovementRequest;
+import ec.com.nttdata.accounts_movements_service.dto.movement.response.MovementBatchItemResponse;
+import ec.com.nttdata.accounts_movements_service.dto.movement.response.MovementBatchResponse;
 import ec.com.nttdata.accounts_movements_service.dto.movement.response.MovementResponse;
+import ec.com.nttdata.accounts_movements_service.dto.page.CursorPage;
 import ec.com.nttdata.accounts_movements_service.dto.retentions.OnCreate;
 import ec.com.nttdata.accounts_movements_service.dto.retentions.OnUpdate;
+import ec.com.nttdata.accounts_movements_service.service.MovementBatchService;
 import ec.com.nttdata.accounts_movements_service.service.MovementService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,20 +32,34 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/movements")
 @RequiredArgsConstructor
 @Validated
 public class MovementController {
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     private final MovementService service;
+    private final MovementBatchService batchService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     public ResponseEntity<Page<MovementResponse>> index(Pageable pageable) {
         return new ResponseEntity<>(service.index(pageable), HttpStatus.OK);
     }
 
+    // Con el parámetro cursor (vacío para la primera página) se pagina por keyset en lugar de offset
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPage<MovementResponse>> scroll(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(1000) int size) {
+        return new ResponseEntity<>(service.scroll(cursor, size), HttpStatus.OK);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<MovementResponse> show(@PathVariable Long id) {
         return new ResponseEntity<>(service.show(id), HttpStatus.OK);
@@ -42,6 +70,30 @@ public class MovementController {
         return new ResponseEntity<>(service.create(request), HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<MovementBatchResponse> createBatch(@RequestBody List<MovementRequest> requests) {
+        return new ResponseEntity<>(batchService.createBatch(requests.iterator()), HttpStatus.OK);
+    }
+
+    @PostMapping(value = "/batch", consumes = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> createBatchStream(InputStream body) {
+        // Se lee un movimiento por línea y se escribe un resultado por línea a medida que cada bloque se confirma;
+        // la última línea trae los totales. Ni la entrada ni la salida se acumulan en memoria
+        StreamingResponseBody response = output -> {
+            try (MappingIterator<MovementRequest> requests =
+                         objectMapper.readerFor(MovementRequest.class).readValues(body);
+                 SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(output)) {
+                MovementBatchResponse summary = batchService.createBatch(requests, items -> write(writer, items));
+                writer.write(summary);
+                writer.flush();
+                output.write('\n');
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(response);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<MovementResponse> update(@PathVariable Long id,
                                                    @Validated(OnUpdate.class) @RequestBody MovementRequest request) {
@@ -53,4 +105,13 @@ public class MovementController {
         service.delete(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    private static void write(SequenceWriter writer, List<MovementBatchItemResponse> items) {
+        try {
+            writer.writeAll(items);
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
\ No newline at end of file
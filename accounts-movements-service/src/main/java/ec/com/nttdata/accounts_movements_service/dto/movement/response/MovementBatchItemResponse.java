@@ -0,0 +1,19 @@
+package ec.com.nttdata.accounts_movements_service.dto.movement.response;
+
+import ec.com.nttdata.accounts_movements_service.enums.MovementBatchStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MovementBatchItemResponse {
+    private int index;
+    private Long accountId;
+    private MovementBatchStatusEnum status;
+    private MovementResponse movement;
+    private String error;
+}
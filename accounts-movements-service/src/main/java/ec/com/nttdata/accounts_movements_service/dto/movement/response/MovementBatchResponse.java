@@ -0,0 +1,21 @@
+package ec.com.nttdata.accounts_movements_service.dto.movement.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MovementBatchResponse {
+    private int total;
+    private int posted;
+    private int rejected;
+    // Nulo en la respuesta NDJSON, donde cada ítem va en su propia línea
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<MovementBatchItemResponse> items;
+}
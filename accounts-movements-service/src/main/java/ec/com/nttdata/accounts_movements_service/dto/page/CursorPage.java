@@ -0,0 +1,21 @@
+package ec.com.nttdata.accounts_movements_service.dto.page;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Página por cursor (keyset): sin total ni número de página, solo el token para pedir la siguiente.
+ * {@code nextCursor} es nulo en la última página.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+}
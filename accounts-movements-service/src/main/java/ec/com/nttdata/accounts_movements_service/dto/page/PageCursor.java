@@ -0,0 +1,65 @@
+package ec.com.nttdata.accounts_movements_service.dto.page;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Posición de la última fila entregada: el id y, para listados ordenados por fecha, también la fecha.
+ *
+ * <p>Viaja al cliente como token opaco (Base64 URL-safe); el cliente solo lo devuelve en {@code cursor}.</p>
+ */
+public record PageCursor(LocalDateTime date, Long id) {
+    private static final char SEPARATOR = '|';
+
+    public static PageCursor of(Long id) {
+        return new PageCursor(null, id);
+    }
+
+    public static PageCursor of(LocalDateTime date, Long id) {
+        return new PageCursor(date, id);
+    }
+
+    public String encode() {
+        String raw = date == null ? String.valueOf(id) : date.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica el token recibido; un token vacío o nulo corresponde a la primera página y devuelve {@code null}.
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                return of(Long.valueOf(raw));
+            }
+            return of(LocalDateTime.parse(raw.substring(0, separator)), Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + token);
+        }
+    }
+
+    /**
+     * Arma la página a partir de {@code size + 1} filas leídas: la fila extra solo indica que hay más y no se
+     * entrega, así se evita el {@code COUNT(*)}.
+     */
+    public static <E, T> CursorPage<T> slice(List<E> rows, int size, Function<E, T> mapper,
+                                             Function<E, PageCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return CursorPage.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .size(page.size())
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
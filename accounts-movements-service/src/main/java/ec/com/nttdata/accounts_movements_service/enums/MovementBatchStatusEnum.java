@@ -0,0 +1,6 @@
+package ec.com.nttdata.accounts_movements_service.enums;
+
+public enum MovementBatchStatusEnum {
+    POSTED,
+    REJECTED
+}
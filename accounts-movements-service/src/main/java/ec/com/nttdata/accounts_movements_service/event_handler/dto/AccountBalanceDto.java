@@ -14,6 +14,7 @@ public class AccountBalanceDto extends ApplicationEvent implements Serializable
     private Long accountId;
     private BigDecimal balance;
     private boolean isInitial;
+    private Long version;
 
     public AccountBalanceDto(Object source, Long id, BigDecimal balance) {
         super(source);
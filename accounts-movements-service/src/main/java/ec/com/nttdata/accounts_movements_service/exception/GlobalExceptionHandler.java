@@ -1,5 +1,6 @@
 package ec.com.nttdata.accounts_movements_service.exception;
 
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
 import ec.com.nttdata.accounts_movements_service.exception.dto.ErrorMessage;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -9,6 +10,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -61,6 +63,14 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorMessage> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex) {
+        log.warn("Concurrent modification conflict: {}", ex.getMessage());
+        return buildErrorResponse("The account was modified concurrently. Please retry the operation.",
+                HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorMessage> handleValidationExceptions(MethodArgumentNotValidException ex) {
         log.warn("Validation failed for request: {}", ex.getMessage());
@@ -144,6 +154,11 @@ public class GlobalExceptionHandler {
         return buildErrorResponse("Malformed JSON request", HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(RuntimeJsonMappingException.class)
+    public ResponseEntity<ErrorMessage> handleRuntimeJsonMappingException(RuntimeJsonMappingException ex) {
+        log.warn("Malformed NDJSON request: {}", ex.getMessage());
+        return buildErrorResponse("Malformed NDJSON request", HttpStatus.BAD_REQUEST);
+    }
 
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorMessage> handleIllegalArgumentException(IllegalArgumentException ex) {
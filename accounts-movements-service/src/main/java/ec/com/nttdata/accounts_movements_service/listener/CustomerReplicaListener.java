@@ -0,0 +1,74 @@
+package ec.com.nttdata.accounts_movements_service.listener;
+
+import static ec.com.nttdata.accounts_movements_service.producer.topics.Topic.TOPIC_CUSTOMER_EVENT;
+
+import ec.com.nttdata.accounts_movements_service.client.dto.CustomerDto;
+import ec.com.nttdata.accounts_movements_service.config.kafka.KafkaMessage;
+import ec.com.nttdata.accounts_movements_service.service.CustomerLookupService;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mantiene la réplica local de clientes a partir del topic compactado {@code customers}.
+ *
+ * <p>La réplica vive en la base de la instancia, así que cada instancia usa su propio grupo y, la primera vez que
+ * recibe una partición, la lee desde el inicio; por la compactación eso es un registro por cliente.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerReplicaListener implements ConsumerSeekAware {
+
+    private final CustomerLookupService customerLookupService;
+    private final Set<TopicPartition> seeded = ConcurrentHashMap.newKeySet();
+
+    @KafkaListener(
+            id = "customer-replica",
+            topics = TOPIC_CUSTOMER_EVENT,
+            groupId = "${app.customer-replica.group-id:${spring.kafka.consumer.group-id:account_service}-customers}",
+            containerFactory = "config.kafka.customerReplicaConsumerFactory"
+    )
+    public void kafkaConsumer(ConsumerRecord<String, KafkaMessage<CustomerDto>> record) {
+        Long customerId = customerIdOf(record);
+        if (customerId == null) {
+            return;
+        }
+        KafkaMessage<CustomerDto> message = record.value();
+        if (message == null || message.getData() == null) {
+            customerLookupService.remove(customerId);
+            log.debug("Customer {} removed from replica", customerId);
+            return;
+        }
+        customerLookupService.upsert(message.getData());
+    }
+
+    // La clave es el id del cliente; sin ella no se sabe qué entrada tocar y el registro se descarta
+    private static Long customerIdOf(ConsumerRecord<String, ?> record) {
+        try {
+            return Long.valueOf(record.key());
+        } catch (NumberFormatException e) {
+            log.warn("Skipping customer record with invalid key '{}' at {}-{}@{}", record.key(), record.topic(),
+                    record.partition(), record.offset());
+            return null;
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        List<TopicPartition> fresh = assignments.keySet().stream()
+                .filter(seeded::add)
+                .toList();
+        if (!fresh.isEmpty()) {
+            callback.seekToBeginning(fresh);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package ec.com.nttdata.accounts_movements_service.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Copia local de los datos de cliente que usa este servicio, construida desde el topic compactado {@code customers}.
+ * El id es el mismo de customer-service.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "customer_replicas")
+@EqualsAndHashCode(of = "id")
+public class CustomerReplica {
+
+    @Id
+    private Long id;
+    private String name;
+    private Boolean status;
+    private LocalDateTime updatedAt;
+
+    @PrePersist()
+    @PreUpdate()
+    void touch() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -1,37 +1,147 @@
 package ec.com.nttdata.accounts_movements_service.producer;
 
 
+import ec.com.nttdata.accounts_movements_service.config.kafka.KafkaEventHeaders;
 import ec.com.nttdata.accounts_movements_service.config.kafka.KafkaMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
+/**
+ * Envía mensajes a Kafka sin bloquear al llamador.
+ *
+ * <p>Cada envío usa su propio {@link KafkaMessage}, con el tipo ({@code action}) y la versión del evento también en
+ * las cabeceras {@link KafkaEventHeaders}. Como máximo {@code max-in-flight} envíos pueden estar pendientes
+ * de confirmación: cuando la ventana está llena el llamador espera hasta {@code acquire-timeout} (backpressure) y,
+ * si no se libera espacio, el envío falla con {@link RejectedExecutionException}. La llamada a
+ * {@link KafkaTemplate#send} corre en un hilo propio para que la espera de metadatos del productor no ocupe hilos
+ * de la aplicación ni del ForkJoin común; al ser un único hilo, los mensajes se entregan al productor en el mismo
+ * orden en que se despachan, lo que conserva el orden por clave.</p>
+ */
 @Component("KafkaDispatcher.v1")
-public class KafkaDispatcher extends KafkaMessage {
+public class KafkaDispatcher implements DisposableBean {
 
-    private final KafkaTemplate<String, KafkaMessage> producer;
     private static final Logger log = LoggerFactory.getLogger(KafkaDispatcher.class);
+    private static final String SEND_METRIC = "kafka.dispatcher.send";
+    private static final String FAILURES_METRIC = "kafka.dispatcher.send.failures";
+    private static final String IN_FLIGHT_METRIC = "kafka.dispatcher.in.flight";
+    public static final int DEFAULT_EVENT_VERSION = 1;
 
-    public KafkaDispatcher(KafkaTemplate<String, KafkaMessage> producer) {
+    private final KafkaTemplate<String, KafkaMessage<?>> producer;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor executor;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+    private final Duration acquireTimeout;
+
+    public KafkaDispatcher(KafkaTemplate<String, KafkaMessage<?>> producer,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.kafka.dispatcher.max-in-flight:1000}") int maxInFlight,
+                           @Value("${app.kafka.dispatcher.acquire-timeout:5s}") Duration acquireTimeout) {
         this.producer = producer;
+        this.meterRegistry = meterRegistry;
+        this.maxInFlight = maxInFlight;
+        this.acquireTimeout = acquireTimeout;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(1);
+        this.executor.setMaxPoolSize(1);
+        this.executor.setThreadNamePrefix("kafka-dispatcher-");
+        this.executor.setWaitForTasksToCompleteOnShutdown(true);
+        this.executor.setAwaitTerminationSeconds(10);
+        this.executor.initialize();
+        Gauge.builder(IN_FLIGHT_METRIC, inFlight, permits -> maxInFlight - permits.availablePermits())
+                .description("Kafka sends waiting for broker acknowledgement")
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<SendResult<String, KafkaMessage<?>>> sendMessage(Object data, String topic,
+                                                                              String action) {
+        return this.sendMessage(null, data, topic, action);
     }
 
-    public void sendMessage(Object data, String topic, String action) {
-        KafkaMessage message = buildMessage(data, action);
+    public CompletableFuture<SendResult<String, KafkaMessage<?>>> sendMessage(String key, Object data, String topic,
+                                                                              String action) {
+        return this.sendMessage(key, data, topic, action, DEFAULT_EVENT_VERSION);
+    }
+
+    public CompletableFuture<SendResult<String, KafkaMessage<?>>> sendMessage(String key, Object data, String topic,
+                                                                              String action, int version) {
+        ProducerRecord<String, KafkaMessage<?>> message = new ProducerRecord<>(topic, null, key,
+                new KafkaMessage<>(action, version, data), KafkaEventHeaders.of(action, version));
+        if (!this.acquire()) {
+            String error = String.format("Kafka dispatcher saturated: %d sends in flight for more than %d ms",
+                    maxInFlight, acquireTimeout.toMillis());
+            log.warn("{} (topic {})", error, topic);
+            this.failures(topic).increment();
+            return CompletableFuture.failedFuture(new RejectedExecutionException(error));
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<SendResult<String, KafkaMessage<?>>> result;
         try {
+            result = CompletableFuture.supplyAsync(() -> producer.send(message), executor)
+                    .thenCompose(Function.identity());
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            this.failures(topic).increment();
+            return CompletableFuture.failedFuture(e);
+        }
+        return result.whenComplete((sendResult, ex) -> {
+            inFlight.release();
+            this.sendTimer(topic, ex == null ? "success" : "failure")
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (ex != null) {
+                this.failures(topic).increment();
+                log.error("Failed to send Kafka message to topic {}", topic, ex);
+            } else {
+                log.trace("{}", sendResult);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
 
-            Thread.sleep(5000); // esperar para evitar LEADER_NOT_AVAILABLE
-            String response = producer.send(topic, message).get().toString();
-            log.trace(response);
-        } catch (Exception e) {
-            log.error("Failed to send Kafka message", e);
+    private boolean acquire() {
+        try {
+            return inFlight.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
     }
 
-    private KafkaMessage buildMessage(Object data, String action) {
-        this.setData(data);
-        this.setAction(action);
-        return this;
+    private Timer sendTimer(String topic, String outcome) {
+        return Timer.builder(SEND_METRIC)
+                .description("Latency from dispatch until the broker acknowledges the record")
+                .tag("topic", topic)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Counter failures(String topic) {
+        return Counter.builder(FAILURES_METRIC)
+                .description("Kafka sends that failed or were rejected by the in-flight window")
+                .tag("topic", topic)
+                .register(meterRegistry);
     }
-}
\ No newline at end of file
+}
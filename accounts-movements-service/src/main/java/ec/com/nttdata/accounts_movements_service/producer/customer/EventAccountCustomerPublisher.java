@@ -2,21 +2,45 @@ package ec.com.nttdata.accounts_movements_service.producer.customer;
 
 import static ec.com.nttdata.accounts_movements_service.producer.topics.Topic.TOPIC_MOVEMENT_EVENT;
 
-import ec.com.nttdata.accounts_movements_service.producer.KafkaDispatcher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ec.com.nttdata.accounts_movements_service.model.OutboxEvent;
 import ec.com.nttdata.accounts_movements_service.producer.customer.dto.MovementCustomerRequest;
+import ec.com.nttdata.accounts_movements_service.repository.OutboxEventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class EventAccountCustomerPublisher {
-    private final KafkaDispatcher kafkaDispatcher;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
 
-    public void sendTransactionEvent(MovementCustomerRequest dto) {
-        log.info("** Enviando kafka message ** {}", dto.toString());
-        kafkaDispatcher.sendMessage(dto, TOPIC_MOVEMENT_EVENT, "create");
+    /**
+     * Registra el evento en el outbox dentro de la transacción del movimiento; el envío a Kafka lo hace
+     * {@link ec.com.nttdata.accounts_movements_service.producer.outbox.MovementOutboxRelay} después del commit.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sendTransactionEvent(Long accountId, MovementCustomerRequest dto) {
+        log.info("** Registrando kafka message en outbox ** {}", dto.toString());
+        outboxEventRepository.save(OutboxEvent.builder()
+                .accountId(accountId)
+                .topic(TOPIC_MOVEMENT_EVENT)
+                .action("create")
+                .payload(this.writePayload(dto))
+                .build());
     }
-}
\ No newline at end of file
+
+    private String writePayload(MovementCustomerRequest dto) {
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize movement event", e);
+        }
+    }
+}
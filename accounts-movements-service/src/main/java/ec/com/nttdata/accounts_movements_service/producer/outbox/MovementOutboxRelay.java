@@ -0,0 +1,182 @@
+package ec.com.nttdata.accounts_movements_service.producer.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import ec.com.nttdata.accounts_movements_service.enums.OutboxStatusEnum;
+import ec.com.nttdata.accounts_movements_service.model.OutboxEvent;
+import ec.com.nttdata.accounts_movements_service.producer.KafkaDispatcher;
+import ec.com.nttdata.accounts_movements_service.repository.OutboxEventRepository;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publica en Kafka los eventos del outbox.
+ *
+ * <p>Lee lotes de eventos {@code PENDING} en orden de {@code id} y los despacha con el id de cuenta como clave. Los
+ * eventos de una misma cuenta salen de a uno: el siguiente se envía solo cuando Kafka confirmó el anterior, y el
+ * primer fallo detiene la cuenta hasta la siguiente pasada, de modo que ningún evento posterior llega antes que uno
+ * pendiente (entrega al menos una vez, en orden por cuenta). Las cuentas distintas avanzan juntas, un evento por
+ * cuenta en cada ronda. Un evento que nunca podrá publicarse (payload ilegible o no serializable) se marca
+ * {@code DEAD} con el motivo y la cuenta sigue con el siguiente. Solo se eliminan los eventos confirmados. Se asume
+ * un único relay activo por base de datos.</p>
+ */
+@Slf4j
+@Component
+public class MovementOutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository repository;
+    private final KafkaDispatcher kafkaDispatcher;
+    private final ObjectReader payloadReader;
+    private final int batchSize;
+    private final Duration sendTimeout;
+
+    public MovementOutboxRelay(OutboxEventRepository repository,
+                               KafkaDispatcher kafkaDispatcher,
+                               ObjectMapper objectMapper,
+                               @Value("${app.outbox.relay.batch-size:500}") int batchSize,
+                               @Value("${app.outbox.relay.send-timeout:30s}") Duration sendTimeout) {
+        this.repository = repository;
+        this.kafkaDispatcher = kafkaDispatcher;
+        // Conserva la escala de los montos (25.50), igual que al serializar el DTO original
+        this.payloadReader = objectMapper.reader().without(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES);
+        this.batchSize = Math.max(1, batchSize);
+        this.sendTimeout = sendTimeout;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.fixed-delay-ms:200}")
+    public void relay() {
+        int relayed;
+        do {
+            relayed = this.relayBatch();
+        } while (relayed == batchSize);
+    }
+
+    int relayBatch() {
+        List<OutboxEvent> batch = repository.findByStatusOrderByIdAsc(OutboxStatusEnum.PENDING,
+                PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Deque<OutboxEvent>> pendingByAccount = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            pendingByAccount.computeIfAbsent(event.getAccountId(), accountId -> new ArrayDeque<>()).add(event);
+        }
+
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        Set<Long> failedAccounts = new LinkedHashSet<>();
+        while (!pendingByAccount.isEmpty()) {
+            // Una ronda: el evento más antiguo que le queda a cada cuenta
+            Map<OutboxEvent, CompletableFuture<?>> round = new LinkedHashMap<>();
+            for (Deque<OutboxEvent> pending : pendingByAccount.values()) {
+                OutboxEvent event = pending.peek();
+                round.put(event, this.send(event));
+            }
+            this.awaitAll(round.values());
+
+            round.forEach((event, send) -> {
+                Deque<OutboxEvent> pending = pendingByAccount.get(event.getAccountId());
+                Throwable failure = failureOf(send);
+                if (failure == null) {
+                    sentIds.add(event.getId());
+                } else if (isPoison(failure)) {
+                    this.deadLetter(event, failure);
+                } else {
+                    failedAccounts.add(event.getAccountId());
+                    pendingByAccount.remove(event.getAccountId());
+                    return;
+                }
+                pending.poll();
+                if (pending.isEmpty()) {
+                    pendingByAccount.remove(event.getAccountId());
+                }
+            });
+        }
+
+        if (!sentIds.isEmpty()) {
+            repository.deleteAllByIdInBatch(sentIds);
+        }
+        if (!failedAccounts.isEmpty()) {
+            log.warn("Outbox relay could not publish events for accounts {}; retrying on next run", failedAccounts);
+            return 0;
+        }
+        log.debug("Outbox relay published {} events", sentIds.size());
+        return batch.size();
+    }
+
+    private CompletableFuture<?> send(OutboxEvent event) {
+        try {
+            return kafkaDispatcher.sendMessage(String.valueOf(event.getAccountId()),
+                    payloadReader.readTree(event.getPayload()), event.getTopic(), event.getAction());
+        } catch (JsonProcessingException | RuntimeException e) {
+            // El error se trata igual que un envío rechazado por Kafka
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void deadLetter(OutboxEvent event, Throwable failure) {
+        log.error("Outbox event {} of account {} can never be published; marking it {}", event.getId(),
+                event.getAccountId(), OutboxStatusEnum.DEAD, failure);
+        String error = String.valueOf(failure);
+        repository.markDead(event.getId(), error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH) : error);
+    }
+
+    // null si el envío se confirmó; un envío que no terminó a tiempo cuenta como fallido
+    private static Throwable failureOf(CompletableFuture<?> send) {
+        if (!send.isDone()) {
+            return new TimeoutException("Send not acknowledged in time");
+        }
+        try {
+            send.join();
+            return null;
+        } catch (CompletionException e) {
+            return e.getCause() != null ? e.getCause() : e;
+        }
+    }
+
+    // Reintentar no cambia el resultado: el payload o su serialización son inválidos
+    private static boolean isPoison(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof JsonProcessingException || cause instanceof SerializationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void awaitAll(Collection<CompletableFuture<?>> sends) {
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // Los envíos fallidos o pendientes se evalúan uno a uno
+            log.debug("Outbox round completed with errors: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -2,4 +2,6 @@ package ec.com.nttdata.accounts_movements_service.producer.topics;
 
 public interface Topic {
     String TOPIC_MOVEMENT_EVENT = "movements";
-}
\ No newline at end of file
+    // Topic compactado publicado por customer-service; alimenta la réplica local de clientes
+    String TOPIC_CUSTOMER_EVENT = "customers";
+}
@@ -1,16 +1,24 @@
 package ec.com.nttdata.accounts_movements_service.repository;
 
 import ec.com.nttdata.accounts_movements_service.model.Account;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
+    // Keyset por id (clave primaria): el costo no depende de cuántas filas quedan antes del cursor
+    List<Account> findAllByOrderByIdAsc(Pageable pageable);
+
+    List<Account> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
     @Query(value = "select a from Account a join fetch a.movements m " +
             "where (:customerId is null or a.customerId = :customerId) " +
             "and m.date between :startDate and :endDate")
@@ -20,4 +28,32 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate
     );
+
+    /**
+     * Aplica un crédito (delta positivo) o débito (delta negativo) sobre el saldo actual en una sola sentencia.
+     * La fila solo se actualiza si el saldo resultante no queda negativo; devuelve 0 si la cuenta no existe o no
+     * tiene fondos suficientes. El contexto de persistencia se vacía después del UPDATE para que la lectura
+     * siguiente traiga el saldo recién escrito y no una instancia {@link Account} previa.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Account a set a.actualBalance = a.actualBalance + :delta, a.updatedAt = :updatedAt, " +
+            "a.version = a.version + 1 where a.id = :accountId and a.actualBalance + :delta >= 0")
+    int applyBalanceDelta(
+            @Param("accountId") Long accountId,
+            @Param("delta") BigDecimal delta,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    /**
+     * Sobrescribe el saldo solo si la cuenta sigue en la versión leída (o sin control de versión si es nula).
+     */
+    @Modifying
+    @Query("update Account a set a.actualBalance = :balance, a.updatedAt = :updatedAt, a.version = a.version + 1 " +
+            "where a.id = :accountId and (:version is null or a.version = :version)")
+    int updateActualBalance(
+            @Param("accountId") Long accountId,
+            @Param("balance") BigDecimal balance,
+            @Param("version") Long version,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
 }
@@ -0,0 +1,9 @@
+package ec.com.nttdata.accounts_movements_service.repository;
+
+import ec.com.nttdata.accounts_movements_service.model.CustomerReplica;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CustomerReplicaRepository extends JpaRepository<CustomerReplica, Long> {
+}
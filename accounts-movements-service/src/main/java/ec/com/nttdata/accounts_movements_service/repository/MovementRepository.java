@@ -1,9 +1,25 @@
 package ec.com.nttdata.accounts_movements_service.repository;
 
 import ec.com.nttdata.accounts_movements_service.model.Movement;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface MovementRepository extends JpaRepository<Movement, Long> {
+
+    List<Movement> findAllByOrderByDateAscIdAsc(Pageable pageable);
+
+    /**
+     * Movimientos posteriores a (date, id) en orden cronológico; el id desempata movimientos con la misma fecha.
+     * Se resuelve con el índice "ix_movements_date_id" sin recorrer las filas anteriores.
+     */
+    @Query("select m from Movement m " +
+            "where m.date > :date or (m.date = :date and m.id > :id) " +
+            "order by m.date asc, m.id asc")
+    List<Movement> findAfter(@Param("date") LocalDateTime date, @Param("id") Long id, Pageable pageable);
 }
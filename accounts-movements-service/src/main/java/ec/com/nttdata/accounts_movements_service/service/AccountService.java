@@ -2,8 +2,12 @@ package ec.com.nttdata.accounts_movements_service.service;
 
 import ec.com.nttdata.accounts_movements_service.dto.account.request.AccountRequest;
 import ec.com.nttdata.accounts_movements_service.dto.account.response.AccountResponse;
+import ec.com.nttdata.accounts_movements_service.dto.page.CursorPage;
 import ec.com.nttdata.accounts_movements_service.event_handler.dto.AccountBalanceDto;
 import ec.com.nttdata.accounts_movements_service.model.Account;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -18,8 +22,17 @@ public interface AccountService {
 
     Page<AccountResponse> index(Pageable pageable);
 
+    /**
+     * Listado por cursor ordenado por id, sin consulta de conteo; {@code cursor} vacío pide la primera página.
+     */
+    CursorPage<AccountResponse> scroll(String cursor, int size);
+
     Account showById(Long id);
 
+    List<Account> showByIds(Collection<Long> ids);
+
     void updateAccountBalance(AccountBalanceDto accountBalanceDto);
 
+    Account applyBalanceDelta(Long accountId, BigDecimal delta);
+
 }
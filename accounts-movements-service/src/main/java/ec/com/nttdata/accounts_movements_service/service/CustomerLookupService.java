@@ -0,0 +1,15 @@
+package ec.com.nttdata.accounts_movements_service.service;
+
+import ec.com.nttdata.accounts_movements_service.client.dto.CustomerDto;
+import java.util.Set;
+
+public interface CustomerLookupService {
+
+    CustomerDto show(Long id);
+
+    Set<CustomerDto> showByIds(Set<Long> ids);
+
+    void upsert(CustomerDto customer);
+
+    void remove(Long id);
+}
@@ -0,0 +1,19 @@
+package ec.com.nttdata.accounts_movements_service.service;
+
+import ec.com.nttdata.accounts_movements_service.dto.movement.request.MovementRequest;
+import ec.com.nttdata.accounts_movements_service.dto.movement.response.MovementBatchItemResponse;
+import ec.com.nttdata.accounts_movements_service.dto.movement.response.MovementBatchResponse;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface MovementBatchService {
+    MovementBatchResponse createBatch(Iterator<MovementRequest> requests);
+
+    /**
+     * Entrega los resultados de cada bloque a {@code chunkResults} apenas se confirma y devuelve solo los totales,
+     * sin ítems, de modo que la memoria no crece con el tamaño del lote.
+     */
+    MovementBatchResponse createBatch(Iterator<MovementRequest> requests,
+                                      Consumer<List<MovementBatchItemResponse>> chunkResults);
+}
@@ -2,12 +2,19 @@ package ec.com.nttdata.accounts_movements_service.service;
 
 import ec.com.nttdata.accounts_movements_service.dto.movement.request.MovementRequest;
 import ec.com.nttdata.accounts_movements_service.dto.movement.response.MovementResponse;
+import ec.com.nttdata.accounts_movements_service.dto.page.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface MovementService {
     Page<MovementResponse> index(Pageable pageable);
 
+    /**
+     * Listado por cursor ordenado por fecha e id, sin consulta de conteo; {@code cursor} vacío pide la primera
+     * página.
+     */
+    CursorPage<MovementResponse> scroll(String cursor, int size);
+
     MovementResponse show(Long id);
 
     MovementResponse create(MovementRequest request);
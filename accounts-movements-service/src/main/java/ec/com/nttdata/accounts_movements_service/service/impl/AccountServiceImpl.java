@@ -1,25 +1,32 @@
 package ec.com.nttdata.accounts_movements_service.service.impl;
 
-import ec.com.nttdata.accounts_movements_service.client.CustomerClient;
 import ec.com.nttdata.accounts_movements_service.dto.account.request.AccountRequest;
 import ec.com.nttdata.accounts_movements_service.dto.account.response.AccountResponse;
+import ec.com.nttdata.accounts_movements_service.dto.page.CursorPage;
+import ec.com.nttdata.accounts_movements_service.dto.page.PageCursor;
 import ec.com.nttdata.accounts_movements_service.enums.MovementTypeEnum;
 import ec.com.nttdata.accounts_movements_service.event_handler.dto.AccountBalanceDto;
 import ec.com.nttdata.accounts_movements_service.event_handler.dto.MovementDto;
 import ec.com.nttdata.accounts_movements_service.exception.AccountNotFoundException;
 import ec.com.nttdata.accounts_movements_service.exception.CustomerNotFoundException;
+import ec.com.nttdata.accounts_movements_service.exception.InsufficientFoundsException;
 import ec.com.nttdata.accounts_movements_service.mapper.AccountMapper;
 import ec.com.nttdata.accounts_movements_service.model.Account;
 import ec.com.nttdata.accounts_movements_service.repository.AccountRepository;
 import ec.com.nttdata.accounts_movements_service.service.AccountService;
+import ec.com.nttdata.accounts_movements_service.service.CustomerLookupService;
 import feign.FeignException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,10 +38,11 @@ public class AccountServiceImpl implements AccountService {
 
     private static final String ACCOUNT_NOT_FOUND_MESSAGE = "Account with ID %d does not exist";
     private static final String CUSTOMER_NOT_FOUND_MESSAGE = "Customer with ID %d does not exist";
+    private static final String INSUFFICIENT_FUNDS_MESSAGE = "Fondos insuficientes";
 
     private final AccountRepository repository;
     private final AccountMapper mapper;
-    private final CustomerClient customerClient;
+    private final CustomerLookupService customerLookupService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     @Override
@@ -106,24 +114,57 @@ public class AccountServiceImpl implements AccountService {
         return repository.findAll(pageable).map(mapper::toResponse);
     }
 
+    @Override
+    public CursorPage<AccountResponse> scroll(String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        List<Account> rows = after == null
+                ? repository.findAllByOrderByIdAsc(limit)
+                : repository.findByIdGreaterThanOrderByIdAsc(after.id(), limit);
+        return PageCursor.slice(rows, size, mapper::toResponse, account -> PageCursor.of(account.getId()));
+    }
+
     @Override
     public Account showById(Long id) {
         return findAccountById(id);
     }
 
+    @Override
+    public List<Account> showByIds(Collection<Long> ids) {
+        return repository.findAllById(ids);
+    }
+
     @Override
     @Transactional
     public void updateAccountBalance(AccountBalanceDto accountBalanceDto) {
         log.info("Updating balance for account ID: {} to amount: {}",
                 accountBalanceDto.getAccountId(), accountBalanceDto.getBalance());
 
-        Account account = findAccountById(accountBalanceDto.getAccountId());
-        account.setActualBalance(accountBalanceDto.getBalance());
-
-        repository.save(account);
+        Long accountId = accountBalanceDto.getAccountId();
+        int updated = repository.updateActualBalance(
+                accountId, accountBalanceDto.getBalance(), accountBalanceDto.getVersion(), LocalDateTime.now());
+        if (updated == 0) {
+            if (!repository.existsById(accountId)) {
+                log.warn("Account not found with ID: {}", accountId);
+                throw new AccountNotFoundException(String.format(ACCOUNT_NOT_FOUND_MESSAGE, accountId));
+            }
+            log.warn("Version conflict updating balance for account ID: {} (expected version {})",
+                    accountId, accountBalanceDto.getVersion());
+            throw new ObjectOptimisticLockingFailureException(Account.class, accountId);
+        }
         log.info("Account balance updated successfully for account ID: {}", accountBalanceDto.getAccountId());
     }
 
+    @Override
+    @Transactional
+    public Account applyBalanceDelta(Long accountId, BigDecimal delta) {
+        log.debug("Applying balance delta {} to account ID: {}", delta, accountId);
+        if (repository.applyBalanceDelta(accountId, delta, LocalDateTime.now()) == 0) {
+            throw rejectBalanceDelta(accountId, delta);
+        }
+        return findAccountById(accountId);
+    }
+
 
     // Private helper methods
     private Account findAccountById(Long id) {
@@ -134,9 +175,19 @@ public class AccountServiceImpl implements AccountService {
                 });
     }
 
+    private RuntimeException rejectBalanceDelta(Long accountId, BigDecimal delta) {
+        // Solo en el camino de error se consulta si la cuenta existe
+        if (!repository.existsById(accountId)) {
+            log.warn("Account not found with ID: {}", accountId);
+            return new AccountNotFoundException(String.format(ACCOUNT_NOT_FOUND_MESSAGE, accountId));
+        }
+        log.warn("Insufficient funds for account ID: {} and delta: {}", accountId, delta);
+        return new InsufficientFoundsException(INSUFFICIENT_FUNDS_MESSAGE);
+    }
+
     private void validateCustomerExists(Long customerId) {
         try {
-            customerClient.show(customerId);
+            customerLookupService.show(customerId);
             log.debug("Customer validation successful for ID: {}", customerId);
         } catch (CustomerNotFoundException | FeignException.NotFound e) {
             log.error("Customer not found with ID: {}", customerId);
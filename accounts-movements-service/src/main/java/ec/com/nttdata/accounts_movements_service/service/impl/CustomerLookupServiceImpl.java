@@ -0,0 +1,77 @@
+package ec.com.nttdata.accounts_movements_service.service.impl;
+
+import ec.com.nttdata.accounts_movements_service.client.CachedCustomerClient;
+import ec.com.nttdata.accounts_movements_service.client.dto.CustomerDto;
+import ec.com.nttdata.accounts_movements_service.model.CustomerReplica;
+import ec.com.nttdata.accounts_movements_service.repository.CustomerReplicaRepository;
+import ec.com.nttdata.accounts_movements_service.service.CustomerLookupService;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Resuelve clientes desde la réplica local y solo recurre a customer-service (Feign, a través de su caché en memoria)
+ * para los ids que aún no están replicados. Las respuestas de Feign no se escriben en la réplica: su única fuente es
+ * el topic de clientes, así un evento más reciente nunca queda pisado por una lectura remota anterior. Cada evento
+ * aplicado invalida la entrada cacheada del cliente.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CustomerLookupServiceImpl implements CustomerLookupService {
+
+    private final CustomerReplicaRepository replicaRepository;
+    private final CachedCustomerClient customerClient;
+
+    @Override
+    public CustomerDto show(Long id) {
+        return replicaRepository.findById(id)
+                .map(CustomerLookupServiceImpl::toDto)
+                .orElseGet(() -> {
+                    log.debug("Customer {} not replicated yet, falling back to customer-service", id);
+                    return customerClient.show(id);
+                });
+    }
+
+    @Override
+    public Set<CustomerDto> showByIds(Set<Long> ids) {
+        Set<CustomerDto> customers = new HashSet<>();
+        Set<Long> missing = new HashSet<>(ids);
+        for (CustomerReplica replica : replicaRepository.findAllById(ids)) {
+            customers.add(toDto(replica));
+            missing.remove(replica.getId());
+        }
+        if (!missing.isEmpty()) {
+            log.debug("{} of {} customers not replicated yet, falling back to customer-service",
+                    missing.size(), ids.size());
+            customers.addAll(customerClient.showByIds(missing));
+        }
+        return customers;
+    }
+
+    @Override
+    @Transactional
+    public void upsert(CustomerDto customer) {
+        replicaRepository.save(CustomerReplica.builder()
+                .id(customer.getId())
+                .name(customer.getName())
+                .status(customer.getStatus())
+                .build());
+        customerClient.evict(customer.getId());
+    }
+
+    @Override
+    @Transactional
+    public void remove(Long id) {
+        replicaRepository.deleteById(id);
+        customerClient.evict(id);
+    }
+
+    private static CustomerDto toDto(CustomerReplica replica) {
+        return new CustomerDto(replica.getId(), replica.getName(), replica.getStatus());
+    }
+}
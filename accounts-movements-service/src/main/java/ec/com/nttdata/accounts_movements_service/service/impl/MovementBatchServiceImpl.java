@@ -0,0 +1,236 @@
+package ec.com.nttdata.accounts_movements_service.service.impl;
+
+import static ec.com.nttdata.accounts_movements_service.config.MovementPostingRetryConfig.MOVEMENT_POSTING_RETRY;
+
+import ec.com.nttdata.accounts_movements_service.dto.movement.request.MovementRequest;
+import ec.com.nttdata.accounts_movements_service.dto.movement.response.MovementBatchItemResponse;
+import ec.com.nttdata.accounts_movements_service.dto.movement.response.MovementBatchResponse;
+import ec.com.nttdata.accounts_movements_service.dto.retentions.OnCreate;
+import ec.com.nttdata.accounts_movements_service.enums.MovementBatchStatusEnum;
+import ec.com.nttdata.accounts_movements_service.enums.MovementTypeEnum;
+import ec.com.nttdata.accounts_movements_service.mapper.MovementMapper;
+import ec.com.nttdata.accounts_movements_service.model.Account;
+import ec.com.nttdata.accounts_movements_service.model.Movement;
+import ec.com.nttdata.accounts_movements_service.producer.customer.EventAccountCustomerPublisher;
+import ec.com.nttdata.accounts_movements_service.producer.customer.dto.MovementCustomerRequest;
+import ec.com.nttdata.accounts_movements_service.repository.MovementRepository;
+import ec.com.nttdata.accounts_movements_service.service.AccountService;
+import ec.com.nttdata.accounts_movements_service.service.MovementBatchService;
+import ec.com.nttdata.accounts_movements_service.service.ledger.AccountLedger;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Contabiliza lotes de movimientos por bloques (chunks).
+ *
+ * <p>Cada bloque se ejecuta en una sola transacción: las cuentas se leen una vez, los movimientos se agrupan por
+ * cuenta y se aplican en memoria en el orden de llegada, de modo que cada cuenta recibe una única escritura de saldo
+ * por bloque y los movimientos se insertan con {@code saveAll}. Los errores de un ítem no invalidan el resto del
+ * lote; cada ítem devuelve su propio resultado.</p>
+ */
+@Slf4j
+@Service
+public class MovementBatchServiceImpl implements MovementBatchService {
+
+    private static final String ACCOUNT_NOT_FOUND_MESSAGE = "Account with ID %d does not exist";
+    private static final String INSUFFICIENT_FUNDS_MESSAGE = "Fondos insuficientes";
+    private static final String NEGATIVE_AMOUNT_MESSAGE = "El monto del %s no puede ser negativo: %s";
+
+    private final MovementRepository repository;
+    private final MovementMapper mapper;
+    private final AccountService accountService;
+    private final EventAccountCustomerPublisher eventAccountCustomerPublisher;
+    private final AccountLedger accountLedger;
+    private final Validator validator;
+    private final Retry retry;
+    private final int chunkSize;
+
+    public MovementBatchServiceImpl(MovementRepository repository,
+                                    MovementMapper mapper,
+                                    AccountService accountService,
+                                    EventAccountCustomerPublisher eventAccountCustomerPublisher,
+                                    AccountLedger accountLedger,
+                                    Validator validator,
+                                    RetryRegistry retryRegistry,
+                                    @Value("${app.movements.batch.chunk-size:500}") int chunkSize) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.accountService = accountService;
+        this.eventAccountCustomerPublisher = eventAccountCustomerPublisher;
+        this.accountLedger = accountLedger;
+        this.validator = validator;
+        this.retry = retryRegistry.retry(MOVEMENT_POSTING_RETRY);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public MovementBatchResponse createBatch(Iterator<MovementRequest> requests) {
+        List<MovementBatchItemResponse> items = new ArrayList<>();
+        MovementBatchResponse response = this.createBatch(requests, items::addAll);
+        response.setItems(items);
+        return response;
+    }
+
+    @Override
+    public MovementBatchResponse createBatch(Iterator<MovementRequest> requests,
+                                             Consumer<List<MovementBatchItemResponse>> chunkResults) {
+        int total = 0;
+        int posted = 0;
+        List<MovementRequest> chunk = new ArrayList<>(chunkSize);
+        while (requests.hasNext()) {
+            chunk.add(requests.next());
+            if (chunk.size() == chunkSize || !requests.hasNext()) {
+                List<MovementBatchItemResponse> results = this.postChunk(total, chunk);
+                posted += (int) results.stream()
+                        .filter(item -> item.getStatus() == MovementBatchStatusEnum.POSTED)
+                        .count();
+                total += chunk.size();
+                chunkResults.accept(results);
+                chunk.clear();
+            }
+        }
+        return MovementBatchResponse.builder()
+                .total(total)
+                .posted(posted)
+                .rejected(total - posted)
+                .build();
+    }
+
+    List<MovementBatchItemResponse> postChunk(int offset, List<MovementRequest> chunk) {
+        MovementBatchItemResponse[] results = new MovementBatchItemResponse[chunk.size()];
+        Map<Long, List<Integer>> positionsByAccount = new LinkedHashMap<>();
+        for (int position = 0; position < chunk.size(); position++) {
+            MovementRequest request = chunk.get(position);
+            String error = this.validate(request);
+            if (error != null) {
+                results[position] = this.rejected(offset + position, request, error);
+            } else {
+                positionsByAccount.computeIfAbsent(request.getAccountId(), id -> new ArrayList<>()).add(position);
+            }
+        }
+
+        if (!positionsByAccount.isEmpty()) {
+            try {
+                retry.executeSupplier(() -> accountLedger.post(positionsByAccount.keySet(),
+                        () -> this.applyChunk(offset, chunk, positionsByAccount, results)));
+            } catch (RuntimeException e) {
+                log.warn("Movement batch chunk starting at {} could not be posted: {}", offset, e.getMessage());
+                positionsByAccount.values().stream()
+                        .flatMap(List::stream)
+                        .forEach(position -> results[position] =
+                                this.rejected(offset + position, chunk.get(position), e.getMessage()));
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    List<Movement> applyChunk(int offset, List<MovementRequest> chunk, Map<Long, List<Integer>> positionsByAccount,
+                              MovementBatchItemResponse[] results) {
+        Map<Long, Account> accounts = accountService.showByIds(positionsByAccount.keySet()).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+        List<Movement> movements = new ArrayList<>();
+        List<Integer> postedPositions = new ArrayList<>();
+
+        for (Map.Entry<Long, List<Integer>> entry : positionsByAccount.entrySet()) {
+            Account account = accounts.get(entry.getKey());
+            if (account == null) {
+                String message = String.format(ACCOUNT_NOT_FOUND_MESSAGE, entry.getKey());
+                entry.getValue().forEach(position ->
+                        results[position] = this.rejected(offset + position, chunk.get(position), message));
+                continue;
+            }
+            BigDecimal balance = account.getActualBalance();
+            for (Integer position : entry.getValue()) {
+                MovementRequest request = chunk.get(position);
+                BigDecimal newBalance = balance.add(this.signedAmount(request));
+                if (newBalance.signum() == -1) {
+                    results[position] = this.rejected(offset + position, request, INSUFFICIENT_FUNDS_MESSAGE);
+                    continue;
+                }
+                balance = newBalance;
+                Movement movement = mapper.toModel(request);
+                movement.setAccount(account);
+                movement.setBalance(balance);
+                movements.add(movement);
+                postedPositions.add(position);
+            }
+            // Una sola escritura de saldo por cuenta y bloque (dirty checking al hacer commit)
+            if (balance.compareTo(account.getActualBalance()) != 0) {
+                account.setActualBalance(balance);
+            }
+        }
+
+        repository.saveAll(movements);
+        this.publishEvents(movements);
+        for (int i = 0; i < movements.size(); i++) {
+            int position = postedPositions.get(i);
+            results[position] = MovementBatchItemResponse.builder()
+                    .index(offset + position)
+                    .accountId(chunk.get(position).getAccountId())
+                    .status(MovementBatchStatusEnum.POSTED)
+                    .movement(mapper.toResponse(movements.get(i)))
+                    .build();
+        }
+        return movements;
+    }
+
+    String validate(MovementRequest request) {
+        if (request == null) {
+            return "movement cannot be null";
+        }
+        Set<ConstraintViolation<MovementRequest>> violations = validator.validate(request, OnCreate.class);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (request.getAmount().signum() == -1) {
+            return String.format(NEGATIVE_AMOUNT_MESSAGE, request.getMovementType().getDisplayName(),
+                    request.getAmount());
+        }
+        return null;
+    }
+
+    BigDecimal signedAmount(MovementRequest request) {
+        return request.getMovementType() == MovementTypeEnum.WITHDRAWAL
+                ? request.getAmount().negate()
+                : request.getAmount();
+    }
+
+    private MovementBatchItemResponse rejected(int index, MovementRequest request, String error) {
+        return MovementBatchItemResponse.builder()
+                .index(index)
+                .accountId(request != null ? request.getAccountId() : null)
+                .status(MovementBatchStatusEnum.REJECTED)
+                .error(error)
+                .build();
+    }
+
+    private void publishEvents(List<Movement> movements) {
+        // Los eventos van al outbox en la misma transacción del bloque
+        movements.forEach(movement -> eventAccountCustomerPublisher.sendTransactionEvent(
+                movement.getAccount().getId(),
+                MovementCustomerRequest.builder()
+                        .movementType(movement.getMovementType())
+                        .customerId(movement.getAccount().getCustomerId())
+                        .amount(movement.getAmount())
+                        .build()));
+    }
+}
@@ -1,11 +1,13 @@
 package ec.com.nttdata.accounts_movements_service.service.impl;
 
+import static ec.com.nttdata.accounts_movements_service.config.MovementPostingRetryConfig.MOVEMENT_POSTING_RETRY;
+
 import ec.com.nttdata.accounts_movements_service.dto.movement.request.MovementRequest;
 import ec.com.nttdata.accounts_movements_service.dto.movement.response.MovementResponse;
+import ec.com.nttdata.accounts_movements_service.dto.page.CursorPage;
+import ec.com.nttdata.accounts_movements_service.dto.page.PageCursor;
 import ec.com.nttdata.accounts_movements_service.enums.MovementTypeEnum;
-import ec.com.nttdata.accounts_movements_service.event_handler.dto.AccountBalanceDto;
 import ec.com.nttdata.accounts_movements_service.exception.BalanceTypeSigNumUnavailableException;
-import ec.com.nttdata.accounts_movements_service.exception.InsufficientFoundsException;
 import ec.com.nttdata.accounts_movements_service.exception.MovementNotFoundException;
 import ec.com.nttdata.accounts_movements_service.mapper.MovementMapper;
 import ec.com.nttdata.accounts_movements_service.model.Account;
@@ -15,13 +17,17 @@ import ec.com.nttdata.accounts_movements_service.producer.customer.dto.MovementC
 import ec.com.nttdata.accounts_movements_service.repository.MovementRepository;
 import ec.com.nttdata.accounts_movements_service.service.AccountService;
 import ec.com.nttdata.accounts_movements_service.service.MovementService;
-import jakarta.transaction.Transactional;
+import ec.com.nttdata.accounts_movements_service.service.ledger.AccountLedger;
+import io.github.resilience4j.retry.annotation.Retry;
 import java.math.BigDecimal;
-import java.util.concurrent.CompletableFuture;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -32,8 +38,8 @@ public class MovementServiceImpl implements MovementService {
     private final MovementRepository repository;
     private final MovementMapper mapper;
     private final AccountService accountService;
-    private final ApplicationEventPublisher applicationEventPublisher;
     private final EventAccountCustomerPublisher eventAccountCustomerPublisher;
+    private final AccountLedger accountLedger;
 
     @Override
     public MovementResponse show(Long id) {
@@ -43,38 +49,63 @@ public class MovementServiceImpl implements MovementService {
     }
 
     @Override
-    @Transactional
+    @Retry(name = MOVEMENT_POSTING_RETRY)
     public MovementResponse create(MovementRequest request) {
+        return accountLedger.post(request.getAccountId(), () -> this.post(request));
+    }
+
+    @Override
+    @Retry(name = MOVEMENT_POSTING_RETRY)
+    public MovementResponse update(Long id, MovementRequest request) {
+        // El movimiento puede cambiar de cuenta: se bloquean la franja de su cuenta actual y la del request
+        Long originalAccountId = this.accountIdOf(this.findMovement(id));
+        return accountLedger.post(Arrays.asList(originalAccountId, request.getAccountId()),
+                () -> this.repost(id, originalAccountId, request));
+    }
+
+    MovementResponse post(MovementRequest request) {
         this.validateTransactionType(request);
         Movement entity = mapper.toModel(request);
-        this.buildAccount(entity, request.getAccountId());
-        this.validateInsufficientFounds(entity.getAccount(), request);
-        this.buildTransactionType(request, entity);
-        repository.save(entity);
-        AccountBalanceDto accountBalanceDto =
-                this.buildAccountBalanceDto(entity.getAccount().getId(), entity.getBalance());
-        if (!request.isStart()) {
-            applicationEventPublisher.publishEvent(accountBalanceDto);
+        if (request.isStart()) {
+            this.buildAccount(entity, request.getAccountId());
+            this.buildTransactionType(request, entity);
+        } else {
+            // Validación de fondos y escritura del saldo en una sola sentencia
+            Account account = accountService.applyBalanceDelta(request.getAccountId(), this.signedAmount(request));
+            entity.setAccount(account);
+            entity.setBalance(account.getActualBalance());
         }
-        CompletableFuture.runAsync(
-                () -> eventAccountCustomerPublisher.sendTransactionEvent(this.buildTransactionCustomerDto(entity)));
+        repository.save(entity);
+        eventAccountCustomerPublisher.sendTransactionEvent(entity.getAccount().getId(),
+                this.buildTransactionCustomerDto(entity));
         return mapper.toResponse(entity);
     }
 
-    @Override
-    @Transactional
-    public MovementResponse update(Long id, MovementRequest request) {
+    MovementResponse repost(Long id, Long originalAccountId, MovementRequest request) {
         this.validateTransactionType(request);
-        String message = String.format("Transaction doest no exists %d", id);
-        Movement entity = repository.findById(id).orElseThrow(() -> new MovementNotFoundException(message));
-        this.buildAccount(entity, request.getAccountId());
-        this.validateInsufficientFounds(entity.getAccount(), request);
-        this.buildTransactionType(request, entity);
+        Movement entity = this.findMovement(id);
+        if (!Objects.equals(this.accountIdOf(entity), originalAccountId)) {
+            // Otra actualización lo movió de cuenta antes de tomar los locks; el reintento bloquea la cuenta nueva
+            throw new OptimisticLockingFailureException(
+                    String.format("Movement %d changed account while waiting for the ledger", id));
+        }
+        // El efecto original se revierte y el nuevo se aplica con el UPDATE condicional del saldo: en la misma
+        // cuenta va un único delta neto, entre cuentas distintas uno por cuenta
+        BigDecimal reversal = this.signedAmount(entity.getMovementType(), entity.getAmount()).negate();
+        BigDecimal delta = this.signedAmount(request);
+        Account account;
+        if (Objects.equals(originalAccountId, request.getAccountId())) {
+            account = accountService.applyBalanceDelta(originalAccountId, reversal.add(delta));
+        } else {
+            accountService.applyBalanceDelta(originalAccountId, reversal);
+            account = accountService.applyBalanceDelta(request.getAccountId(), delta);
+        }
+        // applyBalanceDelta vacía el contexto de persistencia: el movimiento leído queda desasociado y save lo
+        // fusiona con la cuenta recién leída
         entity = mapper.updateModel(request, entity);
-        repository.save(entity);
-        AccountBalanceDto accountBalanceDto =
-                this.buildAccountBalanceDto(entity.getAccount().getId(), entity.getBalance());
-        applicationEventPublisher.publishEvent(accountBalanceDto);
+        entity.setAccount(account);
+        entity.setBalance(account.getActualBalance());
+        entity = repository.save(entity);
         return mapper.toResponse(entity);
     }
 
@@ -90,6 +121,29 @@ public class MovementServiceImpl implements MovementService {
         return repository.findAll(pageable).map(mapper::toResponse);
     }
 
+    @Override
+    public CursorPage<MovementResponse> scroll(String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        if (after != null && after.date() == null) {
+            throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+        }
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        List<Movement> rows = after == null
+                ? repository.findAllByOrderByDateAscIdAsc(limit)
+                : repository.findAfter(after.date(), after.id(), limit);
+        return PageCursor.slice(rows, size, mapper::toResponse,
+                movement -> PageCursor.of(movement.getDate(), movement.getId()));
+    }
+
+
+    Movement findMovement(Long id) {
+        String message = String.format("Transaction doest no exists %d", id);
+        return repository.findById(id).orElseThrow(() -> new MovementNotFoundException(message));
+    }
+
+    Long accountIdOf(Movement movement) {
+        return movement.getAccount() != null ? movement.getAccount().getId() : null;
+    }
 
     void buildAccount(Movement movement, Long accountId) {
         Account account = accountService.showById(accountId);
@@ -130,24 +184,12 @@ public class MovementServiceImpl implements MovementService {
         }
     }
 
-    AccountBalanceDto buildAccountBalanceDto(Long accountId, BigDecimal balance) {
-        return new AccountBalanceDto(this, accountId, balance);
+    BigDecimal signedAmount(MovementRequest request) {
+        return this.signedAmount(request.getMovementType(), request.getAmount());
     }
 
-    void validateInsufficientFounds(Account account, MovementRequest request) {
-        BigDecimal balance = account.getActualBalance();
-        // El monto a retirar es un valor positivo, por lo que no es necesario el .negate()
-        BigDecimal toWithdrawal = request.getAmount();
-
-        // Usa el método fromDisplayName para convertir el string a un Enum
-        MovementTypeEnum movementType = request.getMovementType();
-
-        if (movementType == MovementTypeEnum.WITHDRAWAL) {
-            if (balance.subtract(toWithdrawal).signum() == -1) {
-                String message = "Fondos insuficientes";
-                throw new InsufficientFoundsException(message);
-            }
-        }
+    BigDecimal signedAmount(MovementTypeEnum movementType, BigDecimal amount) {
+        return movementType == MovementTypeEnum.WITHDRAWAL ? amount.negate() : amount;
     }
 
     MovementCustomerRequest buildTransactionCustomerDto(Movement movement) {
@@ -1,6 +1,5 @@
 package ec.com.nttdata.accounts_movements_service.service.impl;
 
-import ec.com.nttdata.accounts_movements_service.client.CustomerClient;
 import ec.com.nttdata.accounts_movements_service.client.dto.CustomerDto;
 import ec.com.nttdata.accounts_movements_service.dto.report.AccountStatementReport;
 import ec.com.nttdata.accounts_movements_service.dto.report.CustomerAccountStatementReport;
@@ -12,6 +11,7 @@ import ec.com.nttdata.accounts_movements_service.exception.CustomerNotFoundExcep
 import ec.com.nttdata.accounts_movements_service.model.Account;
 import ec.com.nttdata.accounts_movements_service.model.Movement;
 import ec.com.nttdata.accounts_movements_service.repository.AccountRepository;
+import ec.com.nttdata.accounts_movements_service.service.CustomerLookupService;
 import ec.com.nttdata.accounts_movements_service.service.ReportService;
 import feign.FeignException;
 import java.math.BigDecimal;
@@ -39,7 +39,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ReportServiceImpl implements ReportService {
     private final AccountRepository repository;
-    private final CustomerClient customerClient;
+    private final CustomerLookupService customerLookupService;
     private static final String CUSTOMER_NOT_FOUND_MESSAGE = "Customer with ID %d does not exist";
 
     @Override
@@ -58,11 +58,11 @@ public class ReportServiceImpl implements ReportService {
         Set<CustomerDto> customers;
 
         if (Objects.nonNull(customerId)) {
-            validateCustomerExists(customerId);
+            // Una sola consulta valida la existencia del cliente y obtiene sus datos
+            customers = Set.of(fetchCustomer(customerId));
             accountsPage = repository.findByCustomerIdAndStartDateAndEndDate(
                     pageable, customerId, startDateTime, endDateTime
             );
-            customers = Set.of(fetchCustomer(customerId));
         } else {
             accountsPage =
                     repository.findByCustomerIdAndStartDateAndEndDate(pageable, null, startDateTime, endDateTime);
@@ -73,7 +73,7 @@ public class ReportServiceImpl implements ReportService {
                 log.warn("No customers found for the given date range.");
                 return Page.empty(pageable);
             }
-            customers = customerClient.showByIds(customerIds);
+            customers = customerLookupService.showByIds(customerIds);
         }
 
         if (accountsPage.isEmpty()) {
@@ -115,11 +115,11 @@ public class ReportServiceImpl implements ReportService {
         Set<CustomerDto> customers;
 
         if (Objects.nonNull(customerId)) {
-            validateCustomerExists(customerId);
+            // Una sola consulta valida la existencia del cliente y obtiene sus datos
+            customers = Set.of(fetchCustomer(customerId));
             accountsPage = repository.findByCustomerIdAndStartDateAndEndDate(
                     pageable, customerId, startDateTime, endDateTime
             );
-            customers = Set.of(fetchCustomer(customerId));
         } else {
             accountsPage = repository.findByCustomerIdAndStartDateAndEndDate(
                     pageable, null, startDateTime, endDateTime
@@ -127,7 +127,7 @@ public class ReportServiceImpl implements ReportService {
             Set<Long> customerIds = accountsPage.getContent().stream()
                     .map(Account::getCustomerId)
                     .collect(Collectors.toSet());
-            customers = customerClient.showByIds(customerIds);
+            customers = customerLookupService.showByIds(customerIds);
         }
 
         Map<Long, CustomerDto> customerMap = customers.stream()
@@ -187,10 +187,11 @@ public class ReportServiceImpl implements ReportService {
         return new PageImpl<>(result, pageable, result.size());
     }
 
-    private void validateCustomerExists(Long customerId) {
+    private CustomerDto fetchCustomer(Long customerId) {
         try {
-            customerClient.show(customerId);
+            CustomerDto customer = customerLookupService.show(customerId);
             log.debug("Customer validation successful for ID: {}", customerId);
+            return customer;
         } catch (CustomerNotFoundException | FeignException.NotFound e) {
             log.error("Customer not found with ID: {}", customerId);
             throw new CustomerNotFoundException(String.format(CUSTOMER_NOT_FOUND_MESSAGE, customerId));
@@ -200,14 +201,6 @@ public class ReportServiceImpl implements ReportService {
         }
     }
 
-    private CustomerDto fetchCustomer(Long customerId) {
-        try {
-            return customerClient.show(customerId);
-        } catch (FeignException.NotFound e) {
-            throw new CustomerNotFoundException(String.format(CUSTOMER_NOT_FOUND_MESSAGE, customerId));
-        }
-    }
-
     private void validateDateRange(LocalDate startDate, LocalDate endDate) {
         if (startDate.isAfter(endDate)) {
             throw new IllegalArgumentException("Start date cannot be after end date");
@@ -0,0 +1,83 @@
+package ec.com.nttdata.accounts_movements_service.service.ledger;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Serializa la contabilización de movimientos por cuenta.
+ *
+ * <p>Cada cuenta se asigna a una franja (stripe) de locks según su id; los movimientos de una misma cuenta se
+ * ejecutan uno a la vez y dentro de su propia transacción, mientras que cuentas de franjas distintas contabilizan en
+ * paralelo. El lock se libera después del commit para que el siguiente movimiento lea el saldo ya confirmado.</p>
+ */
+@Slf4j
+@Component
+public class AccountLedger {
+
+    private static final int STRIPES_PER_CORE = 16;
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final TransactionOperations transactionOperations;
+
+    public AccountLedger(TransactionOperations transactionOperations,
+                         @Value("${app.ledger.stripes:0}") int stripes) {
+        int requested = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors() * STRIPES_PER_CORE;
+        int size = Integer.highestOneBit(Math.max(1, requested - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+        this.transactionOperations = transactionOperations;
+        log.info("Account ledger initialized with {} stripes", size);
+    }
+
+    public <T> T post(Long accountId, Supplier<T> posting) {
+        Objects.requireNonNull(accountId, "accountId cannot be null");
+        ReentrantLock lock = stripes[stripeOf(accountId)];
+        lock.lock();
+        try {
+            return transactionOperations.execute(status -> posting.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public <T> T post(Collection<Long> accountIds, Supplier<T> posting) {
+        // Los locks se toman en orden ascendente de franja para evitar deadlocks entre lotes
+        int[] indexes = accountIds.stream()
+                .filter(Objects::nonNull)
+                .mapToInt(this::stripeOf)
+                .distinct()
+                .sorted()
+                .toArray();
+        int acquired = 0;
+        try {
+            for (int index : indexes) {
+                stripes[index].lock();
+                acquired++;
+            }
+            return transactionOperations.execute(status -> posting.get());
+        } finally {
+            for (int i = acquired - 1; i >= 0; i--) {
+                stripes[indexes[i]].unlock();
+            }
+        }
+    }
+
+    int stripeOf(Long accountId) {
+        int hash = Long.hashCode(accountId);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    int stripeCount() {
+        return stripes.length;
+    }
+}
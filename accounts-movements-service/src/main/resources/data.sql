@@ -26,9 +26,10 @@ INSERT INTO "movements" (
 (8, 150.00, 150.00, '2025-08-03 10:10:00', 'DEPOSIT', 3, NOW()),      -- Depósito en cuenta 495878
 (9, 540.00, 0.00, '2025-02-10 10:15:00', 'WITHDRAWAL', 4, NOW());    -- Retiro total de cuenta 496825 --Marianela Montalvo
 
--- Sincronizar el contador de autoincremento para la tabla de movimientos
--- Esto asegura que el próximo ID generado sea mayor que el último ID insertado.
-ALTER TABLE "movements" ALTER COLUMN "id" RESTART WITH (SELECT MAX("id") + 1 FROM "movements");
+-- Sincronizar la secuencia de movimientos con los datos insertados.
+-- Con el optimizador pooled el valor de la secuencia es el tope del bloque reservado,
+-- por eso se suma el tamaño del bloque (50): el primer id generado será MAX("id") + 1.
+ALTER SEQUENCE "movements_seq" RESTART WITH (SELECT MAX("id") + 50 FROM "movements");
 
--- Sincronizar el contador de autoincremento para la tabla de cuentas (por si acaso)
-ALTER TABLE "accounts" ALTER COLUMN "id" RESTART WITH (SELECT MAX("id") + 1 FROM "accounts");
\ No newline at end of file
+-- Sincronizar la secuencia de cuentas (por si acaso)
+ALTER SEQUENCE "accounts_seq" RESTART WITH (SELECT MAX("id") + 50 FROM "accounts");
\ No newline at end of file
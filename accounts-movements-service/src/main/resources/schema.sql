@@ -2,11 +2,22 @@
 -- utilizando comillas dobles para que los nombres de tablas y columnas
 -- se respeten en minúsculas en H2.
 
+DROP TABLE IF EXISTS "customer_replicas";
+DROP TABLE IF EXISTS "outbox_events";
 DROP TABLE IF EXISTS "movements";
 DROP TABLE IF EXISTS "accounts";
+DROP SEQUENCE IF EXISTS "movements_seq";
+DROP SEQUENCE IF EXISTS "accounts_seq";
+DROP SEQUENCE IF EXISTS "outbox_events_seq";
+
+-- Secuencias con incremento 50: Hibernate reserva bloques de ids (optimizador pooled)
+-- y puede agrupar los INSERT en lotes JDBC, cosa que IDENTITY impide.
+CREATE SEQUENCE "accounts_seq" START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE "movements_seq" START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE "outbox_events_seq" START WITH 1 INCREMENT BY 50;
 
 CREATE TABLE "accounts" (
-    "id" BIGINT PRIMARY KEY AUTO_INCREMENT,
+    "id" BIGINT PRIMARY KEY,
     "actual_balance" NUMERIC(38, 2),
     "customer_id" INT,
     "initial_balance" NUMERIC(38, 2),
@@ -14,11 +25,12 @@ CREATE TABLE "accounts" (
     "status" BOOLEAN,
     "account_type" VARCHAR(255),
     "created_at" TIMESTAMP DEFAULT NOW(),
-    "updated_at" TIMESTAMP
+    "updated_at" TIMESTAMP,
+    "version" BIGINT DEFAULT 0 NOT NULL
 );
 
 CREATE TABLE "movements" (
-    "id" BIGINT PRIMARY KEY AUTO_INCREMENT,
+    "id" BIGINT PRIMARY KEY,
     "amount" NUMERIC(38, 2) NOT NULL,
     "balance" NUMERIC(38, 2) NOT NULL,
     "date" TIMESTAMP NOT NULL,
@@ -28,3 +40,31 @@ CREATE TABLE "movements" (
     "updated_at" TIMESTAMP,
     CONSTRAINT fk_account FOREIGN KEY ("account_id") REFERENCES "accounts"("id")
 );
+
+-- Paginación por cursor de /movements: orden (date, id) servido por el índice
+CREATE INDEX "ix_movements_date_id" ON "movements" ("date", "id");
+
+-- Outbox de eventos: se escribe en la misma transacción que el movimiento
+-- y un relay en segundo plano lo publica en Kafka en orden de "id".
+CREATE TABLE "outbox_events" (
+    "id" BIGINT PRIMARY KEY,
+    "account_id" BIGINT NOT NULL,
+    "topic" VARCHAR(255) NOT NULL,
+    "action" VARCHAR(255) NOT NULL,
+    "payload" VARCHAR(4000) NOT NULL,
+    "status" VARCHAR(20) DEFAULT 'PENDING' NOT NULL,
+    "last_error" VARCHAR(1000),
+    "created_at" TIMESTAMP DEFAULT NOW()
+);
+
+-- El relay lee solo los PENDING en orden de id; los DEAD quedan para revisión manual
+CREATE INDEX "ix_outbox_events_status_id" ON "outbox_events" ("status", "id");
+
+-- Réplica local de clientes (id, nombre, estado) alimentada desde el topic compactado "customers";
+-- evita llamar a customer-service en cada validación.
+CREATE TABLE "customer_replicas" (
+    "id" BIGINT PRIMARY KEY,
+    "name" VARCHAR(255),
+    "status" BOOLEAN,
+    "updated_at" TIMESTAMP
+);
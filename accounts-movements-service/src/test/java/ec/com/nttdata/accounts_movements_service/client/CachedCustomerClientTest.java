@@ -0,0 +1,157 @@
+package ec.com.nttdata.accounts_movements_service.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import ec.com.nttdata.accounts_movements_service.client.dto.CustomerDto;
+import ec.com.nttdata.accounts_movements_service.exception.CustomerNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachedCustomerClientTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private ResilientCustomerClient customerClient;
+    private CustomerBatchLoader batchLoader;
+    private SimpleMeterRegistry meterRegistry;
+    private CachedCustomerClient cachedClient;
+
+    @BeforeEach
+    void setUp() {
+        customerClient = mock(ResilientCustomerClient.class);
+        batchLoader = mock(CustomerBatchLoader.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cachedClient = new CachedCustomerClient(customerClient, batchLoader, meterRegistry, 2,
+                Duration.ofMinutes(5), Duration.ofSeconds(30), nanos::get);
+    }
+
+    private static CustomerDto customer(Long id) {
+        return new CustomerDto(id, "Cliente " + id, true);
+    }
+
+    @Test
+    void showShouldCallCustomerServiceOncePerId() {
+        when(batchLoader.load(1L)).thenReturn(CompletableFuture.completedFuture(customer(1L)));
+
+        cachedClient.show(1L);
+        CustomerDto cached = cachedClient.show(1L);
+
+        assertThat(cached.getId()).isEqualTo(1L);
+        verify(batchLoader, times(1)).load(1L);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "customers").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void showShouldCacheNotFoundUntilNegativeTtlExpires() {
+        when(batchLoader.load(9L)).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertThatThrownBy(() -> cachedClient.show(9L)).isInstanceOf(CustomerNotFoundException.class);
+        assertThatThrownBy(() -> cachedClient.show(9L)).isInstanceOf(CustomerNotFoundException.class);
+        verify(batchLoader, times(1)).load(9L);
+
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        assertThatThrownBy(() -> cachedClient.show(9L)).isInstanceOf(CustomerNotFoundException.class);
+        verify(batchLoader, times(2)).load(9L);
+    }
+
+    @Test
+    void showShouldNotCacheAvailabilityErrors() {
+        CustomerNotFoundException unavailable = new CustomerNotFoundException("Customer service is unavailable");
+        when(batchLoader.load(1L))
+                .thenReturn(CompletableFuture.failedFuture(unavailable))
+                .thenReturn(CompletableFuture.completedFuture(customer(1L)));
+
+        assertThatThrownBy(() -> cachedClient.show(1L)).isInstanceOf(CustomerNotFoundException.class);
+
+        assertThat(cachedClient.show(1L).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    void showByIdsShouldOnlyRequestIdsMissingFromCache() {
+        when(batchLoader.load(1L)).thenReturn(CompletableFuture.completedFuture(customer(1L)));
+        when(customerClient.showByIds(Set.of(2L, 3L))).thenReturn(Set.of(customer(2L)));
+        cachedClient.show(1L);
+
+        Set<CustomerDto> customers = cachedClient.showByIds(Set.of(1L, 2L, 3L));
+
+        assertThat(customers).extracting(CustomerDto::getId).containsExactlyInAnyOrder(1L, 2L);
+        verify(customerClient).showByIds(Set.of(2L, 3L));
+    }
+
+    @Test
+    void showByIdsShouldFillCacheForSingleLookups() {
+        when(customerClient.showByIds(Set.of(1L, 3L))).thenReturn(Set.of(customer(1L)));
+
+        cachedClient.showByIds(Set.of(1L, 3L));
+
+        assertThat(cachedClient.show(1L).getId()).isEqualTo(1L);
+        assertThatThrownBy(() -> cachedClient.show(3L)).isInstanceOf(CustomerNotFoundException.class);
+        verify(batchLoader, never()).load(any());
+    }
+
+    @Test
+    void evictShouldForceRemoteLookup() {
+        when(batchLoader.load(1L)).thenReturn(CompletableFuture.completedFuture(customer(1L)));
+        cachedClient.show(1L);
+
+        cachedClient.evict(1L);
+        cachedClient.show(1L);
+
+        verify(batchLoader, times(2)).load(1L);
+    }
+
+    @Test
+    void concurrentShowsShouldShareThePendingLoad() throws Exception {
+        CompletableFuture<CustomerDto> remote = new CompletableFuture<>();
+        when(batchLoader.load(1L)).thenReturn(remote);
+
+        CompletableFuture<CustomerDto> first = CompletableFuture.supplyAsync(() -> cachedClient.show(1L));
+        CompletableFuture<CustomerDto> second = CompletableFuture.supplyAsync(() -> cachedClient.show(1L));
+        verify(batchLoader, timeout(1_000)).load(1L);
+        remote.complete(customer(1L));
+
+        assertThat(first.get(1, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+        assertThat(second.get(1, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+        verify(batchLoader, times(1)).load(1L);
+    }
+
+    @Test
+    void evictShouldNotWaitForPendingLoad() throws Exception {
+        CompletableFuture<CustomerDto> remote = new CompletableFuture<>();
+        when(batchLoader.load(1L)).thenReturn(remote);
+        CompletableFuture<CustomerDto> pending = CompletableFuture.supplyAsync(() -> cachedClient.show(1L));
+        verify(batchLoader, timeout(1_000)).load(1L);
+
+        // La consulta remota no retiene el lock de la entrada: invalidarla no espera a que termine
+        CompletableFuture.runAsync(() -> cachedClient.evict(1L)).get(1, TimeUnit.SECONDS);
+        remote.complete(customer(1L));
+
+        assertThat(pending.get(1, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+        cachedClient.show(1L);
+        verify(batchLoader, times(2)).load(1L);
+    }
+
+    @Test
+    void cacheShouldBeBoundedBySize() {
+        when(customerClient.showByIds(any())).thenReturn(Set.of(customer(1L), customer(2L), customer(3L)));
+
+        cachedClient.showByIds(Set.of(1L, 2L, 3L));
+
+        assertThat(cachedClient.estimatedSize()).isLessThanOrEqualTo(2);
+    }
+}
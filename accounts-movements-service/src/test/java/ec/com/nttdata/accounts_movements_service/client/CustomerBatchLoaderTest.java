@@ -0,0 +1,104 @@
+package ec.com.nttdata.accounts_movements_service.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import ec.com.nttdata.accounts_movements_service.client.dto.CustomerDto;
+import ec.com.nttdata.accounts_movements_service.exception.CustomerNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CustomerBatchLoaderTest {
+
+    private ResilientCustomerClient customerClient;
+    private SimpleMeterRegistry meterRegistry;
+    private CustomerBatchLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        customerClient = mock(ResilientCustomerClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        loader = new CustomerBatchLoader(customerClient, meterRegistry, Duration.ofMillis(50), 3, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loader.destroy();
+    }
+
+    private static CustomerDto customer(Long id) {
+        return new CustomerDto(id, "Cliente " + id, true);
+    }
+
+    @Test
+    void concurrentLookupsShouldBeDispatchedAsOneBatch() throws Exception {
+        when(customerClient.showByIds(Set.of(1L, 2L))).thenReturn(Set.of(customer(1L), customer(2L)));
+
+        CompletableFuture<CustomerDto> first = loader.load(1L);
+        CompletableFuture<CustomerDto> second = loader.load(2L);
+        CompletableFuture<CustomerDto> repeated = loader.load(1L);
+
+        assertThat(first.get(1, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+        assertThat(second.get(1, TimeUnit.SECONDS).getId()).isEqualTo(2L);
+        assertThat(repeated).isSameAs(first);
+        verify(customerClient, times(1)).showByIds(any());
+        assertThat(meterRegistry.get("customer.client.batch.size").summary().max()).isEqualTo(2.0);
+    }
+
+    @Test
+    void fullBatchShouldBeDispatchedWithoutWaitingForWindow() throws Exception {
+        loader.destroy();
+        loader = new CustomerBatchLoader(customerClient, meterRegistry, Duration.ofMinutes(1), 3, 2);
+        when(customerClient.showByIds(Set.of(1L, 2L, 3L)))
+                .thenReturn(Set.of(customer(1L), customer(2L), customer(3L)));
+
+        List<CompletableFuture<CustomerDto>> futures = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            futures.add(loader.load(id));
+        }
+
+        Set<Long> ids = new HashSet<>();
+        for (CompletableFuture<CustomerDto> future : futures) {
+            ids.add(future.get(1, TimeUnit.SECONDS).getId());
+        }
+        assertThat(ids).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    void missingCustomerShouldCompleteWithNull() throws Exception {
+        when(customerClient.showByIds(Set.of(9L))).thenReturn(Set.of());
+
+        assertThat(loader.load(9L).get(1, TimeUnit.SECONDS)).isNull();
+    }
+
+    @Test
+    void remoteFailureShouldFailEveryCallerOfTheBatch() {
+        when(customerClient.showByIds(any()))
+                .thenThrow(new CustomerNotFoundException("Customer service is unavailable"));
+
+        CompletableFuture<CustomerDto> first = loader.load(1L);
+        CompletableFuture<CustomerDto> second = loader.load(2L);
+
+        assertThatThrownBy(() -> first.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(CustomerNotFoundException.class);
+        assertThatThrownBy(() -> second.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(CustomerNotFoundException.class);
+    }
+}
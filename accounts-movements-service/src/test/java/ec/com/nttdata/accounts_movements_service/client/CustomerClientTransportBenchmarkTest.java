@@ -0,0 +1,148 @@
+package ec.com.nttdata.accounts_movements_service.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import ec.com.nttdata.accounts_movements_service.dto.account.request.AccountRequest;
+import ec.com.nttdata.accounts_movements_service.enums.AccountTypeEnum;
+import ec.com.nttdata.accounts_movements_service.service.AccountService;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Mide la latencia de {@code AccountServiceImpl.create} con 500 solicitudes concurrentes contra un customer-service
+ * simulado (JDK {@link HttpServer} con 5 ms de latencia por respuesta).
+ *
+ * <p>Cada solicitud usa un cliente distinto y los lotes del {@link CustomerBatchLoader} se limitan a un id, así cada
+ * creación hace su propia llamada HTTP. Se ejecuta con {@code ./gradlew benchmark}; para comparar contra el transporte
+ * por defecto ({@code HttpURLConnection}) se repite con {@code CUSTOMER_CLIENT_HC5_ENABLED=false}, y para HTTP/2 con
+ * {@code CUSTOMER_CLIENT_HTTP2_ENABLED=true} además.</p>
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(properties = "app.customer-client.batch.max-size=1")
+class CustomerClientTransportBenchmarkTest {
+
+    private static final int CONCURRENCY = 500;
+    private static final int WARM_UP_ROUNDS = 2;
+    private static final int ROUNDS = 5;
+    private static final long STUB_LATENCY_MS = 5;
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final HttpServer STUB = startStub();
+    private static final AtomicLong CUSTOMER_IDS = new AtomicLong(1_000_000);
+
+    @Autowired
+    private AccountService accountService;
+
+    @DynamicPropertySource
+    static void customerServiceUrl(DynamicPropertyRegistry registry) {
+        registry.add("app.ms.customer-service.url", () -> "http://localhost:" + STUB.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop(0);
+    }
+
+    @Test
+    void createLatencyUnderConcurrentCustomerLookups() throws Exception {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            runRound();
+        }
+        List<Long> latencies = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            latencies.addAll(runRound());
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        log.info("AccountService.create x{} ({} concurrent): p50={} ms p99={} ms max={} ms, {} creates/s",
+                sorted.length, CONCURRENCY, millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)),
+                millis(sorted[sorted.length - 1]), sorted.length * TimeUnit.SECONDS.toNanos(1) / elapsed);
+
+        assertThat(sorted).hasSize(CONCURRENCY * ROUNDS);
+    }
+
+    private List<Long> runRound() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            AccountRequest request = new AccountRequest(UUID.randomUUID().toString(), AccountTypeEnum.SAVINGS,
+                    BigDecimal.TEN, true, CUSTOMER_IDS.incrementAndGet());
+            futures.add(executor.submit(() -> {
+                start.await();
+                long begin = System.nanoTime();
+                accountService.create(request);
+                return System.nanoTime() - begin;
+            }));
+        }
+        start.countDown();
+        List<Long> latencies = new ArrayList<>();
+        for (Future<Long> future : futures) {
+            latencies.add(future.get(2, TimeUnit.MINUTES));
+        }
+        executor.shutdown();
+        return latencies;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), CONCURRENCY);
+            server.createContext("/customers/by-ids", CustomerClientTransportBenchmarkTest::byIds);
+            server.setExecutor(Executors.newFixedThreadPool(CONCURRENCY));
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start customer-service stub", e);
+        }
+    }
+
+    private static void byIds(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            Long[] ids = JSON.readValue(exchange.getRequestBody(), Long[].class);
+            Thread.sleep(STUB_LATENCY_MS);
+            byte[] body = JSON.writeValueAsBytes(Arrays.stream(ids)
+                    .map(id -> Map.of("id", id, "name", "Cliente " + id, "status", true))
+                    .toList());
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
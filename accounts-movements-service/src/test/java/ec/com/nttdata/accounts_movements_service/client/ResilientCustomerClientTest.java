@@ -0,0 +1,280 @@
+package ec.com.nttdata.accounts_movements_service.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ec.com.nttdata.accounts_movements_service.client.dto.CustomerDto;
+import ec.com.nttdata.accounts_movements_service.exception.CustomerNotFoundException;
+import feign.FeignException;
+import feign.Request;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ResilientCustomerClientTest {
+
+    private static final Request REQUEST = Request.create(Request.HttpMethod.GET, "/customers/1", Map.of(), null,
+            StandardCharsets.UTF_8, null);
+
+    private final FaultInjectingCustomerClient stub = new FaultInjectingCustomerClient();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ResilientCustomerClient client;
+
+    @AfterEach
+    void tearDown() {
+        client.destroy();
+    }
+
+    private ResilientCustomerClient client(Duration attemptTimeout, int maxConcurrentCalls, boolean hedge) {
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(3)
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(Duration.ofMillis(10), 2, 0.5))
+                .retryExceptions(TimeoutException.class, FeignException.ServiceUnavailable.class)
+                .build());
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .ignoreExceptions(FeignException.NotFound.class)
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        TimeLimiterRegistry timeLimiterRegistry = TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+                .timeoutDuration(attemptTimeout)
+                .build());
+        client = new ResilientCustomerClient(stub, retryRegistry, circuitBreakerRegistry, bulkheadRegistry,
+                timeLimiterRegistry, meterRegistry, hedge, 0.95, Duration.ofMillis(20), 10, 2, 4);
+        return client;
+    }
+
+    private static CustomerDto customer(Long id) {
+        return new CustomerDto(id, "Cliente " + id, true);
+    }
+
+    @Test
+    void slowCustomerServiceShouldBeBoundedByTimeLimiterAndRetries() {
+        client(Duration.ofMillis(100), 10, false);
+        stub.always(() -> {
+            sleep(5_000);
+            return customer(1L);
+        });
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client.show(1L)).isInstanceOf(CustomerNotFoundException.class);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 3 intentos de 100 ms más el backoff, lejos de los 25 s de la política anterior
+        assertThat(elapsedMillis).isLessThan(1_500);
+        assertThat(stub.calls()).isEqualTo(3);
+    }
+
+    @Test
+    void transientFailureShouldBeRetried() {
+        client(Duration.ofSeconds(1), 10, false);
+        stub.then(() -> {
+            throw new FeignException.ServiceUnavailable("unavailable", REQUEST, null, Map.of());
+        }).then(() -> customer(1L));
+
+        assertThat(client.show(1L).getId()).isEqualTo(1L);
+        assertThat(stub.calls()).isEqualTo(2);
+    }
+
+    @Test
+    void notFoundShouldPropagateWithoutRetry() {
+        client(Duration.ofSeconds(1), 10, false);
+        stub.always(() -> {
+            throw new FeignException.NotFound("not found", REQUEST, null, Map.of());
+        });
+
+        assertThatThrownBy(() -> client.show(1L)).isInstanceOf(FeignException.NotFound.class);
+        assertThat(stub.calls()).isEqualTo(1);
+    }
+
+    @Test
+    void hedgedRequestShouldAnswerWhenFirstAttemptStalls() {
+        client(Duration.ofSeconds(2), 10, true);
+        stub.then(() -> {
+            sleep(1_500);
+            return customer(1L);
+        }).then(() -> customer(1L));
+
+        long start = System.nanoTime();
+        CustomerDto customer = client.show(1L);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(customer.getId()).isEqualTo(1L);
+        assertThat(elapsedMillis).isLessThan(1_000);
+        assertThat(meterRegistry.get("customer.client.hedges").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void bulkheadShouldRejectCallsBeyondTheLimit() throws Exception {
+        client(Duration.ofSeconds(2), 1, false);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        stub.then(() -> {
+            started.countDown();
+            await(release);
+            return customer(1L);
+        }).then(() -> customer(2L));
+
+        Thread first = new Thread(() -> client.show(1L));
+        first.start();
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> client.show(2L)).isInstanceOf(CustomerNotFoundException.class);
+
+        release.countDown();
+        first.join(TimeUnit.SECONDS.toMillis(2));
+        assertThat(client.show(2L).getId()).isEqualTo(2L);
+    }
+
+    @Test
+    void stalledCustomerServiceShouldNotPileUpAbandonedAttempts() throws Exception {
+        // 2 llamadas en el bulkhead, con hedging: a lo sumo 4 hilos de intento
+        client(Duration.ofMillis(50), 2, true);
+        stub.always(() -> {
+            sleep(1_000);
+            return customer(1L);
+        });
+        ExecutorService callers = Executors.newFixedThreadPool(10);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(callers.submit(() -> client.show(1L)));
+        }
+
+        List<Double> inFlight = new ArrayList<>();
+        for (Future<?> result : results) {
+            assertThatThrownBy(() -> result.get(2, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(CustomerNotFoundException.class);
+            inFlight.add(meterRegistry.get("customer.client.in.flight").gauge().value());
+        }
+        callers.shutdown();
+        // Los intentos abandonados siguen en el stub; al terminar no debe quedar ninguno encolado detrás
+        sleep(1_200);
+
+        assertThat(inFlight).allSatisfy(count -> assertThat(count).isLessThanOrEqualTo(4.0));
+        assertThat(stub.maxConcurrentCalls()).isLessThanOrEqualTo(4);
+        assertThat(stub.calls()).isLessThanOrEqualTo(4);
+        assertThat(meterRegistry.get("customer.client.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    void largeIdSetsShouldBeFetchedInBoundedParallelChunks() {
+        client(Duration.ofSeconds(2), 10, false);
+        Set<Long> ids = LongStream.rangeClosed(1, 45).boxed().collect(Collectors.toSet());
+
+        Set<CustomerDto> customers = client.showByIds(ids);
+
+        assertThat(customers).extracting(CustomerDto::getId).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(stub.chunkSizes()).hasSize(5).allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(10));
+        assertThat(stub.maxConcurrentChunks()).isLessThanOrEqualTo(2);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * customer-service simulado: cada llamada consume el siguiente comportamiento programado (latencia o falla)
+     * o repite el comportamiento fijo.
+     */
+    private static class FaultInjectingCustomerClient implements CustomerClient {
+
+        private final Queue<Supplier<CustomerDto>> behaviours = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger concurrentCalls = new AtomicInteger();
+        private final AtomicInteger maxConcurrentCalls = new AtomicInteger();
+        private final Queue<Integer> chunkSizes = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger concurrentChunks = new AtomicInteger();
+        private final AtomicInteger maxConcurrentChunks = new AtomicInteger();
+        private volatile Supplier<CustomerDto> fallback;
+
+        FaultInjectingCustomerClient then(Supplier<CustomerDto> behaviour) {
+            behaviours.add(behaviour);
+            return this;
+        }
+
+        void always(Supplier<CustomerDto> behaviour) {
+            fallback = behaviour;
+        }
+
+        int calls() {
+            return calls.get();
+        }
+
+        Queue<Integer> chunkSizes() {
+            return chunkSizes;
+        }
+
+        int maxConcurrentCalls() {
+            return maxConcurrentCalls.get();
+        }
+
+        int maxConcurrentChunks() {
+            return maxConcurrentChunks.get();
+        }
+
+        @Override
+        public CustomerDto show(Long id) {
+            calls.incrementAndGet();
+            maxConcurrentCalls.accumulateAndGet(concurrentCalls.incrementAndGet(), Math::max);
+            try {
+                Supplier<CustomerDto> behaviour = behaviours.poll();
+                return (behaviour != null ? behaviour : fallback).get();
+            } finally {
+                concurrentCalls.decrementAndGet();
+            }
+        }
+
+        @Override
+        public Set<CustomerDto> showByIds(Set<Long> customerIds) {
+            chunkSizes.add(customerIds.size());
+            maxConcurrentChunks.accumulateAndGet(concurrentChunks.incrementAndGet(), Math::max);
+            try {
+                sleep(20);
+                return customerIds.stream().map(ResilientCustomerClientTest::customer).collect(Collectors.toSet());
+            } finally {
+                concurrentChunks.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package ec.com.nttdata.accounts_movements_service.config.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import ec.com.nttdata.accounts_movements_service.config.ObjectMapperConfig;
+import ec.com.nttdata.accounts_movements_service.enums.MovementTypeEnum;
+import ec.com.nttdata.accounts_movements_service.producer.customer.dto.MovementCustomerRequest;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+class KafkaEventSerializerTest {
+
+    private static final String AVRO_TOPIC = "movements";
+    private static final String JSON_TOPIC = "other";
+
+    private ObjectMapper objectMapper;
+    private AvroEventEncoder encoder;
+    private KafkaEventSerializer<KafkaMessage<?>> serializer;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapperConfig().objectMapper();
+        encoder = AvroEventEncoder.fromClasspath(KafkaConfig.MOVEMENT_EVENT_SCHEMA, objectMapper);
+        JsonSerializer<KafkaMessage<?>> jsonSerializer = new JsonSerializer<KafkaMessage<?>>(objectMapper).noTypeInfo();
+        serializer = new KafkaEventSerializer<>(jsonSerializer, Map.of(AVRO_TOPIC, encoder));
+    }
+
+    private KafkaMessage<?> message() {
+        return new KafkaMessage<>("create", 1, MovementCustomerRequest.builder()
+                .customerId(7L)
+                .amount(new BigDecimal("25.50"))
+                .movementType(MovementTypeEnum.DEPOSIT)
+                .build());
+    }
+
+    @Test
+    void shouldEncodeAvroTopicsAndTagTheCodecHeader() {
+        RecordHeaders avroHeaders = new RecordHeaders();
+        RecordHeaders jsonHeaders = new RecordHeaders();
+
+        byte[] avro = serializer.serialize(AVRO_TOPIC, avroHeaders, message());
+        byte[] json = serializer.serialize(JSON_TOPIC, jsonHeaders, message());
+
+        assertThat(new String(avroHeaders.lastHeader(KafkaEventHeaders.CODEC).value(), StandardCharsets.UTF_8))
+                .isEqualTo(AvroEventEncoder.NAME);
+        assertThat(jsonHeaders.lastHeader(KafkaEventHeaders.CODEC)).isNull();
+        assertThat(avro.length).isLessThan(json.length / 2);
+    }
+
+    @Test
+    void avroPayloadShouldDecodeWithTheWriterSchema() throws Exception {
+        byte[] avro = serializer.serialize(AVRO_TOPIC, new RecordHeaders(), message());
+
+        GenericRecord decoded = new BinaryMessageDecoder<GenericRecord>(GenericData.get(), encoder.getSchema())
+                .decode(avro);
+
+        assertThat(decoded.get("action")).hasToString("create");
+        assertThat(decoded.get("version")).isEqualTo(1);
+        GenericRecord data = (GenericRecord) decoded.get("data");
+        assertThat(data.get("customer_id")).isEqualTo(7L);
+        assertThat(data.get("amount")).hasToString("25.50");
+    }
+
+    @Test
+    void avroPayloadShouldResolveAgainstANewerReaderSchema() throws Exception {
+        // Un consumidor con un campo nuevo (con default) lee igual lo que escribió la versión actual
+        Schema readerSchema = new Schema.Parser().parse(encoder.getSchema().toString()
+                .replace("{\"name\":\"movement_type\"",
+                        "{\"name\":\"channel\",\"type\":\"string\",\"default\":\"web\"},"
+                                + "{\"name\":\"movement_type\""));
+        BinaryMessageDecoder<GenericRecord> decoder = new BinaryMessageDecoder<>(GenericData.get(), readerSchema);
+        decoder.addSchema(encoder.getSchema());
+
+        GenericRecord data = (GenericRecord) decoder
+                .decode(serializer.serialize(AVRO_TOPIC, new RecordHeaders(), message()))
+                .get("data");
+
+        assertThat(data.get("channel")).hasToString("web");
+        assertThat(data.get("customer_id")).isEqualTo(7L);
+    }
+
+    @Test
+    void enumShouldTravelWithItsJsonValue() throws Exception {
+        byte[] avro = serializer.serialize(AVRO_TOPIC, new RecordHeaders(), message());
+        byte[] json = serializer.serialize(JSON_TOPIC, new RecordHeaders(), message());
+
+        String movementType = objectMapper.readTree(json).get("data").get("movement_type").asText();
+        assertThat(new String(avro, StandardCharsets.UTF_8)).contains(movementType);
+    }
+
+    @Test
+    void outboxPayloadTreeShouldEncodeLikeTheDto() throws Exception {
+        // El relay del outbox reenvía el payload como JsonNode leído sin recortar ceros; el binario debe ser el
+        // mismo que con el DTO
+        JsonNode payload = objectMapper.reader()
+                .without(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES)
+                .readTree(objectMapper.writeValueAsString(message().getData()));
+
+        byte[] fromTree = serializer.serialize(AVRO_TOPIC, new RecordHeaders(), new KafkaMessage<>("create", 1, payload));
+        byte[] fromDto = serializer.serialize(AVRO_TOPIC, new RecordHeaders(), message());
+
+        assertThat(fromTree).isEqualTo(fromDto);
+    }
+}
@@ -1,26 +1,38 @@
 package ec.com.nttdata.accounts_movements_service.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import ec.com.nttdata.accounts_movements_service.dto.account.response.AccountResponse;
 import ec.com.nttdata.accounts_movements_service.dto.movement.request.MovementRequest;
+import ec.com.nttdata.accounts_movements_service.dto.movement.response.MovementBatchItemResponse;
+import ec.com.nttdata.accounts_movements_service.dto.movement.response.MovementBatchResponse;
 import ec.com.nttdata.accounts_movements_service.dto.movement.response.MovementResponse;
+import ec.com.nttdata.accounts_movements_service.dto.page.CursorPage;
+import ec.com.nttdata.accounts_movements_service.enums.MovementBatchStatusEnum;
 import ec.com.nttdata.accounts_movements_service.enums.MovementTypeEnum;
+import ec.com.nttdata.accounts_movements_service.service.MovementBatchService;
 import ec.com.nttdata.accounts_movements_service.service.MovementService;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Random;
+import java.util.function.Consumer;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,6 +43,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(MovementController.class)
 class MovementControllerTest {
@@ -41,6 +54,9 @@ class MovementControllerTest {
     @MockBean
     private MovementService service;
 
+    @MockBean
+    private MovementBatchService batchService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -57,6 +73,20 @@ class MovementControllerTest {
                 .andExpect(jsonPath("$.content").isArray());
     }
 
+    @Test
+    void testScroll() throws Exception {
+        when(service.scroll("", 20)).thenReturn(CursorPage.<MovementResponse>builder()
+                .content(List.of(buildResponse()))
+                .size(1)
+                .nextCursor("MjAyNS0wMS0xNVQxMDozMHw0Mg")
+                .build());
+
+        mockMvc.perform(get(path).param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.size").value(1));
+    }
+
     @Test
     void testShow() throws Exception {
         Long id = new Random().nextLong();
@@ -97,6 +127,57 @@ class MovementControllerTest {
                 .andExpect(jsonPath("$.id").value(Matchers.equalTo(response.getId())));
     }
 
+    @Test
+    void testCreateBatch() throws Exception {
+        List<MovementRequest> requests = List.of(buildRequest(), buildRequest());
+        when(batchService.createBatch(any())).thenAnswer(invocation -> buildBatchResponse(invocation.getArgument(0)));
+
+        mockMvc.perform(post(path + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.items").isArray());
+    }
+
+    @Test
+    void testCreateBatchNdjson() throws Exception {
+        String body = objectMapper.writeValueAsString(buildRequest()) + "\n"
+                + objectMapper.writeValueAsString(buildRequest()) + "\n"
+                + objectMapper.writeValueAsString(buildRequest()) + "\n";
+        when(batchService.createBatch(any(), any())).thenAnswer(invocation -> {
+            Iterator<MovementRequest> requests = invocation.getArgument(0);
+            Consumer<List<MovementBatchItemResponse>> chunkResults = invocation.getArgument(1);
+            int total = 0;
+            while (requests.hasNext()) {
+                requests.next();
+                chunkResults.accept(List.of(MovementBatchItemResponse.builder()
+                        .index(total++)
+                        .status(MovementBatchStatusEnum.POSTED)
+                        .build()));
+            }
+            return MovementBatchResponse.builder().total(total).posted(total).build();
+        });
+
+        MvcResult result = mockMvc.perform(post(path + "/batch")
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String content = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = content.split("\n");
+        // Un ítem por línea y los totales al final, sin la lista de ítems
+        assertThat(lines).hasSize(4);
+        assertThat(objectMapper.readValue(lines[2], MovementBatchItemResponse.class).getIndex()).isEqualTo(2);
+        MovementBatchResponse summary = objectMapper.readValue(lines[3], MovementBatchResponse.class);
+        assertThat(summary.getTotal()).isEqualTo(3);
+        assertThat(summary.getItems()).isNull();
+    }
+
     @Test
     void testDelete() throws Exception {
         Long id = new Random().nextLong();
@@ -115,6 +196,19 @@ class MovementControllerTest {
                 .build();
     }
 
+    private MovementBatchResponse buildBatchResponse(Iterator<MovementRequest> requests) {
+        int total = 0;
+        while (requests.hasNext()) {
+            requests.next();
+            total++;
+        }
+        return MovementBatchResponse.builder()
+                .total(total)
+                .posted(total)
+                .items(Collections.emptyList())
+                .build();
+    }
+
     private MovementResponse buildResponse() {
         MovementResponse dto = new MovementResponse();
         dto.setId(new Random().nextLong());
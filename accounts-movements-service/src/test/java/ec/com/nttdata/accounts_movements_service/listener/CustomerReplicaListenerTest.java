@@ -0,0 +1,59 @@
+package ec.com.nttdata.accounts_movements_service.listener;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import ec.com.nttdata.accounts_movements_service.client.dto.CustomerDto;
+import ec.com.nttdata.accounts_movements_service.config.kafka.KafkaMessage;
+import ec.com.nttdata.accounts_movements_service.service.CustomerLookupService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class CustomerReplicaListenerTest {
+
+    @Mock
+    private CustomerLookupService customerLookupService;
+
+    private CustomerReplicaListener listener;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        listener = new CustomerReplicaListener(customerLookupService);
+    }
+
+    private static ConsumerRecord<String, KafkaMessage<CustomerDto>> record(String key, CustomerDto customer) {
+        KafkaMessage<CustomerDto> message = customer != null ? new KafkaMessage<>("update", 1, customer) : null;
+        return new ConsumerRecord<>("customers", 0, 0L, key, message);
+    }
+
+    @Test
+    void shouldUpsertCustomerState() {
+        CustomerDto customer = new CustomerDto(7L, "Cliente 7", true);
+
+        listener.kafkaConsumer(record("7", customer));
+
+        verify(customerLookupService).upsert(customer);
+    }
+
+    @Test
+    void tombstoneShouldRemoveCustomer() {
+        listener.kafkaConsumer(record("7", null));
+
+        verify(customerLookupService).remove(7L);
+        verify(customerLookupService, never()).upsert(any());
+    }
+
+    @Test
+    void recordsWithoutANumericKeyShouldBeSkipped() {
+        listener.kafkaConsumer(record(null, null));
+        listener.kafkaConsumer(record("not-a-number", new CustomerDto(7L, "Cliente 7", true)));
+
+        verifyNoInteractions(customerLookupService);
+    }
+}
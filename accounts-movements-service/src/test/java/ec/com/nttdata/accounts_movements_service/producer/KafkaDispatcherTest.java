@@ -0,0 +1,129 @@
+package ec.com.nttdata.accounts_movements_service.producer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import ec.com.nttdata.accounts_movements_service.config.kafka.KafkaEventHeaders;
+import ec.com.nttdata.accounts_movements_service.config.kafka.KafkaMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+class KafkaDispatcherTest {
+
+    private static final String TOPIC = "movements";
+
+    private KafkaTemplate<String, KafkaMessage<?>> producer;
+    private SimpleMeterRegistry meterRegistry;
+    private KafkaDispatcher dispatcher;
+    private final List<CompletableFuture<SendResult<String, KafkaMessage<?>>>> pending = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        producer = mock(KafkaTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(producer.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            CompletableFuture<SendResult<String, KafkaMessage<?>>> future = new CompletableFuture<>();
+            synchronized (pending) {
+                pending.add(future);
+            }
+            return future;
+        });
+        dispatcher = new KafkaDispatcher(producer, meterRegistry, 2, Duration.ofMillis(50));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.destroy();
+    }
+
+    @Test
+    void shouldSendEachMessageInItsOwnEnvelope() {
+        dispatcher.sendMessage("first", TOPIC, "create");
+        dispatcher.sendMessage("second", TOPIC, "update");
+
+        ArgumentCaptor<ProducerRecord<String, KafkaMessage<?>>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(producer, timeout(1000).times(2)).send(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(ProducerRecord::value)
+                .extracting(KafkaMessage::getData, KafkaMessage::getAction, KafkaMessage::getVersion)
+                .containsExactlyInAnyOrder(
+                        tuple("first", "create", 1),
+                        tuple("second", "update", 1));
+        assertThat(captor.getAllValues()).allSatisfy(record -> assertThat(record.topic()).isEqualTo(TOPIC));
+    }
+
+    @Test
+    void shouldSendKeyedMessagesWithEventHeaders() {
+        dispatcher.sendMessage("7", "keyed", TOPIC, "create", 2);
+
+        ArgumentCaptor<ProducerRecord<String, KafkaMessage<?>>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(producer, timeout(1000)).send(captor.capture());
+        ProducerRecord<String, KafkaMessage<?>> record = captor.getValue();
+        assertThat(record.key()).isEqualTo("7");
+        assertThat(new String(record.headers().lastHeader(KafkaEventHeaders.TYPE).value(), StandardCharsets.UTF_8))
+                .isEqualTo("create");
+        assertThat(new String(record.headers().lastHeader(KafkaEventHeaders.VERSION).value(), StandardCharsets.UTF_8))
+                .isEqualTo("2");
+    }
+
+    @Test
+    void shouldRejectWhenInFlightWindowIsFullAndRecoverAfterCompletion() throws Exception {
+        CompletableFuture<SendResult<String, KafkaMessage<?>>> first = dispatcher.sendMessage("a", TOPIC, "create");
+        dispatcher.sendMessage("b", TOPIC, "create");
+
+        CompletableFuture<SendResult<String, KafkaMessage<?>>> rejected = dispatcher.sendMessage("c", TOPIC, "create");
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(meterRegistry.get("kafka.dispatcher.in.flight").gauge().value()).isEqualTo(2.0);
+
+        verify(producer, timeout(1000).times(2)).send(any(ProducerRecord.class));
+        synchronized (pending) {
+            pending.getFirst().complete(null);
+        }
+        first.get(1, TimeUnit.SECONDS);
+
+        CompletableFuture<SendResult<String, KafkaMessage<?>>> accepted = dispatcher.sendMessage("d", TOPIC, "create");
+        assertThat(accepted).isNotCompletedExceptionally();
+        assertThat(meterRegistry.get("kafka.dispatcher.send.failures").tag("topic", TOPIC).counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("kafka.dispatcher.send").tag("outcome", "success").timer().count())
+                .isEqualTo(1L);
+        assertThat(rejected).failsWithin(Duration.ZERO)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void shouldRecordFailedSends() throws Exception {
+        CompletableFuture<SendResult<String, KafkaMessage<?>>> result = dispatcher.sendMessage("a", TOPIC, "create");
+        verify(producer, timeout(1000)).send(any(ProducerRecord.class));
+        synchronized (pending) {
+            pending.getFirst().completeExceptionally(new IllegalStateException("broker down"));
+        }
+
+        assertThat(result).failsWithin(1, TimeUnit.SECONDS);
+        assertThat(meterRegistry.get("kafka.dispatcher.send").tag("outcome", "failure").timer().count())
+                .isEqualTo(1L);
+        assertThat(meterRegistry.get("kafka.dispatcher.send.failures").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("kafka.dispatcher.in.flight").gauge().value()).isZero();
+    }
+}
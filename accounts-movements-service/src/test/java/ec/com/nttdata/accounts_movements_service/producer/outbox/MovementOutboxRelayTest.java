@@ -0,0 +1,152 @@
+package ec.com.nttdata.accounts_movements_service.producer.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ec.com.nttdata.accounts_movements_service.enums.OutboxStatusEnum;
+import ec.com.nttdata.accounts_movements_service.model.OutboxEvent;
+import ec.com.nttdata.accounts_movements_service.producer.KafkaDispatcher;
+import ec.com.nttdata.accounts_movements_service.repository.OutboxEventRepository;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+
+class MovementOutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository repository;
+    @Mock
+    private KafkaDispatcher kafkaDispatcher;
+
+    private MovementOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        relay = new MovementOutboxRelay(repository, kafkaDispatcher, new ObjectMapper(), 10, Duration.ofSeconds(1));
+        when(kafkaDispatcher.sendMessage(any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    private OutboxEvent buildEvent(Long id, Long accountId) {
+        return this.buildEvent(id, accountId, "{\"customerId\":1,\"amount\":10}");
+    }
+
+    private OutboxEvent buildEvent(Long id, Long accountId, String payload) {
+        return OutboxEvent.builder()
+                .id(id)
+                .accountId(accountId)
+                .topic("movements")
+                .action("create")
+                .payload(payload)
+                .build();
+    }
+
+    private void givenPending(OutboxEvent... events) {
+        when(repository.findByStatusOrderByIdAsc(eq(OutboxStatusEnum.PENDING), any(Pageable.class)))
+                .thenReturn(List.of(events));
+    }
+
+    @Test
+    void shouldPublishInIdOrderAndDeleteSentEvents() {
+        givenPending(buildEvent(1L, 5L), buildEvent(2L, 6L), buildEvent(3L, 5L));
+
+        assertThat(relay.relayBatch()).isEqualTo(3);
+
+        InOrder inOrder = inOrder(kafkaDispatcher);
+        inOrder.verify(kafkaDispatcher).sendMessage(eq("5"), any(), eq("movements"), eq("create"));
+        inOrder.verify(kafkaDispatcher).sendMessage(eq("6"), any(), eq("movements"), eq("create"));
+        inOrder.verify(kafkaDispatcher).sendMessage(eq("5"), any(), eq("movements"), eq("create"));
+        verify(repository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void shouldKeepFailedEventAndLaterEventsOfSameAccount() {
+        givenPending(buildEvent(1L, 5L), buildEvent(2L, 6L), buildEvent(3L, 5L));
+        when(kafkaDispatcher.sendMessage(eq("5"), any(), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        assertThat(relay.relayBatch()).isZero();
+
+        // El evento 3 ni siquiera se envía: no puede llegar a Kafka antes que el 1, que falló en la misma cuenta
+        verify(kafkaDispatcher, times(1)).sendMessage(eq("5"), any(), any(), any());
+        verify(repository).deleteAllByIdInBatch(List.of(2L));
+        verify(repository, never()).markDead(anyLong(), anyString());
+    }
+
+    @Test
+    void shouldSendNextEventOfAnAccountOnlyAfterThePreviousIsAcknowledged() {
+        givenPending(buildEvent(1L, 5L), buildEvent(2L, 5L));
+        CompletableFuture<Void> firstAck = new CompletableFuture<>();
+        when(kafkaDispatcher.sendMessage(eq("5"), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS).execute(() -> firstAck.complete(null));
+                    return firstAck;
+                })
+                .thenAnswer(invocation -> {
+                    // El segundo evento de la cuenta no sale mientras el primero siga sin confirmar
+                    assertThat(firstAck).isDone();
+                    return CompletableFuture.completedFuture(null);
+                });
+
+        assertThat(relay.relayBatch()).isEqualTo(2);
+
+        verify(kafkaDispatcher, times(2)).sendMessage(eq("5"), any(), any(), any());
+        verify(repository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    void shouldDeadLetterUnreadablePayloadWithoutBlockingTheAccount() {
+        givenPending(buildEvent(1L, 5L, "{not json"), buildEvent(2L, 5L));
+
+        assertThat(relay.relayBatch()).isEqualTo(2);
+
+        verify(repository).markDead(eq(1L), anyString());
+        verify(kafkaDispatcher, times(1)).sendMessage(eq("5"), any(), any(), any());
+        verify(repository).deleteAllByIdInBatch(List.of(2L));
+    }
+
+    @Test
+    void shouldDeadLetterEventsKafkaCannotSerialize() {
+        givenPending(buildEvent(1L, 5L), buildEvent(2L, 5L));
+        when(kafkaDispatcher.sendMessage(eq("5"), any(), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new SerializationException("schema mismatch")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        assertThat(relay.relayBatch()).isEqualTo(2);
+
+        verify(repository).markDead(eq(1L), anyString());
+        verify(repository).deleteAllByIdInBatch(List.of(2L));
+    }
+
+    @Test
+    void shouldDoNothingWhenOutboxIsEmpty() {
+        when(repository.findByStatusOrderByIdAsc(eq(OutboxStatusEnum.PENDING), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        relay.relay();
+
+        verify(kafkaDispatcher, never()).sendMessage(any(), any(), any(), any());
+        verify(repository, never()).deleteAllByIdInBatch(anyList());
+    }
+}
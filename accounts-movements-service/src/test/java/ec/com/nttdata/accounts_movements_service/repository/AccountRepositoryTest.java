@@ -0,0 +1,135 @@
+package ec.com.nttdata.accounts_movements_service.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ec.com.nttdata.accounts_movements_service.enums.AccountTypeEnum;
+import ec.com.nttdata.accounts_movements_service.model.Account;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Valida el UPDATE condicional del saldo contra la base real: cada prueba usa sus propias transacciones para que
+ * los débitos concurrentes compitan por la fila como en producción.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccountRepositoryTest {
+
+    @Autowired
+    private AccountRepository repository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> accountIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAllById(accountIds);
+    }
+
+    @Test
+    void creditShouldAddToTheBalanceAndBumpTheVersion() {
+        Account account = saveAccount(BigDecimal.valueOf(100));
+
+        int updated = applyDelta(account.getId(), BigDecimal.valueOf(50));
+
+        Account reloaded = repository.findById(account.getId()).orElseThrow();
+        assertThat(updated).isEqualTo(1);
+        assertThat(reloaded.getActualBalance()).isEqualByComparingTo("150");
+        assertThat(reloaded.getVersion()).isEqualTo(account.getVersion() + 1);
+        assertThat(reloaded.getUpdatedAt()).isNotNull();
+    }
+
+    @Test
+    void debitBeyondTheBalanceShouldBeRefused() {
+        Account account = saveAccount(BigDecimal.valueOf(100));
+
+        int updated = applyDelta(account.getId(), BigDecimal.valueOf(-100.01));
+
+        assertThat(updated).isZero();
+        assertThat(repository.findById(account.getId()).orElseThrow().getActualBalance()).isEqualByComparingTo("100");
+    }
+
+    @Test
+    void missingAccountShouldUpdateNothing() {
+        assertThat(applyDelta(Long.MAX_VALUE, BigDecimal.TEN)).isZero();
+    }
+
+    @Test
+    void readAfterTheUpdateShouldNotReturnTheStaleManagedInstance() {
+        Account account = saveAccount(BigDecimal.valueOf(100));
+
+        BigDecimal balance = new TransactionTemplate(transactionManager).execute(status -> {
+            // La cuenta queda administrada en el contexto antes del UPDATE, como en el flujo del servicio
+            repository.findById(account.getId()).orElseThrow();
+            repository.applyBalanceDelta(account.getId(), BigDecimal.valueOf(-30), LocalDateTime.now());
+            return repository.findById(account.getId()).orElseThrow().getActualBalance();
+        });
+
+        assertThat(balance).isEqualByComparingTo("70");
+    }
+
+    @Test
+    void concurrentDebitsShouldNeverOverdrawTheAccount() throws Exception {
+        Account account = saveAccount(BigDecimal.valueOf(100));
+        int debits = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(debits);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < debits; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return applyDelta(account.getId(), BigDecimal.valueOf(-30));
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Integer> result : results) {
+                succeeded += result.get(10, TimeUnit.SECONDS);
+            }
+
+            // 100 alcanza para tres débitos de 30; el resto debe ser rechazado por la condición del UPDATE
+            Account reloaded = repository.findById(account.getId()).orElseThrow();
+            assertThat(succeeded).isEqualTo(3);
+            assertThat(reloaded.getActualBalance()).isEqualByComparingTo("10");
+            assertThat(reloaded.getVersion()).isEqualTo(account.getVersion() + succeeded);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int applyDelta(Long accountId, BigDecimal delta) {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                repository.applyBalanceDelta(accountId, delta, LocalDateTime.now()));
+    }
+
+    private Account saveAccount(BigDecimal balance) {
+        Account account = repository.save(Account.builder()
+                .accountNumber("ACC-" + System.nanoTime())
+                .accountType(AccountTypeEnum.SAVINGS)
+                .initialBalance(balance)
+                .actualBalance(balance)
+                .status(true)
+                .customerId(1L)
+                .build());
+        accountIds.add(account.getId());
+        return account;
+    }
+}
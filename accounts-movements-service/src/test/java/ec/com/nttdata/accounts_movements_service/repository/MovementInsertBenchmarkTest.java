@@ -0,0 +1,109 @@
+package ec.com.nttdata.accounts_movements_service.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ec.com.nttdata.accounts_movements_service.enums.MovementTypeEnum;
+import ec.com.nttdata.accounts_movements_service.model.Account;
+import ec.com.nttdata.accounts_movements_service.model.Movement;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compara el throughput de inserción de movimientos con y sin lotes JDBC.
+ *
+ * <p>"Antes" se simula con un tamaño de lote de 1 (un round trip por INSERT, igual que con IDENTITY) y "después"
+ * con el tamaño configurado en {@code hibernate.jdbc.batch_size}. Se ejecuta con {@code ./gradlew benchmark}.</p>
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MovementInsertBenchmarkTest {
+
+    private static final int MOVEMENTS = 100_000;
+    private static final int WARM_UP_MOVEMENTS = 10_000;
+    private static final int FLUSH_INTERVAL = 1_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MovementRepository movementRepository;
+
+    @Test
+    void batchedInsertsShouldOutperformSingleRowInserts() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        insertMovements(WARM_UP_MOVEMENTS, 1);
+        insertMovements(WARM_UP_MOVEMENTS, BATCH_SIZE);
+
+        statistics.clear();
+        long unbatchedNanos = insertMovements(MOVEMENTS, 1);
+        long unbatchedStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        long batchedNanos = insertMovements(MOVEMENTS, BATCH_SIZE);
+        long batchedStatements = statistics.getPrepareStatementCount();
+
+        log.info("Unbatched: {} movements in {} ms ({} movements/s, {} statements)", MOVEMENTS,
+                TimeUnit.NANOSECONDS.toMillis(unbatchedNanos), throughput(unbatchedNanos), unbatchedStatements);
+        log.info("Batched (size {}): {} movements in {} ms ({} movements/s, {} statements)", BATCH_SIZE, MOVEMENTS,
+                TimeUnit.NANOSECONDS.toMillis(batchedNanos), throughput(batchedNanos), batchedStatements);
+
+        assertThat(batchedStatements).isLessThan(unbatchedStatements / 10);
+    }
+
+    private long insertMovements(int count, int jdbcBatchSize) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            Account account = entityManager.getReference(Account.class, 1L);
+            for (int i = 1; i <= count; i++) {
+                entityManager.persist(buildMovement(account));
+                if (i % FLUSH_INTERVAL == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    account = entityManager.getReference(Account.class, 1L);
+                }
+            }
+        });
+        long elapsed = System.nanoTime() - start;
+        assertThat(movementRepository.count()).isGreaterThanOrEqualTo(count);
+        movementRepository.deleteAllInBatch();
+        return elapsed;
+    }
+
+    private Movement buildMovement(Account account) {
+        Movement movement = new Movement();
+        movement.setAccount(account);
+        movement.setDate(LocalDateTime.now());
+        movement.setMovementType(MovementTypeEnum.DEPOSIT);
+        movement.setAmount(BigDecimal.ONE);
+        movement.setBalance(BigDecimal.ONE);
+        return movement;
+    }
+
+    private long throughput(long nanos) {
+        return MOVEMENTS * TimeUnit.SECONDS.toNanos(1) / Math.max(1, nanos);
+    }
+}
@@ -0,0 +1,136 @@
+package ec.com.nttdata.accounts_movements_service.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ec.com.nttdata.accounts_movements_service.enums.MovementTypeEnum;
+import ec.com.nttdata.accounts_movements_service.model.Account;
+import ec.com.nttdata.accounts_movements_service.model.Movement;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Latencia de una página de /movements según su profundidad, con offset ({@code LIMIT/OFFSET} + {@code COUNT(*)})
+ * y con cursor por (date, id).
+ *
+ * <p>Con offset la página 10.000 recorre y descarta las 200.000 filas anteriores; con cursor el índice
+ * "ix_movements_date_id" ubica directamente la primera fila, así la latencia se mantiene plana. Se ejecuta con
+ * {@code ./gradlew benchmark}.</p>
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MovementPaginationBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 10_000;
+    private static final int MOVEMENTS = (DEEP_PAGE + 1) * PAGE_SIZE;
+    private static final int FLUSH_INTERVAL = 1_000;
+    private static final int SAMPLES = 50;
+    private static final Sort CHRONOLOGICAL = Sort.by("date", "id");
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MovementRepository movementRepository;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            Account account = entityManager.getReference(Account.class, 1L);
+            LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+            for (int i = 1; i <= MOVEMENTS; i++) {
+                // Dos movimientos por segundo: el id desempata fechas repetidas
+                entityManager.persist(buildMovement(account, start.plusSeconds(i / 2)));
+                if (i % FLUSH_INTERVAL == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    account = entityManager.getReference(Account.class, 1L);
+                }
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        movementRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void keysetLatencyShouldStayFlatAtDeepPages() {
+        Movement beforeDeepPage = movementRepository
+                .findAll(PageRequest.of(DEEP_PAGE * PAGE_SIZE - 1, 1, CHRONOLOGICAL))
+                .getContent().get(0);
+
+        long offsetFirst = p50(() -> movementRepository.findAll(PageRequest.of(0, PAGE_SIZE, CHRONOLOGICAL))
+                .getContent());
+        long offsetDeep = p50(() -> movementRepository.findAll(PageRequest.of(DEEP_PAGE, PAGE_SIZE, CHRONOLOGICAL))
+                .getContent());
+        long keysetFirst = p50(() -> movementRepository.findAllByOrderByDateAscIdAsc(
+                PageRequest.ofSize(PAGE_SIZE + 1)));
+        long keysetDeep = p50(() -> movementRepository.findAfter(
+                beforeDeepPage.getDate(), beforeDeepPage.getId(), PageRequest.ofSize(PAGE_SIZE + 1)));
+
+        log.info("Offset p50: page 0 = {} us, page {} = {} us", micros(offsetFirst), DEEP_PAGE, micros(offsetDeep));
+        log.info("Keyset p50: page 0 = {} us, page {} = {} us", micros(keysetFirst), DEEP_PAGE, micros(keysetDeep));
+
+        List<Movement> deepPage = movementRepository.findAfter(
+                beforeDeepPage.getDate(), beforeDeepPage.getId(), PageRequest.ofSize(PAGE_SIZE));
+        assertThat(deepPage).hasSize(PAGE_SIZE);
+        assertThat(deepPage).isEqualTo(movementRepository
+                .findAll(PageRequest.of(DEEP_PAGE, PAGE_SIZE, CHRONOLOGICAL)).getContent());
+        assertThat(keysetDeep).isLessThan(offsetDeep);
+        assertThat(keysetDeep).isLessThan(Math.max(keysetFirst, TimeUnit.MILLISECONDS.toNanos(1)) * 5);
+    }
+
+    private long p50(Supplier<List<Movement>> page) {
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES * 2; i++) {
+            long start = System.nanoTime();
+            transactionTemplate.execute(status -> page.get());
+            // La primera mitad solo calienta JIT y caché de sentencias
+            if (i >= SAMPLES) {
+                samples[i - SAMPLES] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+
+    private long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private Movement buildMovement(Account account, LocalDateTime date) {
+        Movement movement = new Movement();
+        movement.setAccount(account);
+        movement.setDate(date);
+        movement.setMovementType(MovementTypeEnum.DEPOSIT);
+        movement.setAmount(BigDecimal.ONE);
+        movement.setBalance(BigDecimal.ONE);
+        return movement;
+    }
+}
@@ -3,21 +3,26 @@ package ec.com.nttdata.accounts_movements_service.service.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import ec.com.nttdata.accounts_movements_service.client.CustomerClient;
 import ec.com.nttdata.accounts_movements_service.client.dto.CustomerDto;
 import ec.com.nttdata.accounts_movements_service.dto.account.request.AccountRequest;
 import ec.com.nttdata.accounts_movements_service.dto.account.response.AccountResponse;
+import ec.com.nttdata.accounts_movements_service.dto.page.CursorPage;
+import ec.com.nttdata.accounts_movements_service.dto.page.PageCursor;
 import ec.com.nttdata.accounts_movements_service.enums.AccountTypeEnum;
 import ec.com.nttdata.accounts_movements_service.event_handler.dto.AccountBalanceDto;
 import ec.com.nttdata.accounts_movements_service.exception.AccountNotFoundException;
 import ec.com.nttdata.accounts_movements_service.exception.CustomerNotFoundException;
+import ec.com.nttdata.accounts_movements_service.exception.InsufficientFoundsException;
 import ec.com.nttdata.accounts_movements_service.mapper.AccountMapper;
 import ec.com.nttdata.accounts_movements_service.model.Account;
 import ec.com.nttdata.accounts_movements_service.repository.AccountRepository;
+import ec.com.nttdata.accounts_movements_service.service.CustomerLookupService;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.util.List;
@@ -33,6 +38,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 @ExtendWith(org.mockito.junit.jupiter.MockitoExtension.class)
 class AccountServiceImplTest {
@@ -50,7 +56,7 @@ class AccountServiceImplTest {
     private AccountMapper mapper;
 
     @Mock
-    private CustomerClient customerClient;
+    private CustomerLookupService customerLookupService;
 
     @Mock
     private ApplicationEventPublisher publisher;
@@ -102,7 +108,7 @@ class AccountServiceImplTest {
     @Test
     @DisplayName("Should create account and publish event")
     void create_ShouldCreateAccountAndPublishDepositEvent() {
-        when(customerClient.show(any())).thenReturn(customerDto);
+        when(customerLookupService.show(any())).thenReturn(customerDto);
         when(mapper.toModel(any(AccountRequest.class))).thenReturn(account);
         when(repository.save(any(Account.class))).thenReturn(account);
         when(mapper.toResponse(any(Account.class))).thenReturn(response);
@@ -135,7 +141,7 @@ class AccountServiceImplTest {
     @Test
     void update_ShouldUpdateAccount_WhenValid() {
         when(repository.findById(1L)).thenReturn(Optional.of(account));
-        when(customerClient.show(any())).thenReturn(customerDto);
+        when(customerLookupService.show(any())).thenReturn(customerDto);
         doAnswer(inv -> {
             AccountRequest req = inv.getArgument(0);
             Account acc = inv.getArgument(1);
@@ -172,20 +178,104 @@ class AccountServiceImplTest {
         assertThat(result.getContent()).hasSize(1);
     }
 
+    @Test
+    void scroll_ShouldReturnNextCursorWithoutCounting() {
+        Account second = buildSampleAccount();
+        second.setId(2L);
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(account, second));
+        when(mapper.toResponse(account)).thenReturn(response);
+
+        CursorPage<AccountResponse> result = service.scroll(PageCursor.of(10L).encode(), 1);
+
+        assertThat(result.getContent()).containsExactly(response);
+        assertThat(PageCursor.decode(result.getNextCursor())).isEqualTo(PageCursor.of(account.getId()));
+        verify(repository).findByIdGreaterThanOrderByIdAsc(10L, PageRequest.ofSize(2));
+        verify(repository, never()).count();
+    }
+
+    @Test
+    void scroll_ShouldEndWithoutCursorOnLastPage() {
+        when(repository.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(account));
+        when(mapper.toResponse(account)).thenReturn(response);
+
+        CursorPage<AccountResponse> result = service.scroll("", 20);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void scroll_ShouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> service.scroll("not-a-cursor!", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void updateAccountBalance_ShouldUpdateActualBalance() {
         AccountBalanceDto dto = new AccountBalanceDto(this, 1L, BigDecimal.valueOf(500));
-        when(repository.findById(1L)).thenReturn(Optional.of(account));
+        dto.setVersion(3L);
+        when(repository.updateActualBalance(eq(1L), eq(BigDecimal.valueOf(500)), eq(3L), any())).thenReturn(1);
 
         service.updateAccountBalance(dto);
 
-        assertThat(account.getActualBalance()).isEqualTo(BigDecimal.valueOf(500));
-        verify(repository).save(account);
+        verify(repository).updateActualBalance(eq(1L), eq(BigDecimal.valueOf(500)), eq(3L), any());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void updateAccountBalance_ShouldThrow_WhenAccountDoesNotExist() {
+        AccountBalanceDto dto = new AccountBalanceDto(this, 99L, BigDecimal.valueOf(500));
+        when(repository.updateActualBalance(eq(99L), any(), any(), any())).thenReturn(0);
+        when(repository.existsById(99L)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.updateAccountBalance(dto))
+                .isInstanceOf(AccountNotFoundException.class);
+    }
+
+    @Test
+    void updateAccountBalance_ShouldThrowConflict_WhenVersionChanged() {
+        AccountBalanceDto dto = new AccountBalanceDto(this, 1L, BigDecimal.valueOf(500));
+        dto.setVersion(2L);
+        when(repository.updateActualBalance(eq(1L), any(), eq(2L), any())).thenReturn(0);
+        when(repository.existsById(1L)).thenReturn(true);
+
+        assertThatThrownBy(() -> service.updateAccountBalance(dto))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void applyBalanceDelta_ShouldReturnUpdatedAccount() {
+        account.setActualBalance(BigDecimal.valueOf(150));
+        when(repository.applyBalanceDelta(eq(1L), eq(BigDecimal.valueOf(50)), any())).thenReturn(1);
+        when(repository.findById(1L)).thenReturn(Optional.of(account));
+
+        Account result = service.applyBalanceDelta(1L, BigDecimal.valueOf(50));
+
+        assertThat(result.getActualBalance()).isEqualTo(BigDecimal.valueOf(150));
+    }
+
+    @Test
+    void applyBalanceDelta_ShouldThrowInsufficientFunds_WhenGuardRejectsDebit() {
+        when(repository.applyBalanceDelta(eq(1L), eq(BigDecimal.valueOf(-500)), any())).thenReturn(0);
+        when(repository.existsById(1L)).thenReturn(true);
+
+        assertThatThrownBy(() -> service.applyBalanceDelta(1L, BigDecimal.valueOf(-500)))
+                .isInstanceOf(InsufficientFoundsException.class);
+    }
+
+    @Test
+    void applyBalanceDelta_ShouldThrowNotFound_WhenAccountDoesNotExist() {
+        when(repository.applyBalanceDelta(eq(99L), eq(BigDecimal.TEN), any())).thenReturn(0);
+        when(repository.existsById(99L)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.applyBalanceDelta(99L, BigDecimal.TEN))
+                .isInstanceOf(AccountNotFoundException.class);
     }
 
     @Test
     void validateCustomerExists_ShouldThrow_WhenCustomerNotFound() {
-        when(customerClient.show(999L)).thenThrow(new CustomerNotFoundException("Not found"));
+        when(customerLookupService.show(999L)).thenThrow(new CustomerNotFoundException("Not found"));
 
         assertThatThrownBy(() -> {
             request.setCustomerId(999L);
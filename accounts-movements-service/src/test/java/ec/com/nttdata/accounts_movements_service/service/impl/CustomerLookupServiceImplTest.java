@@ -0,0 +1,98 @@
+package ec.com.nttdata.accounts_movements_service.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import ec.com.nttdata.accounts_movements_service.client.CachedCustomerClient;
+import ec.com.nttdata.accounts_movements_service.client.dto.CustomerDto;
+import ec.com.nttdata.accounts_movements_service.model.CustomerReplica;
+import ec.com.nttdata.accounts_movements_service.repository.CustomerReplicaRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerLookupServiceImplTest {
+
+    @InjectMocks
+    private CustomerLookupServiceImpl customerLookupService;
+
+    @Mock
+    private CustomerReplicaRepository replicaRepository;
+
+    @Mock
+    private CachedCustomerClient customerClient;
+
+    private CustomerReplica replica(Long id, String name) {
+        return CustomerReplica.builder().id(id).name(name).status(true).build();
+    }
+
+    @Test
+    void showShouldUseReplicaWithoutCallingCustomerService() {
+        when(replicaRepository.findById(1L)).thenReturn(Optional.of(replica(1L, "Jose Lema")));
+
+        CustomerDto customer = customerLookupService.show(1L);
+
+        assertThat(customer.getName()).isEqualTo("Jose Lema");
+        assertThat(customer.getStatus()).isTrue();
+        verify(customerClient, never()).show(any());
+    }
+
+    @Test
+    void showShouldFallBackToCustomerServiceOnMiss() {
+        CustomerDto remote = new CustomerDto(2L, "Marianela Montalvo", true);
+        when(replicaRepository.findById(2L)).thenReturn(Optional.empty());
+        when(customerClient.show(2L)).thenReturn(remote);
+
+        assertThat(customerLookupService.show(2L)).isSameAs(remote);
+    }
+
+    @Test
+    void showByIdsShouldOnlyRequestMissingIds() {
+        when(replicaRepository.findAllById(Set.of(1L, 2L, 3L)))
+                .thenReturn(List.of(replica(1L, "Jose Lema"), replica(3L, "Juan Osorio")));
+        when(customerClient.showByIds(Set.of(2L))).thenReturn(Set.of(new CustomerDto(2L, "Marianela Montalvo", true)));
+
+        Set<CustomerDto> customers = customerLookupService.showByIds(Set.of(1L, 2L, 3L));
+
+        assertThat(customers).extracting(CustomerDto::getId).containsExactlyInAnyOrder(1L, 2L, 3L);
+        verify(customerClient).showByIds(Set.of(2L));
+    }
+
+    @Test
+    void showByIdsShouldSkipRemoteCallWhenAllReplicated() {
+        when(replicaRepository.findAllById(Set.of(1L))).thenReturn(List.of(replica(1L, "Jose Lema")));
+
+        assertThat(customerLookupService.showByIds(Set.of(1L))).hasSize(1);
+        verify(customerClient, never()).showByIds(any());
+    }
+
+    @Test
+    void upsertShouldSaveReplica() {
+        customerLookupService.upsert(new CustomerDto(4L, "Ana", false));
+
+        ArgumentCaptor<CustomerReplica> captor = ArgumentCaptor.forClass(CustomerReplica.class);
+        verify(replicaRepository).save(captor.capture());
+        assertThat(captor.getValue().getId()).isEqualTo(4L);
+        assertThat(captor.getValue().getName()).isEqualTo("Ana");
+        assertThat(captor.getValue().getStatus()).isFalse();
+        verify(customerClient).evict(4L);
+    }
+
+    @Test
+    void removeShouldDeleteReplica() {
+        customerLookupService.remove(4L);
+
+        verify(replicaRepository).deleteById(4L);
+        verify(customerClient).evict(4L);
+    }
+}
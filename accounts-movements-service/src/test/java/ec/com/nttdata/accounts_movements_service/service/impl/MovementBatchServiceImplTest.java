@@ -0,0 +1,193 @@
+package ec.com.nttdata.accounts_movements_service.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import ec.com.nttdata.accounts_movements_service.dto.movement.request.MovementRequest;
+import ec.com.nttdata.accounts_movements_service.dto.movement.response.MovementBatchItemResponse;
+import ec.com.nttdata.accounts_movements_service.dto.movement.response.MovementBatchResponse;
+import ec.com.nttdata.accounts_movements_service.dto.movement.response.MovementResponse;
+import ec.com.nttdata.accounts_movements_service.enums.MovementBatchStatusEnum;
+import ec.com.nttdata.accounts_movements_service.enums.MovementTypeEnum;
+import ec.com.nttdata.accounts_movements_service.mapper.MovementMapper;
+import ec.com.nttdata.accounts_movements_service.model.Account;
+import ec.com.nttdata.accounts_movements_service.model.Movement;
+import ec.com.nttdata.accounts_movements_service.producer.customer.EventAccountCustomerPublisher;
+import ec.com.nttdata.accounts_movements_service.repository.MovementRepository;
+import ec.com.nttdata.accounts_movements_service.service.AccountService;
+import ec.com.nttdata.accounts_movements_service.service.ledger.AccountLedger;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import jakarta.validation.Validation;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+class MovementBatchServiceImplTest {
+
+    @Mock
+    private MovementRepository repository;
+    @Mock
+    private MovementMapper mapper;
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private EventAccountCustomerPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(mapper.toModel(any(MovementRequest.class))).thenAnswer(invocation -> {
+            MovementRequest request = invocation.getArgument(0);
+            Movement movement = new Movement();
+            movement.setDate(request.getDate());
+            movement.setMovementType(request.getMovementType());
+            movement.setAmount(request.getAmount());
+            return movement;
+        });
+        when(mapper.toResponse(any(Movement.class))).thenAnswer(invocation -> {
+            Movement movement = invocation.getArgument(0);
+            MovementResponse response = new MovementResponse();
+            response.setAmount(movement.getAmount());
+            response.setBalance(movement.getBalance());
+            return response;
+        });
+    }
+
+    private MovementBatchServiceImpl buildService(int chunkSize) {
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom().maxAttempts(1).build());
+        return new MovementBatchServiceImpl(repository, mapper, accountService, eventPublisher,
+                new AccountLedger(TransactionOperations.withoutTransaction(), 4),
+                Validation.buildDefaultValidatorFactory().getValidator(), retryRegistry, chunkSize);
+    }
+
+    private MovementRequest buildRequest(Long accountId, MovementTypeEnum type, BigDecimal amount) {
+        return MovementRequest.builder()
+                .accountId(accountId)
+                .movementType(type)
+                .amount(amount)
+                .date(LocalDateTime.now())
+                .build();
+    }
+
+    private Account buildAccount(Long id, BigDecimal balance) {
+        Account account = new Account();
+        account.setId(id);
+        account.setCustomerId(10L);
+        account.setActualBalance(balance);
+        return account;
+    }
+
+    @Test
+    void shouldPostChunkGroupedByAccountWithPerItemResults() {
+        Account account = buildAccount(1L, BigDecimal.valueOf(100));
+        when(accountService.showByIds(anyCollection())).thenReturn(List.of(account));
+        List<MovementRequest> requests = new ArrayList<>();
+        requests.add(buildRequest(1L, MovementTypeEnum.DEPOSIT, BigDecimal.valueOf(50)));
+        requests.add(buildRequest(1L, MovementTypeEnum.WITHDRAWAL, BigDecimal.valueOf(200)));
+        requests.add(buildRequest(2L, MovementTypeEnum.DEPOSIT, BigDecimal.TEN));
+        requests.add(buildRequest(1L, MovementTypeEnum.WITHDRAWAL, BigDecimal.valueOf(100)));
+        requests.add(buildRequest(1L, MovementTypeEnum.DEPOSIT, null));
+
+        MovementBatchResponse response = buildService(500).createBatch(requests.iterator());
+
+        assertEquals(5, response.getTotal());
+        assertEquals(2, response.getPosted());
+        assertEquals(3, response.getRejected());
+        List<MovementBatchItemResponse> items = response.getItems();
+        assertEquals(MovementBatchStatusEnum.POSTED, items.get(0).getStatus());
+        assertEquals(BigDecimal.valueOf(150), items.get(0).getMovement().getBalance());
+        assertEquals("Fondos insuficientes", items.get(1).getError());
+        assertEquals("Account with ID 2 does not exist", items.get(2).getError());
+        assertEquals(MovementBatchStatusEnum.POSTED, items.get(3).getStatus());
+        assertEquals(BigDecimal.valueOf(50), items.get(3).getMovement().getBalance());
+        assertEquals("amount cannot be null", items.get(4).getError());
+        assertNull(items.get(4).getMovement());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(i, items.get(i).getIndex());
+        }
+
+        // Una sola lectura de cuentas y un solo saveAll por bloque; el saldo se escribe una vez
+        assertEquals(BigDecimal.valueOf(50), account.getActualBalance());
+        verify(accountService, times(1)).showByIds(anyCollection());
+        ArgumentCaptor<List<Movement>> saved = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(1)).saveAll(saved.capture());
+        assertEquals(2, saved.getValue().size());
+    }
+
+    @Test
+    void shouldSplitRequestsIntoChunks() {
+        Account account = buildAccount(1L, BigDecimal.ZERO);
+        when(accountService.showByIds(anyCollection())).thenReturn(List.of(account));
+        List<MovementRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            requests.add(buildRequest(1L, MovementTypeEnum.DEPOSIT, BigDecimal.ONE));
+        }
+
+        MovementBatchResponse response = buildService(2).createBatch(requests.iterator());
+
+        assertEquals(5, response.getPosted());
+        assertEquals(BigDecimal.valueOf(5), account.getActualBalance());
+        verify(accountService, times(3)).showByIds(anyCollection());
+        verify(repository, times(3)).saveAll(anyList());
+    }
+
+    @Test
+    void shouldHandOverEachChunkWithoutKeepingItems() {
+        Account account = buildAccount(1L, BigDecimal.ZERO);
+        when(accountService.showByIds(anyCollection())).thenReturn(List.of(account));
+        List<MovementRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            requests.add(buildRequest(1L, MovementTypeEnum.DEPOSIT, BigDecimal.ONE));
+        }
+        List<List<Integer>> chunks = new ArrayList<>();
+
+        MovementBatchResponse response = buildService(2).createBatch(requests.iterator(),
+                items -> chunks.add(items.stream().map(MovementBatchItemResponse::getIndex).toList()));
+
+        assertEquals(List.of(List.of(0, 1), List.of(2, 3), List.of(4)), chunks);
+        assertEquals(5, response.getTotal());
+        assertEquals(5, response.getPosted());
+        assertNull(response.getItems());
+    }
+
+    @Test
+    void shouldRejectNegativeAmounts() {
+        MovementRequest request = buildRequest(1L, MovementTypeEnum.DEPOSIT, BigDecimal.valueOf(-1));
+
+        MovementBatchResponse response = buildService(10).createBatch(List.of(request).iterator());
+
+        assertEquals(1, response.getRejected());
+        assertEquals("El monto del DEPOSITO no puede ser negativo: -1", response.getItems().get(0).getError());
+    }
+
+    @Test
+    void shouldRejectWholeChunkWhenPersistenceFails() {
+        when(accountService.showByIds(anyCollection()))
+                .thenReturn(List.of(buildAccount(1L, BigDecimal.valueOf(100))));
+        when(repository.saveAll(anyList())).thenThrow(new DataAccessResourceFailureException("db down"));
+        List<MovementRequest> requests = List.of(
+                buildRequest(1L, MovementTypeEnum.DEPOSIT, BigDecimal.ONE),
+                buildRequest(1L, MovementTypeEnum.DEPOSIT, BigDecimal.TEN));
+
+        MovementBatchResponse response = buildService(10).createBatch(requests.iterator());
+
+        assertEquals(0, response.getPosted());
+        assertEquals(2, response.getRejected());
+        assertEquals("db down", response.getItems().get(1).getError());
+    }
+}
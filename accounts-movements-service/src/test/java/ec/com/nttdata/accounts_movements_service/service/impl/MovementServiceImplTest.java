@@ -5,11 +5,15 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import ec.com.nttdata.accounts_movements_service.dto.movement.request.MovementRequest;
 import ec.com.nttdata.accounts_movements_service.dto.movement.response.MovementResponse;
+import ec.com.nttdata.accounts_movements_service.dto.page.CursorPage;
+import ec.com.nttdata.accounts_movements_service.dto.page.PageCursor;
 import ec.com.nttdata.accounts_movements_service.enums.MovementTypeEnum;
 import ec.com.nttdata.accounts_movements_service.exception.BalanceTypeSigNumUnavailableException;
 import ec.com.nttdata.accounts_movements_service.exception.InsufficientFoundsException;
@@ -20,18 +24,23 @@ import ec.com.nttdata.accounts_movements_service.model.Movement;
 import ec.com.nttdata.accounts_movements_service.producer.customer.EventAccountCustomerPublisher;
 import ec.com.nttdata.accounts_movements_service.repository.MovementRepository;
 import ec.com.nttdata.accounts_movements_service.service.AccountService;
+import ec.com.nttdata.accounts_movements_service.service.ledger.AccountLedger;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.context.ApplicationEventPublisher;
+import org.mockito.Spy;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
 
 class MovementServiceImplTest {
 
@@ -45,9 +54,9 @@ class MovementServiceImplTest {
     @Mock
     private AccountService accountService;
     @Mock
-    private ApplicationEventPublisher applicationEventPublisher;
-    @Mock
     private EventAccountCustomerPublisher eventPublisher;
+    @Spy
+    private AccountLedger accountLedger = new AccountLedger(TransactionOperations.withoutTransaction(), 4);
 
     @BeforeEach
     void setUp() {
@@ -91,14 +100,6 @@ class MovementServiceImplTest {
                 () -> service.validateTransactionType(request));
     }
 
-    @Test
-    void shouldThrowOnInsufficientFunds() {
-        MovementRequest request = buildRequest(MovementTypeEnum.WITHDRAWAL, BigDecimal.valueOf(150));
-        Account account = buildAccount(BigDecimal.valueOf(100));
-        assertThrows(InsufficientFoundsException.class,
-                () -> service.validateInsufficientFounds(account, request));
-    }
-
     @Test
     void shouldReturnMovementById() {
         Movement movement = new Movement();
@@ -136,6 +137,31 @@ class MovementServiceImplTest {
         assertEquals(0, page.getTotalElements());
     }
 
+    @Test
+    void shouldScrollByDateAndIdFromCursor() {
+        LocalDateTime date = LocalDateTime.of(2025, 1, 15, 10, 30);
+        Movement first = buildMovement(buildAccount(BigDecimal.TEN), BigDecimal.ONE);
+        first.setId(41L);
+        first.setDate(date);
+        Movement second = buildMovement(buildAccount(BigDecimal.TEN), BigDecimal.ONE);
+        second.setId(42L);
+        second.setDate(date);
+        when(repository.findAfter(date.minusDays(1), 7L, PageRequest.ofSize(2))).thenReturn(List.of(first, second));
+        when(mapper.toResponse(any(Movement.class))).thenReturn(new MovementResponse());
+
+        CursorPage<MovementResponse> page = service.scroll(PageCursor.of(date.minusDays(1), 7L).encode(), 1);
+
+        assertEquals(1, page.getSize());
+        assertEquals(PageCursor.of(date, 41L), PageCursor.decode(page.getNextCursor()));
+        verify(repository, never()).count();
+    }
+
+    @Test
+    void shouldRejectCursorWithoutDateForMovements() {
+        String cursor = PageCursor.of(7L).encode();
+        assertThrows(IllegalArgumentException.class, () -> service.scroll(cursor, 10));
+    }
+
     @Test
     void shouldCreateDepositMovement() {
         MovementRequest request = buildRequest(MovementTypeEnum.DEPOSIT, BigDecimal.valueOf(100));
@@ -143,25 +169,73 @@ class MovementServiceImplTest {
         Movement movement = buildMovement(account, request.getAmount());
 
         when(mapper.toModel(request)).thenReturn(movement);
-        when(accountService.showById(1L)).thenReturn(account);
+        when(accountService.applyBalanceDelta(1L, BigDecimal.valueOf(100))).thenReturn(account);
         when(repository.save(any(Movement.class))).thenReturn(movement);
         when(mapper.toResponse(any(Movement.class))).thenReturn(new MovementResponse());
 
         MovementResponse response = service.create(request);
 
         assertNotNull(response);
+        assertEquals(BigDecimal.valueOf(500), movement.getBalance());
         verify(repository).save(any(Movement.class));
-        verify(applicationEventPublisher).publishEvent(any());
+        verify(accountLedger).post(eq(1L), any());
+    }
+
+    @Test
+    void shouldCreateWithdrawalWithNegativeDelta() {
+        MovementRequest request = buildRequest(MovementTypeEnum.WITHDRAWAL, BigDecimal.valueOf(40));
+        Account account = buildAccount(BigDecimal.valueOf(60));
+        Movement movement = buildMovement(account, request.getAmount());
+
+        when(mapper.toModel(request)).thenReturn(movement);
+        when(accountService.applyBalanceDelta(1L, BigDecimal.valueOf(-40))).thenReturn(account);
+        when(mapper.toResponse(any(Movement.class))).thenReturn(new MovementResponse());
+
+        service.create(request);
+
+        assertEquals(BigDecimal.valueOf(60), movement.getBalance());
+        verify(accountService, never()).showById(any());
+    }
+
+    @Test
+    void shouldPropagateInsufficientFundsFromAtomicUpdate() {
+        MovementRequest request = buildRequest(MovementTypeEnum.WITHDRAWAL, BigDecimal.valueOf(150));
+        when(mapper.toModel(request)).thenReturn(new Movement());
+        when(accountService.applyBalanceDelta(1L, BigDecimal.valueOf(-150)))
+                .thenThrow(new InsufficientFoundsException("Fondos insuficientes"));
+
+        assertThrows(InsufficientFoundsException.class, () -> service.create(request));
+        verify(repository, never()).save(any(Movement.class));
+    }
+
+    @Test
+    void shouldCreateInitialMovementWithoutBalanceUpdate() {
+        MovementRequest request = buildRequest(MovementTypeEnum.DEPOSIT, BigDecimal.valueOf(100));
+        request.setStart(true);
+        Account account = buildAccount(BigDecimal.valueOf(100));
+        Movement movement = buildMovement(account, request.getAmount());
+
+        when(mapper.toModel(request)).thenReturn(movement);
+        when(accountService.showById(1L)).thenReturn(account);
+        when(mapper.toResponse(any(Movement.class))).thenReturn(new MovementResponse());
+
+        service.create(request);
+
+        assertEquals(BigDecimal.valueOf(100), movement.getBalance());
+        verify(accountService, never()).applyBalanceDelta(any(), any());
     }
 
     @Test
-    void shouldUpdateMovement() {
+    void shouldUpdateMovementWithNetDeltaOnSameAccount() {
         MovementRequest request = buildRequest(MovementTypeEnum.WITHDRAWAL, BigDecimal.valueOf(50));
         Account account = buildAccount(BigDecimal.valueOf(500));
         Movement movement = buildMovement(account, BigDecimal.valueOf(200));
+        movement.setMovementType(MovementTypeEnum.DEPOSIT);
+        Account updated = buildAccount(BigDecimal.valueOf(250));
 
         when(repository.findById(1L)).thenReturn(Optional.of(movement));
-        when(accountService.showById(1L)).thenReturn(account);
+        // Revierte el depósito de 200 y aplica el retiro de 50 en una sola escritura
+        when(accountService.applyBalanceDelta(1L, BigDecimal.valueOf(-250))).thenReturn(updated);
         when(mapper.updateModel(request, movement)).thenReturn(movement);
         when(repository.save(any(Movement.class))).thenReturn(movement);
         when(mapper.toResponse(any(Movement.class))).thenReturn(new MovementResponse());
@@ -169,7 +243,62 @@ class MovementServiceImplTest {
         MovementResponse response = service.update(1L, request);
 
         assertNotNull(response);
+        assertEquals(BigDecimal.valueOf(250), movement.getBalance());
+        assertEquals(updated, movement.getAccount());
         verify(repository).save(movement);
+        verify(accountService, never()).showById(any());
+    }
+
+    @Test
+    void shouldLockOriginalAndTargetAccountsWhenMovingMovement() {
+        MovementRequest request = buildRequest(MovementTypeEnum.DEPOSIT, BigDecimal.valueOf(50));
+        request.setAccountId(2L);
+        Account original = buildAccount(BigDecimal.valueOf(500));
+        Account target = buildAccount(BigDecimal.valueOf(150));
+        target.setId(2L);
+        Movement movement = buildMovement(original, BigDecimal.valueOf(200));
+        movement.setMovementType(MovementTypeEnum.DEPOSIT);
+
+        when(repository.findById(1L)).thenReturn(Optional.of(movement));
+        when(accountService.applyBalanceDelta(2L, BigDecimal.valueOf(50))).thenReturn(target);
+        when(mapper.updateModel(request, movement)).thenReturn(movement);
+        when(repository.save(any(Movement.class))).thenReturn(movement);
+        when(mapper.toResponse(any(Movement.class))).thenReturn(new MovementResponse());
+
+        service.update(1L, request);
+
+        verify(accountLedger).post(eq(List.of(1L, 2L)), any());
+        verify(accountService).applyBalanceDelta(1L, BigDecimal.valueOf(-200));
+        assertEquals(target, movement.getAccount());
+        assertEquals(BigDecimal.valueOf(150), movement.getBalance());
+    }
+
+    @Test
+    void shouldNotUpdateMovementWhenReversalOverdrawsOriginalAccount() {
+        MovementRequest request = buildRequest(MovementTypeEnum.DEPOSIT, BigDecimal.valueOf(50));
+        request.setAccountId(2L);
+        Movement movement = buildMovement(buildAccount(BigDecimal.valueOf(100)), BigDecimal.valueOf(200));
+        movement.setMovementType(MovementTypeEnum.DEPOSIT);
+
+        when(repository.findById(1L)).thenReturn(Optional.of(movement));
+        when(accountService.applyBalanceDelta(1L, BigDecimal.valueOf(-200)))
+                .thenThrow(new InsufficientFoundsException("Fondos insuficientes"));
+
+        assertThrows(InsufficientFoundsException.class, () -> service.update(1L, request));
+        verify(accountService, never()).applyBalanceDelta(eq(2L), any());
+        verify(repository, never()).save(any(Movement.class));
+    }
+
+    @Test
+    void shouldRetryUpdateWhenMovementChangedAccountBeforeLocking() {
+        MovementRequest request = buildRequest(MovementTypeEnum.DEPOSIT, BigDecimal.valueOf(50));
+        Account moved = buildAccount(BigDecimal.valueOf(500));
+        moved.setId(3L);
+        Movement movement = buildMovement(moved, BigDecimal.valueOf(200));
+        when(repository.findById(1L)).thenReturn(Optional.of(movement));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> service.repost(1L, 1L, request));
+        verify(repository, never()).save(any(Movement.class));
     }
 
     @Test
@@ -198,11 +327,4 @@ class MovementServiceImplTest {
 
         assertEquals(account, movement.getAccount());
     }
-
-    @Test
-    void shouldBuildAccountBalanceDto() {
-        var dto = service.buildAccountBalanceDto(1L, BigDecimal.valueOf(123.45));
-        assertEquals(1L, dto.getAccountId());
-        assertEquals(BigDecimal.valueOf(123.45), dto.getBalance());
-    }
-}
\ No newline at end of file
+}
@@ -5,9 +5,10 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import ec.com.nttdata.accounts_movements_service.client.CustomerClient;
 import ec.com.nttdata.accounts_movements_service.client.dto.CustomerDto;
 import ec.com.nttdata.accounts_movements_service.dto.report.PlainMovementReport;
 import ec.com.nttdata.accounts_movements_service.enums.AccountTypeEnum;
@@ -16,6 +17,7 @@ import ec.com.nttdata.accounts_movements_service.exception.CustomerNotFoundExcep
 import ec.com.nttdata.accounts_movements_service.model.Account;
 import ec.com.nttdata.accounts_movements_service.model.Movement;
 import ec.com.nttdata.accounts_movements_service.repository.AccountRepository;
+import ec.com.nttdata.accounts_movements_service.service.CustomerLookupService;
 import feign.FeignException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -44,7 +46,7 @@ class ReportServiceImplTest {
     private AccountRepository repository;
 
     @Mock
-    private CustomerClient customerClient;
+    private CustomerLookupService customerLookupService;
 
     private Account account;
     private CustomerDto customerDto;
@@ -76,11 +78,13 @@ class ReportServiceImplTest {
     void accountStatementReport_withValidCustomerId_shouldReturnReport() {
         when(repository.findByCustomerIdAndStartDateAndEndDate(any(), eq(1L), any(), any()))
                 .thenReturn(new PageImpl<>(List.of(account)));
-        when(customerClient.show(1L)).thenReturn(customerDto);
+        when(customerLookupService.show(1L)).thenReturn(customerDto);
 
         Page<?> result = reportService.accountStatementReport(pageable, 1L, startDate, endDate);
 
         assertThat(result.getContent()).isNotEmpty();
+        // Un reporte por cliente resuelve al cliente una sola vez
+        verify(customerLookupService, times(1)).show(1L);
     }
 
     @Test
@@ -99,7 +103,7 @@ class ReportServiceImplTest {
         account.setMovements(Set.of());
         when(repository.findByCustomerIdAndStartDateAndEndDate(any(), isNull(), any(), any()))
                 .thenReturn(new PageImpl<>(List.of(account)));
-        when(customerClient.showByIds(Set.of(99L))).thenReturn(Set.of());
+        when(customerLookupService.showByIds(Set.of(99L))).thenReturn(Set.of());
 
         Page<?> result = reportService.accountStatementReport(pageable, null, startDate, endDate);
 
@@ -112,7 +116,7 @@ class ReportServiceImplTest {
         account.setMovements(Set.of());
         when(repository.findByCustomerIdAndStartDateAndEndDate(any(), isNull(), any(), any()))
                 .thenReturn(new PageImpl<>(List.of(account)));
-        when(customerClient.showByIds(Set.of(99L))).thenReturn(Set.of());
+        when(customerLookupService.showByIds(Set.of(99L))).thenReturn(Set.of());
 
         Page<?> result = reportService.accountStatementReport(pageable, null, startDate, endDate);
 
@@ -120,23 +124,17 @@ class ReportServiceImplTest {
     }
 
     @Test
-    void validateCustomerExists_shouldPass_WhenCustomerExists() throws Exception {
-        when(customerClient.show(1L)).thenReturn(customerDto);
-        invokePrivateMethod("validateCustomerExists", new Class[] {Long.class}, 1L);
-    }
-
-    @Test
-    void validateCustomerExists_shouldThrowCustomerNotFound_WhenNotFound() {
-        when(customerClient.show(1L)).thenThrow(new CustomerNotFoundException("Not found"));
+    void fetchCustomer_shouldThrowCustomerNotFound_WhenLookupReportsMissing() {
+        when(customerLookupService.show(1L)).thenThrow(new CustomerNotFoundException("Not found"));
 
-        assertThatThrownBy(() -> invokePrivateMethod("validateCustomerExists", new Class[] {Long.class}, 1L))
+        assertThatThrownBy(() -> invokePrivateMethod("fetchCustomer", new Class[] {Long.class}, 1L))
                 .isInstanceOf(InvocationTargetException.class)
                 .hasCauseInstanceOf(CustomerNotFoundException.class);
     }
 
     @Test
     void fetchCustomer_shouldReturnDto_WhenFound() throws Exception {
-        when(customerClient.show(1L)).thenReturn(customerDto);
+        when(customerLookupService.show(1L)).thenReturn(customerDto);
 
         CustomerDto dto = (CustomerDto) invokePrivateMethod("fetchCustomer", new Class[] {Long.class}, 1L);
 
@@ -146,7 +144,7 @@ class ReportServiceImplTest {
 
     @Test
     void fetchCustomer_shouldThrow_WhenNotFound() {
-        when(customerClient.show(1L)).thenThrow(FeignException.NotFound.class);
+        when(customerLookupService.show(1L)).thenThrow(FeignException.NotFound.class);
 
         assertThatThrownBy(() -> invokePrivateMethod("fetchCustomer", new Class[] {Long.class}, 1L))
                 .isInstanceOf(InvocationTargetException.class)
@@ -194,7 +192,7 @@ class ReportServiceImplTest {
 
         when(repository.findByCustomerIdAndStartDateAndEndDate(any(), eq(1L), any(), any()))
                 .thenReturn(new PageImpl<>(List.of(account)));
-        when(customerClient.show(1L)).thenReturn(customerDto);
+        when(customerLookupService.show(1L)).thenReturn(customerDto);
 
         Page<PlainMovementReport> result = reportService.generatePlainReport(pageable, 1L, startDate, endDate);
 
@@ -216,7 +214,7 @@ class ReportServiceImplTest {
 
         when(repository.findByCustomerIdAndStartDateAndEndDate(any(), isNull(), any(), any()))
                 .thenReturn(new PageImpl<>(List.of(account)));
-        when(customerClient.showByIds(Set.of(1L))).thenReturn(Set.of(customerDto));
+        when(customerLookupService.showByIds(Set.of(1L))).thenReturn(Set.of(customerDto));
 
         Page<PlainMovementReport> result = reportService.generatePlainReport(pageable, null, startDate, endDate);
 
@@ -237,7 +235,7 @@ class ReportServiceImplTest {
 
         when(repository.findByCustomerIdAndStartDateAndEndDate(any(), isNull(), any(), any()))
                 .thenReturn(new PageImpl<>(List.of(account)));
-        when(customerClient.showByIds(Set.of(1L))).thenReturn(Set.of()); // sin dto
+        when(customerLookupService.showByIds(Set.of(1L))).thenReturn(Set.of()); // sin dto
 
         Page<PlainMovementReport> result = reportService.generatePlainReport(pageable, null, startDate, endDate);
 
@@ -250,7 +248,7 @@ class ReportServiceImplTest {
 
         when(repository.findByCustomerIdAndStartDateAndEndDate(any(), eq(1L), any(), any()))
                 .thenReturn(new PageImpl<>(List.of(account)));
-        when(customerClient.show(1L)).thenReturn(customerDto);
+        when(customerLookupService.show(1L)).thenReturn(customerDto);
 
         Page<PlainMovementReport> result = reportService.generatePlainReport(pageable, 1L, startDate, endDate);
 
@@ -0,0 +1,112 @@
+package ec.com.nttdata.accounts_movements_service.service.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+class AccountLedgerTest {
+
+    private static final int ACCOUNTS = 8;
+    private static final int THREADS = 16;
+    private static final int MOVEMENTS_PER_THREAD = 2_000;
+
+    private AccountLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        ledger = new AccountLedger(TransactionOperations.withoutTransaction(), 0);
+    }
+
+    @Test
+    void stripeCountShouldBePowerOfTwo() {
+        AccountLedger custom = new AccountLedger(TransactionOperations.withoutTransaction(), 100);
+
+        assertThat(custom.stripeCount()).isEqualTo(128);
+        assertThat(Integer.bitCount(ledger.stripeCount())).isEqualTo(1);
+    }
+
+    @Test
+    void finalBalanceShouldEqualSumOfMovementsUnderContention() throws Exception {
+        // Saldos "no atómicos": sin el ledger, el read-modify-write concurrente pierde actualizaciones
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        Map<Long, BigDecimal> expected = new HashMap<>();
+        for (long id = 1; id <= ACCOUNTS; id++) {
+            balances.put(id, BigDecimal.ZERO);
+            expected.put(id, BigDecimal.ZERO);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Map<Long, BigDecimal>>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                Map<Long, BigDecimal> posted = new HashMap<>();
+                start.await();
+                for (int i = 0; i < MOVEMENTS_PER_THREAD; i++) {
+                    long accountId = ThreadLocalRandom.current().nextLong(1, ACCOUNTS + 1);
+                    BigDecimal amount = BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(-50, 100));
+                    ledger.post(accountId, () -> {
+                        BigDecimal current;
+                        synchronized (balances) {
+                            current = balances.get(accountId);
+                        }
+                        Thread.onSpinWait();
+                        synchronized (balances) {
+                            balances.put(accountId, current.add(amount));
+                        }
+                        return null;
+                    });
+                    posted.merge(accountId, amount, BigDecimal::add);
+                }
+                return posted;
+            }));
+        }
+
+        start.countDown();
+        for (Future<Map<Long, BigDecimal>> future : futures) {
+            future.get(30, TimeUnit.SECONDS).forEach((id, amount) -> expected.merge(id, amount, BigDecimal::add));
+        }
+        executor.shutdown();
+
+        assertThat(balances).isEqualTo(expected);
+    }
+
+    @Test
+    void multiAccountPostingShouldNotDeadlock() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicInteger completed = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            boolean reversed = t % 2 == 0;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    List<Long> ids = reversed ? List.of(7L, 3L, 1L) : List.of(1L, 3L, 7L);
+                    ledger.post(ids, completed::incrementAndGet);
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(completed.get()).isEqualTo(THREADS * 500);
+    }
+}
@@ -0,0 +1,121 @@
+package ec.com.nttdata.customer_service.listener;
+
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_TRANSACTION_EVENT;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ec.com.nttdata.customer_service.config.ObjectMapperConfig;
+import ec.com.nttdata.customer_service.config.kafka.AvroEventDecoder;
+import ec.com.nttdata.customer_service.config.kafka.KafkaEventDeserializer;
+import ec.com.nttdata.customer_service.config.kafka.KafkaEventHeaders;
+import ec.com.nttdata.customer_service.config.kafka.KafkaFactory;
+import ec.com.nttdata.customer_service.config.kafka.KafkaMessage;
+import ec.com.nttdata.customer_service.listener.eventTransaction.dto.TransactionCustomerDto;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.GenericRecordBuilder;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+/**
+ * Compara el costo por registro de deserializar un evento de movimiento.
+ *
+ * <ul>
+ *     <li>{@code mapThenConvert}: camino anterior, {@code data} a {@code LinkedHashMap} y luego
+ *     {@code convertValue} al DTO.</li>
+ *     <li>{@code typedEnvelope}: el sobre se deserializa directamente a {@code KafkaMessage<TransactionCustomerDto>}
+ *     según las cabeceras del evento.</li>
+ *     <li>{@code avroTypedEnvelope}: el mismo evento en la codificación de objeto único de Avro, resuelto contra
+ *     el esquema de lectura y copiado al DTO por {@link KafkaEventDeserializer}.</li>
+ * </ul>
+ *
+ * <p>Ejecutar con {@code ./gradlew jmh}; el profiler {@code gc} reporta los bytes asignados por operación.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaMessageDeserializationBenchmark {
+
+    private static final byte[] PAYLOAD = ("{\"action\":\"create\",\"version\":1,"
+            + "\"data\":{\"customer_id\":7,\"amount\":25.50,\"movement_type\":\"DEPOSITO\"}}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private ObjectMapper objectMapper;
+    private RecordHeaders headers;
+    @SuppressWarnings("rawtypes")
+    private JsonDeserializer<KafkaMessage> untypedDeserializer;
+    private JsonDeserializer<KafkaMessage<?>> typedDeserializer;
+    private KafkaEventDeserializer avroDeserializer;
+    private RecordHeaders avroHeaders;
+    private byte[] avroPayload;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapperConfig().objectMapper();
+        headers = new RecordHeaders();
+        headers.add(KafkaEventHeaders.TYPE, "create".getBytes(StandardCharsets.UTF_8));
+        headers.add(KafkaEventHeaders.VERSION, "1".getBytes(StandardCharsets.UTF_8));
+
+        untypedDeserializer = new JsonDeserializer<>(KafkaMessage.class, objectMapper, false);
+        typedDeserializer = new JsonDeserializer<>(objectMapper);
+        KafkaEventTypeResolver typeResolver = new KafkaEventTypeResolver(objectMapper.getTypeFactory());
+        typedDeserializer.setTypeResolver(typeResolver);
+
+        AvroEventDecoder decoder = AvroEventDecoder.fromClasspath(KafkaFactory.MOVEMENT_EVENT_SCHEMA,
+                KafkaFactory.MOVEMENT_EVENT_WRITER_SCHEMAS, objectMapper);
+        avroDeserializer = new KafkaEventDeserializer(typedDeserializer, typeResolver,
+                Map.of(TOPIC_TRANSACTION_EVENT, decoder));
+        GenericRecord data = new GenericRecordBuilder(decoder.getSchema().getField("data").schema())
+                .set("customer_id", 7L)
+                .set("amount", "25.50")
+                .set("movement_type", "DEPOSITO")
+                .build();
+        GenericRecord message = new GenericRecordBuilder(decoder.getSchema())
+                .set("action", "create")
+                .set("version", 1)
+                .set("data", data)
+                .build();
+        avroPayload = new BinaryMessageEncoder<GenericRecord>(GenericData.get(), decoder.getSchema())
+                .encode(message).array();
+        avroHeaders = new RecordHeaders();
+        headers.forEach(avroHeaders::add);
+        avroHeaders.add(KafkaEventHeaders.CODEC, AvroEventDecoder.NAME.getBytes(StandardCharsets.UTF_8));
+
+        System.out.printf("Message size: json=%d bytes, avro=%d bytes%n", PAYLOAD.length, avroPayload.length);
+    }
+
+    @Benchmark
+    public TransactionCustomerDto mapThenConvert() {
+        KafkaMessage<?> message = untypedDeserializer.deserialize(TOPIC_TRANSACTION_EVENT, headers, PAYLOAD);
+        return objectMapper.convertValue(message.getData(), TransactionCustomerDto.class);
+    }
+
+    @Benchmark
+    public TransactionCustomerDto typedEnvelope() {
+        return (TransactionCustomerDto) typedDeserializer.deserialize(TOPIC_TRANSACTION_EVENT, headers, PAYLOAD)
+                .getData();
+    }
+
+    @Benchmark
+    public TransactionCustomerDto avroTypedEnvelope() {
+        return (TransactionCustomerDto) avroDeserializer.deserialize(TOPIC_TRANSACTION_EVENT, avroHeaders, avroPayload)
+                .getData();
+    }
+}
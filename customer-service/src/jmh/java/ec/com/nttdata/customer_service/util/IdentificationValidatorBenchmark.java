@@ -0,0 +1,68 @@
+package ec.com.nttdata.customer_service.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validación por carácter frente a la implementación anterior basada en {@code chars().toArray()}.
+ *
+ * <p>Con el profiler gc ({@code ./gradlew jmh}) la métrica {@code gc.alloc.rate.norm} muestra los bytes por
+ * operación: la versión actual debe reportar 0 B/op.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentificationValidatorBenchmark {
+
+    @Param({"1710034065", "0926687856"})
+    private String identifier;
+
+    @Setup
+    public void setUp() {
+        if (legacy(identifier) != IdentificationValidator.isValidIdentifier(identifier)) {
+            throw new IllegalStateException("Implementations disagree for " + identifier);
+        }
+    }
+
+    @Benchmark
+    public boolean current() {
+        return IdentificationValidator.isValidIdentifier(identifier);
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        return legacy(identifier);
+    }
+
+    // Copia de la implementación previa, solo como línea base
+    private static boolean legacy(String dni) {
+        if (dni == null || dni.length() != 10) {
+            return false;
+        }
+        int[] cedulaDigits = dni.chars().map(Character::getNumericValue).toArray();
+        int provinceCode = cedulaDigits[0] * 10 + cedulaDigits[1];
+        if (provinceCode < 1 || provinceCode > 24) {
+            return false;
+        }
+        int[] weights = {2, 1};
+        int sum = 0;
+        for (int i = 0; i < 9; i++) {
+            int product = cedulaDigits[i] * weights[i % 2];
+            sum += (product > 9) ? (product - 9) : product;
+        }
+        return (10 - (sum % 10)) % 10 == cedulaDigits[9];
+    }
+}
@@ -0,0 +1,20 @@
+package ec.com.nttdata.customer_service.config;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+
+@Configuration
+public class HttpCacheConfig {
+
+    /**
+     * Cache-Control de las lecturas de clientes: privado y, vencido el max-age, el cliente revalida con
+     * If-None-Match en lugar de volver a descargar el cuerpo.
+     */
+    @Bean
+    public CacheControl customerCacheControl(@Value("${app.customers.http-cache.max-age:0s}") Duration maxAge) {
+        return CacheControl.maxAge(maxAge).cachePrivate().mustRevalidate();
+    }
+}
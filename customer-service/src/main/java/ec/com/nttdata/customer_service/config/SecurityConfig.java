@@ -1,5 +1,8 @@
 package ec.com.nttdata.customer_service.config;
 
+import ec.com.nttdata.customer_service.service.password.BoundedPasswordEncoder;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -15,9 +18,15 @@ import org.springframework.security.web.SecurityFilterChain;
 @Profile("!test")
 public class SecurityConfig {
 
+    /**
+     * BCrypt con factor de trabajo configurable, ejecutado fuera de los hilos de Tomcat en un pool acotado.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.password.bcrypt-strength:10}") int strength,
+                                           @Value("${app.password.hashing.threads:0}") int threads,
+                                           @Value("${app.password.hashing.queue-capacity:50}") int queueCapacity,
+                                           @Value("${app.password.hashing.timeout:5s}") Duration timeout) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), threads, queueCapacity, timeout);
     }
 
     @Bean
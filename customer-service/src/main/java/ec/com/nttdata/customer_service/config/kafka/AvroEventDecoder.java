@@ -0,0 +1,187 @@
+package ec.com.nttdata.customer_service.config.kafka;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedConstructor;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Lee el {@link KafkaMessage} de un topic en Avro, sin schema registry.
+ *
+ * <p>El productor escribe con la codificación de objeto único de Avro: el binario lleva la huella del esquema con
+ * que se escribió. Aquí se registran los esquemas de escritura conocidos ({@code .avsc} de cada versión publicada) y
+ * el {@link BinaryMessageDecoder} resuelve el de cada mensaje contra el esquema de lectura de este servicio: los
+ * campos que el productor agregó se descartan y los que falten toman su default. Una huella desconocida falla con
+ * {@link SerializationException}. El {@link GenericRecord} resultante se copia al DTO con los setters que resuelve
+ * Jackson una vez por tipo; los nombres de campo siguen el snake_case del {@link ObjectMapper}.</p>
+ */
+public class AvroEventDecoder {
+
+    public static final String NAME = "avro";
+
+    private final Schema readerSchema;
+    private final ObjectMapper objectMapper;
+    private final BinaryMessageDecoder<GenericRecord> decoder;
+    private final Map<JavaType, RecordReader> recordReaders = new ConcurrentHashMap<>();
+    private final Map<Enum<?>, String> enumNames = new ConcurrentHashMap<>();
+
+    public AvroEventDecoder(Schema readerSchema, List<Schema> writerSchemas, ObjectMapper objectMapper) {
+        this.readerSchema = readerSchema;
+        this.objectMapper = objectMapper;
+        this.decoder = new BinaryMessageDecoder<>(GenericData.get(), readerSchema);
+        writerSchemas.forEach(decoder::addSchema);
+    }
+
+    /**
+     * @param readerLocation  esquema con el que este servicio lee el topic
+     * @param writerLocations esquemas con los que el productor pudo haber escrito (todas las versiones publicadas)
+     */
+    public static AvroEventDecoder fromClasspath(String readerLocation, List<String> writerLocations,
+                                                 ObjectMapper objectMapper) {
+        return new AvroEventDecoder(parse(readerLocation),
+                writerLocations.stream().map(AvroEventDecoder::parse).toList(), objectMapper);
+    }
+
+    private static Schema parse(String location) {
+        try (InputStream schemaStream = new ClassPathResource(location).getInputStream()) {
+            return new Schema.Parser().parse(schemaStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load Avro schema " + location, e);
+        }
+    }
+
+    public <T> T decode(byte[] bytes, JavaType type) {
+        try {
+            GenericRecord record = decoder.decode(bytes);
+            @SuppressWarnings("unchecked")
+            T message = (T) recordReaders.computeIfAbsent(type, RecordReader::new).read(record);
+            return message;
+        } catch (Exception e) {
+            throw new SerializationException("Could not decode message as " + readerSchema.getFullName(), e);
+        }
+    }
+
+    public Schema getSchema() {
+        return readerSchema;
+    }
+
+    private String enumName(Enum<?> value) {
+        // Mismo texto que el JSON (@JsonValue, @JsonProperty); se calcula una vez por constante
+        return enumNames.computeIfAbsent(value, constant -> objectMapper.convertValue(constant, String.class));
+    }
+
+    /**
+     * Crea el DTO destino y asigna cada campo del record con los setters resueltos al construirse. Los campos sin
+     * propiedad en el DTO se ignoran.
+     */
+    private final class RecordReader {
+
+        private final AnnotatedConstructor constructor;
+        private final Map<String, FieldReader> fields = new HashMap<>();
+
+        RecordReader(JavaType type) {
+            BeanDescription bean = objectMapper.getDeserializationConfig().introspect(type);
+            this.constructor = bean.findDefaultConstructor();
+            if (constructor == null) {
+                throw new IllegalArgumentException("Avro target " + type + " needs a no-args constructor");
+            }
+            constructor.fixAccess(false);
+            for (BeanPropertyDefinition property : bean.findProperties()) {
+                if (property.getMutator() != null) {
+                    property.getMutator().fixAccess(false);
+                    fields.put(property.getName(), new FieldReader(property));
+                }
+            }
+        }
+
+        Object read(GenericRecord record) throws Exception {
+            Object bean = constructor.call();
+            for (Schema.Field field : record.getSchema().getFields()) {
+                FieldReader reader = fields.get(field.name());
+                if (reader != null) {
+                    reader.setter.setValue(bean, reader.convert(record.get(field.pos())));
+                }
+            }
+            return bean;
+        }
+    }
+
+    private final class FieldReader {
+
+        private final AnnotatedMember setter;
+        private final JavaType type;
+        private final Class<?> target;
+        private final Map<String, Object> enumConstants;
+
+        FieldReader(BeanPropertyDefinition property) {
+            this.setter = property.getMutator();
+            this.type = property.getPrimaryType();
+            this.target = type.getRawClass();
+            this.enumConstants = type.isEnumType() ? indexConstants(target) : null;
+        }
+
+        Object convert(Object value) throws Exception {
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof GenericRecord nested) {
+                return recordReaders.computeIfAbsent(type, RecordReader::new).read(nested);
+            }
+            if (value instanceof CharSequence text) {
+                return fromText(text.toString());
+            }
+            return value instanceof Number number ? number(number, target) : value;
+        }
+
+        private Object fromText(String text) {
+            if (enumConstants != null) {
+                Object constant = enumConstants.get(text);
+                if (constant == null) {
+                    throw new IllegalArgumentException("Unknown " + target.getSimpleName() + " " + text);
+                }
+                return constant;
+            }
+            return target == BigDecimal.class ? new BigDecimal(text) : text;
+        }
+
+        private Map<String, Object> indexConstants(Class<?> enumType) {
+            Map<String, Object> constants = new HashMap<>();
+            for (Object constant : enumType.getEnumConstants()) {
+                constants.put(enumName((Enum<?>) constant), constant);
+            }
+            return constants;
+        }
+    }
+
+    private static Object number(Number value, Class<?> target) {
+        if (target == Long.class || target == long.class) {
+            return value.longValue();
+        }
+        if (target == Integer.class || target == int.class) {
+            return value.intValue();
+        }
+        if (target == Double.class || target == double.class) {
+            return value.doubleValue();
+        }
+        if (target == BigDecimal.class) {
+            return new BigDecimal(value.toString());
+        }
+        return value;
+    }
+}
@@ -5,11 +5,16 @@ import java.util.HashMap;
 import java.util.Map;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
@@ -45,7 +50,43 @@ public class KafkaConfig {
         return new DefaultKafkaProducerFactory<>(
                 getConfig(kafkaProperties),
                 new StringSerializer(),
-                valueSerializer.noTypeInfo()
+                new KafkaEventSerializer<>(valueSerializer.noTypeInfo())
         );
     }
+
+    /**
+     * Template de bytes para re-publicar registros de la DLT tal cual (clave, valor y cabeceras originales).
+     */
+    @Bean(name = "config.kafka.replayTemplate")
+    public KafkaTemplate<byte[], byte[]> replayTemplate(KafkaProperties kafkaProperties) {
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                getConfig(kafkaProperties),
+                new ByteArraySerializer(),
+                new ByteArraySerializer()
+        ));
+    }
+
+    /**
+     * Template para publicar en la DLT los valores no deserializables con sus bytes originales.
+     */
+    @Bean(name = "config.kafka.deadLetterTemplate")
+    public KafkaTemplate<String, byte[]> deadLetterTemplate(KafkaProperties kafkaProperties) {
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                getConfig(kafkaProperties),
+                new StringSerializer(),
+                new ByteArraySerializer()
+        ));
+    }
+
+    @Bean(name = "config.kafka.replayConsumerFactory")
+    public ConsumerFactory<byte[], byte[]> replayConsumerFactory(
+            KafkaProperties kafkaProperties,
+            @Value("${app.kafka.dlt.replay.max-records:1000}") int maxRecords) {
+        Map<String, Object> config = getConfig(kafkaProperties);
+        // Los offsets de la DLT se confirman a mano, solo después de que el re-envío fue aceptado
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxRecords);
+        return new DefaultKafkaConsumerFactory<>(config, new ByteArrayDeserializer(), new ByteArrayDeserializer());
+    }
 }
\ No newline at end of file
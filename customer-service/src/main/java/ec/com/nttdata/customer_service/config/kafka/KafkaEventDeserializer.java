@@ -0,0 +1,52 @@
+package ec.com.nttdata.customer_service.config.kafka;
+
+import java.util.Map;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonTypeResolver;
+
+/**
+ * Deserializa el {@link KafkaMessage} según la cabecera {@link KafkaEventHeaders#CODEC}: los mensajes Avro se
+ * decodifican con el {@link AvroEventDecoder} de su topic, que resuelve el esquema de escritura por la huella que
+ * viaja en el propio binario; el resto con el {@link JsonDeserializer}. En ambos casos el tipo destino lo resuelve
+ * el mismo {@link JsonTypeResolver}.
+ */
+public class KafkaEventDeserializer implements Deserializer<KafkaMessage<?>> {
+
+    private final JsonDeserializer<KafkaMessage<?>> jsonDeserializer;
+    private final JsonTypeResolver typeResolver;
+    private final Map<String, AvroEventDecoder> avroDecoders;
+
+    public KafkaEventDeserializer(JsonDeserializer<KafkaMessage<?>> jsonDeserializer,
+                                  JsonTypeResolver typeResolver,
+                                  Map<String, AvroEventDecoder> avroDecoders) {
+        this.jsonDeserializer = jsonDeserializer;
+        this.typeResolver = typeResolver;
+        this.avroDecoders = Map.copyOf(avroDecoders);
+    }
+
+    @Override
+    public KafkaMessage<?> deserialize(String topic, byte[] data) {
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public KafkaMessage<?> deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null
+                || !AvroEventDecoder.NAME.equals(KafkaEventHeaders.lastValue(headers, KafkaEventHeaders.CODEC))) {
+            return jsonDeserializer.deserialize(topic, headers, data);
+        }
+        AvroEventDecoder decoder = avroDecoders.get(topic);
+        if (decoder == null) {
+            throw new SerializationException("No Avro schema for topic " + topic);
+        }
+        return decoder.decode(data, typeResolver.resolveType(topic, data, headers));
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
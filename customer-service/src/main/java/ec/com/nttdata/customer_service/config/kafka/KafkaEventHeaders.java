@@ -0,0 +1,35 @@
+package ec.com.nttdata.customer_service.config.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+/**
+ * Cabeceras con el tipo y la versión de los eventos que se intercambian con accounts-movements-service.
+ */
+public final class KafkaEventHeaders {
+
+    public static final String TYPE = "event-type";
+    public static final String VERSION = "event-version";
+    /** Codec del valor ({@code json} o {@code avro}); si falta, el mensaje es JSON. */
+    public static final String CODEC = "event-codec";
+    /** Marca los eventos re-publicados desde la DLT. */
+    public static final String REPLAYED = "event-replayed";
+
+    private KafkaEventHeaders() {
+    }
+
+    public static Headers of(String type, int version) {
+        return new RecordHeaders(List.<Header>of(
+                new RecordHeader(TYPE, type.getBytes(StandardCharsets.UTF_8)),
+                new RecordHeader(VERSION, String.valueOf(version).getBytes(StandardCharsets.UTF_8))));
+    }
+
+    public static String lastValue(Headers headers, String name) {
+        Header header = headers != null ? headers.lastHeader(name) : null;
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+}
@@ -0,0 +1,33 @@
+package ec.com.nttdata.customer_service.config.kafka;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Serializa en JSON y descarta la cabecera {@link KafkaEventHeaders#CODEC} heredada del registro original: al
+ * republicar un evento Avro hacia los topics de reintento el valor ya viaja como JSON.
+ */
+public class KafkaEventSerializer<T> implements Serializer<T> {
+
+    private final Serializer<T> jsonSerializer;
+
+    public KafkaEventSerializer(Serializer<T> jsonSerializer) {
+        this.jsonSerializer = jsonSerializer;
+    }
+
+    @Override
+    public byte[] serialize(String topic, T data) {
+        return jsonSerializer.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, T data) {
+        headers.remove(KafkaEventHeaders.CODEC);
+        return jsonSerializer.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
@@ -1,18 +1,40 @@
 package ec.com.nttdata.customer_service.config.kafka;
 
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_TRANSACTION_DLT;
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_TRANSACTION_EVENT;
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_TRANSACTION_RETRY;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import ec.com.nttdata.customer_service.listener.KafkaEventTypeResolver;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
 
 @Configuration
 public class KafkaFactory {
 
+    public static final String MOVEMENT_EVENT_SCHEMA = "avro/movement-event-v1.avsc";
+    // Cada versión publicada del esquema se agrega aquí para que sus mensajes se resuelvan contra el de lectura
+    public static final List<String> MOVEMENT_EVENT_WRITER_SCHEMAS = List.of(MOVEMENT_EVENT_SCHEMA);
+
     private final ObjectMapper objectMapper;
 
     public KafkaFactory(ObjectMapper objectMapper) {
@@ -20,22 +42,107 @@ public class KafkaFactory {
     }
 
     @Bean(name = "config.kafka.consumerFactory")
-    public ConcurrentKafkaListenerContainerFactory<String, KafkaMessage> consumerFactory(
+    public ConcurrentKafkaListenerContainerFactory<String, KafkaMessage<?>> consumerFactory(
             KafkaProperties kafkaProperties) {
-        ConcurrentKafkaListenerContainerFactory<String, KafkaMessage> containerFactory =
+        ConcurrentKafkaListenerContainerFactory<String, KafkaMessage<?>> containerFactory =
                 new ConcurrentKafkaListenerContainerFactory<>();
+        containerFactory.setConsumerFactory(this.buildConsumerFactory(KafkaConfig.getConfig(kafkaProperties)));
+        return containerFactory;
+    }
+
+    /**
+     * Listener por lotes: cada poll entrega hasta {@code max-poll-records} mensajes y el offset se confirma una sola
+     * vez por lote. Con un hilo por partición el orden por clave se conserva.
+     *
+     * <p>Un registro que falla no se reintenta en línea (bloquearía la partición): se confirma el lote hasta ese
+     * registro y el fallido se publica de inmediato en {@code movements-retry}, que lo procesa sin espera; los
+     * retardos exponenciales empiezan en {@code movements-retry-attempt-0}. Los no deserializables van directo a la
+     * DLT con sus bytes originales.</p>
+     */
+    @Bean(name = "config.kafka.batchConsumerFactory")
+    public ConcurrentKafkaListenerContainerFactory<String, KafkaMessage<?>> batchConsumerFactory(
+            KafkaProperties kafkaProperties,
+            @Qualifier("kafkaTemplate") KafkaOperations<?, ?> kafkaTemplate,
+            @Qualifier("config.kafka.deadLetterTemplate") KafkaOperations<?, ?> deadLetterTemplate,
+            @Value("${app.kafka.consumer.max-poll-records:500}") int maxPollRecords,
+            @Value("${app.kafka.consumer.concurrency:${app.kafka.topics.movements.partitions:6}}") int concurrency) {
+        Map<String, Object> config = KafkaConfig.getConfig(kafkaProperties);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+
+        ConcurrentKafkaListenerContainerFactory<String, KafkaMessage<?>> containerFactory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        containerFactory.setConsumerFactory(this.buildConsumerFactory(config));
+        containerFactory.setBatchListener(true);
+        containerFactory.setConcurrency(concurrency);
+        containerFactory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        containerFactory.setCommonErrorHandler(batchErrorHandler(kafkaTemplate, deadLetterTemplate));
+        return containerFactory;
+    }
 
-        ErrorHandlingDeserializer<KafkaMessage> errorHandlingDeserializer =
-                new ErrorHandlingDeserializer<>(new JsonDeserializer<>(KafkaMessage.class, objectMapper));
+    /**
+     * Sin reintentos en línea: el primer fallo publica el registro. Los valores que no se pudieron deserializar
+     * llegan al recoverer como el {@code byte[]} original y se publican con el template de bytes; el template JSON
+     * los escribiría como un string base64 y la DLT re-publicaría un evento corrupto.
+     */
+    static DefaultErrorHandler batchErrorHandler(KafkaOperations<?, ?> kafkaTemplate,
+                                                 KafkaOperations<?, ?> deadLetterTemplate) {
+        // Ordenado: primero la coincidencia exacta de byte[], luego el resto de valores
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, deadLetterTemplate);
+        templates.put(Object.class, kafkaTemplate);
+        return new DefaultErrorHandler(
+                new DeadLetterPublishingRecoverer(templates, KafkaFactory::retryDestination),
+                new FixedBackOff(0L, 0L));
+    }
 
-        DefaultKafkaConsumerFactory<String, KafkaMessage> consumerFactory =
-                new DefaultKafkaConsumerFactory<>(
-                        KafkaConfig.getConfig(kafkaProperties),
-                        new StringDeserializer(),
-                        errorHandlingDeserializer
-                );
+    /**
+     * Listener por lotes del agregado de actividad. No comparte el manejador de errores del listener de negocio: un
+     * fallo al aplicar un evento no debe republicarlo en {@code movements-retry} (lo procesaría de nuevo el consumidor
+     * de negocio) ni descartarlo del agregado. El registro fallido se vuelve a buscar y se reintenta sin límite; como
+     * el store ignora offsets ya aplicados, re-entregar el resto del lote no duplica totales.
+     */
+    @Bean(name = "config.kafka.activityConsumerFactory")
+    public ConcurrentKafkaListenerContainerFactory<String, KafkaMessage<?>> activityConsumerFactory(
+            KafkaProperties kafkaProperties,
+            @Value("${app.kafka.consumer.max-poll-records:500}") int maxPollRecords,
+            @Value("${app.activity.retry-interval-ms:1000}") long retryIntervalMs) {
+        Map<String, Object> config = KafkaConfig.getConfig(kafkaProperties);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
 
-        containerFactory.setConsumerFactory(consumerFactory);
+        ConcurrentKafkaListenerContainerFactory<String, KafkaMessage<?>> containerFactory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        containerFactory.setConsumerFactory(this.buildConsumerFactory(config));
+        containerFactory.setBatchListener(true);
+        containerFactory.setCommonErrorHandler(activityErrorHandler(retryIntervalMs));
         return containerFactory;
     }
-}
\ No newline at end of file
+
+    static DefaultErrorHandler activityErrorHandler(long retryIntervalMs) {
+        // Sin recoverer que publique: con intentos ilimitados el registro nunca se da por perdido
+        return new DefaultErrorHandler(new FixedBackOff(retryIntervalMs, FixedBackOff.UNLIMITED_ATTEMPTS));
+    }
+
+    private static TopicPartition retryDestination(ConsumerRecord<?, ?> record, Exception exception) {
+        // Partición negativa: el productor elige la partición por clave y se conserva el orden por cliente
+        String topic = record.value() == null ? TOPIC_TRANSACTION_DLT : TOPIC_TRANSACTION_RETRY;
+        return new TopicPartition(topic, -1);
+    }
+
+    private DefaultKafkaConsumerFactory<String, KafkaMessage<?>> buildConsumerFactory(Map<String, Object> config) {
+        // El sobre y su "data" se deserializan de una vez al DTO indicado por las cabeceras del evento
+        KafkaEventTypeResolver typeResolver = new KafkaEventTypeResolver(objectMapper.getTypeFactory());
+        JsonDeserializer<KafkaMessage<?>> jsonDeserializer = new JsonDeserializer<>(objectMapper);
+        jsonDeserializer.setTypeResolver(typeResolver);
+        // Decodificador Avro por topic; el productor elige el codec con la cabecera event-codec
+        Map<String, AvroEventDecoder> avroDecoders = Map.of(TOPIC_TRANSACTION_EVENT,
+                AvroEventDecoder.fromClasspath(MOVEMENT_EVENT_SCHEMA, MOVEMENT_EVENT_WRITER_SCHEMAS, objectMapper));
+        ErrorHandlingDeserializer<KafkaMessage<?>> errorHandlingDeserializer = new ErrorHandlingDeserializer<>(
+                new KafkaEventDeserializer(jsonDeserializer, typeResolver, avroDecoders));
+
+        return new DefaultKafkaConsumerFactory<>(
+                config,
+                new StringDeserializer(),
+                errorHandlingDeserializer
+        );
+    }
+}
@@ -1,35 +1,17 @@
 package ec.com.nttdata.customer_service.config.kafka;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
-public class KafkaMessage {
+@NoArgsConstructor
+@AllArgsConstructor
+public class KafkaMessage<T> {
 
     private String action;
-    private Object data;
-
-    // Constructor sin argumentos
-    public KafkaMessage() {
-    }
-
-    // Getters y Setters para los campos
-
-    public String getAction() {
-        return action;
-    }
-
-    public void setAction(String action) {
-        this.action = action;
-    }
-
-
-    public Object getData() {
-        return data;
-    }
-
-    public void setData(Object data) {
-        this.data = data;
-    }
-}
\ No newline at end of file
+    private int version;
+    private T data;
+}
@@ -0,0 +1,38 @@
+package ec.com.nttdata.customer_service.config.kafka;
+
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_CUSTOMER_EVENT;
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_TRANSACTION_EVENT;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * Declara los topics que consume el servicio para que existan con el número de particiones esperado aunque este
+ * servicio arranque antes que el productor, y el topic compactado de clientes que este servicio publica.
+ */
+@Configuration
+public class KafkaTopicConfig {
+
+    @Bean
+    public NewTopic movementsTopic(@Value("${app.kafka.topics.movements.partitions:6}") int partitions,
+                                   @Value("${app.kafka.topics.movements.replicas:1}") int replicas) {
+        return TopicBuilder.name(TOPIC_TRANSACTION_EVENT)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
+    @Bean
+    public NewTopic customersTopic(@Value("${app.kafka.topics.customers.partitions:6}") int partitions,
+                                   @Value("${app.kafka.topics.customers.replicas:1}") int replicas) {
+        // Compactado: Kafka conserva el último evento por id y elimina los clientes borrados (tombstone)
+        return TopicBuilder.name(TOPIC_CUSTOMER_EVENT)
+                .partitions(partitions)
+                .replicas(replicas)
+                .compact()
+                .build();
+    }
+}
@@ -1,14 +1,29 @@
 package ec.com.nttdata.customer_service.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import ec.com.nttdata.customer_service.dto.request.CustomerRequest;
+import ec.com.nttdata.customer_service.dto.response.CursorPage;
+import ec.com.nttdata.customer_service.dto.response.CustomerActivityResponse;
 import ec.com.nttdata.customer_service.dto.response.CustomerResponse;
+import ec.com.nttdata.customer_service.dto.response.CustomerSearchResponse;
+import ec.com.nttdata.customer_service.dto.response.IdentifierValidationResponse;
 import ec.com.nttdata.customer_service.dto.retentions.OnCreate;
 import ec.com.nttdata.customer_service.service.CustomerService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,8 +32,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/customers")
@@ -27,15 +45,48 @@ import org.springframework.web.bind.annotation.RestController;
 public class CustomerController {
 
     private final CustomerService service;
+    private final ObjectMapper objectMapper;
+    private final CacheControl customerCacheControl;
 
     @GetMapping
     public ResponseEntity<Page<CustomerResponse>> index(Pageable pageable) {
         return new ResponseEntity<>(service.index(pageable), HttpStatus.OK);
     }
 
+    // Con el parámetro cursor (vacío para la primera página) se pagina por keyset en lugar de offset
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPage<CustomerResponse>> scroll(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(1000) int size) {
+        return new ResponseEntity<>(service.scroll(cursor, size), HttpStatus.OK);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<CustomerSearchResponse>> search(
+            @RequestParam("q") @NotBlank String query,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+        return new ResponseEntity<>(service.search(query, limit), HttpStatus.OK);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<CustomerResponse> show(@PathVariable Long id) {
-        return new ResponseEntity<>(service.show(id), HttpStatus.OK);
+    public ResponseEntity<CustomerResponse> show(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Si el llamador ya tiene la versión actual se responde 304 sin cargar ni serializar el cliente
+        Optional<Long> version = service.findVersion(id);
+        if (version.isPresent() && matches(ifNoneMatch, etag(version.get()))) {
+            return notModified(etag(version.get()));
+        }
+        CustomerResponse customer = service.show(id);
+        return ResponseEntity.ok()
+                .eTag(etag(customer.getVersion()))
+                .cacheControl(customerCacheControl)
+                .body(customer);
+    }
+
+    @GetMapping("/{id}/activity")
+    public ResponseEntity<CustomerActivityResponse> activity(@PathVariable Long id) {
+        return new ResponseEntity<>(service.activity(id), HttpStatus.OK);
     }
 
     @PostMapping
@@ -56,8 +107,68 @@ public class CustomerController {
     }
 
     @PostMapping("/by-ids")
-    public ResponseEntity<List<CustomerResponse>> getCustomersByIds(@RequestBody List<Long> customerIds) {
-        List<CustomerResponse> customers = service.findByIds(customerIds);
-        return ResponseEntity.ok(customers);
+    public ResponseEntity<StreamingResponseBody> getCustomersByIds(
+            @RequestBody List<Long> customerIds,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Consulta de solo lectura: el ETag sale de los pares (id, versión), sin hidratar los clientes
+        String etag = etag(service.fingerprintByIds(customerIds));
+        if (matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        // El arreglo JSON se escribe a medida que llegan los bloques, sin armar la lista completa en memoria
+        StreamingResponseBody body = output -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(output)) {
+                generator.writeStartArray();
+                service.streamByIds(customerIds, customer -> write(generator, customer));
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(customerCacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @PostMapping("/validate-identifiers")
+    public ResponseEntity<List<IdentifierValidationResponse>> validateIdentifiers(
+            @RequestBody List<String> identifiers) {
+        return new ResponseEntity<>(service.validateIdentifiers(identifiers), HttpStatus.OK);
+    }
+
+    private <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(customerCacheControl)
+                .build();
+    }
+
+    private static String etag(Object version) {
+        return "\"" + version + "\"";
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        // If-None-Match usa comparación débil: se ignora el prefijo W/
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void write(JsonGenerator generator, CustomerResponse customer) {
+        try {
+            generator.writeObject(customer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
\ No newline at end of file
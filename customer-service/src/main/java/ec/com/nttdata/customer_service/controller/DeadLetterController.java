@@ -0,0 +1,30 @@
+package ec.com.nttdata.customer_service.controller;
+
+import ec.com.nttdata.customer_service.dto.response.DeadLetterReplayResponse;
+import ec.com.nttdata.customer_service.service.DeadLetterReplayService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/dead-letters")
+@RequiredArgsConstructor
+@Validated
+public class DeadLetterController {
+
+    private final DeadLetterReplayService service;
+
+    @PostMapping("/movements/replay")
+    public ResponseEntity<DeadLetterReplayResponse> replayMovements(
+            @RequestParam(defaultValue = "${app.kafka.dlt.replay.max-records:1000}")
+            @Min(1) @Max(100_000) int maxRecords) {
+        return new ResponseEntity<>(service.replayMovements(maxRecords), HttpStatus.OK);
+    }
+}
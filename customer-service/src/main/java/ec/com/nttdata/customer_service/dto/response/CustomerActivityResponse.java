@@ -0,0 +1,21 @@
+package ec.com.nttdata.customer_service.dto.response;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CustomerActivityResponse {
+    private Long customerId;
+    private BigDecimal depositTotal;
+    private long depositCount;
+    private BigDecimal withdrawalTotal;
+    private long withdrawalCount;
+    private Instant lastActivityAt;
+}
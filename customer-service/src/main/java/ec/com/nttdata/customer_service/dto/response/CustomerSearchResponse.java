@@ -0,0 +1,17 @@
+package ec.com.nttdata.customer_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CustomerSearchResponse {
+    private Long id;
+    private String name;
+    private String phone;
+    private String dni;
+}
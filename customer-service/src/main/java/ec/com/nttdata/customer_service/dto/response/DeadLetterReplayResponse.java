@@ -0,0 +1,16 @@
+package ec.com.nttdata.customer_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeadLetterReplayResponse {
+    private String source;
+    private String target;
+    private int replayed;
+}
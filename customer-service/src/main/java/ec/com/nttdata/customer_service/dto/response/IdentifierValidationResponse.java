@@ -0,0 +1,17 @@
+package ec.com.nttdata.customer_service.dto.response;
+
+import ec.com.nttdata.customer_service.util.IdentificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdentifierValidationResponse {
+    private String identifier;
+    private boolean valid;
+    private IdentificationType type;
+}
@@ -0,0 +1,7 @@
+package ec.com.nttdata.customer_service.enums;
+
+public enum OutboxStatusEnum {
+    PENDING,
+    // No se puede publicar nunca (payload ilegible o no serializable); queda para revisión manual
+    DEAD
+}
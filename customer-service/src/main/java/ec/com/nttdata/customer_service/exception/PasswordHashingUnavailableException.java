@@ -0,0 +1,9 @@
+package ec.com.nttdata.customer_service.exception;
+
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+
+}
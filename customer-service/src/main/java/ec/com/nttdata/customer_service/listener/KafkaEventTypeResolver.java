@@ -0,0 +1,72 @@
+package ec.com.nttdata.customer_service.listener;
+
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_TRANSACTION_EVENT;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import ec.com.nttdata.customer_service.config.kafka.KafkaEventHeaders;
+import ec.com.nttdata.customer_service.config.kafka.KafkaMessage;
+import ec.com.nttdata.customer_service.listener.eventTransaction.dto.TransactionCustomerDto;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.kafka.support.serializer.JsonTypeResolver;
+
+/**
+ * Resuelve el tipo completo del {@link KafkaMessage} (sobre + DTO) a partir del topic y de las cabeceras
+ * {@code event-type}/{@code event-version}, de modo que el payload se deserializa una sola vez directamente al DTO.
+ */
+public class KafkaEventTypeResolver implements JsonTypeResolver {
+
+    private static final String DEFAULT_VERSION = "1";
+
+    private static final Map<String, Class<?>> PAYLOAD_TYPES = Map.of(
+            key(TOPIC_TRANSACTION_EVENT, "create", DEFAULT_VERSION), TransactionCustomerDto.class
+    );
+
+    // Mensajes sin cabeceras (productores anteriores): se asume el evento original del topic
+    private static final Map<String, Class<?>> LEGACY_TYPES = Map.of(
+            TOPIC_TRANSACTION_EVENT, TransactionCustomerDto.class
+    );
+
+    private final TypeFactory typeFactory;
+    private final Map<Class<?>, JavaType> envelopes = new ConcurrentHashMap<>();
+
+    public KafkaEventTypeResolver(TypeFactory typeFactory) {
+        this.typeFactory = typeFactory;
+    }
+
+    @Override
+    public JavaType resolveType(String recordTopic, byte[] data, Headers headers) {
+        String topic = baseTopic(recordTopic);
+        String type = KafkaEventHeaders.lastValue(headers, KafkaEventHeaders.TYPE);
+        Class<?> payloadType;
+        if (type == null) {
+            payloadType = LEGACY_TYPES.get(topic);
+        } else {
+            String version = KafkaEventHeaders.lastValue(headers, KafkaEventHeaders.VERSION);
+            payloadType = PAYLOAD_TYPES.get(key(topic, type, version != null ? version : DEFAULT_VERSION));
+        }
+        if (payloadType == null) {
+            throw new IllegalArgumentException(String.format("Unknown event type %s on topic %s", type, topic));
+        }
+        return envelopes.computeIfAbsent(payloadType,
+                payload -> typeFactory.constructParametricType(KafkaMessage.class, payload));
+    }
+
+    /**
+     * Los topics de reintento y DLT ({@code movements-retry...}) transportan los mismos eventos que su topic base.
+     */
+    static String baseTopic(String topic) {
+        for (String base : LEGACY_TYPES.keySet()) {
+            if (topic.startsWith(base + "-")) {
+                return base;
+            }
+        }
+        return topic;
+    }
+
+    private static String key(String topic, String type, String version) {
+        return topic + ":" + type + ":" + version;
+    }
+}
@@ -3,4 +3,11 @@ package ec.com.nttdata.customer_service.listener;
 public class Topics {
 
     public static final String TOPIC_TRANSACTION_EVENT = "movements";
+    // Reintentos no bloqueantes: movements-retry -> movements-retry-attempt-N -> movements-retry-dlt
+    public static final String TOPIC_TRANSACTION_RETRY = TOPIC_TRANSACTION_EVENT + "-retry";
+    public static final String RETRY_ATTEMPT_SUFFIX = "-attempt";
+    public static final String DLT_SUFFIX = "-dlt";
+    public static final String TOPIC_TRANSACTION_DLT = TOPIC_TRANSACTION_RETRY + DLT_SUFFIX;
+    // Topic compactado con el último estado de cada cliente (clave = id); se publica desde este servicio
+    public static final String TOPIC_CUSTOMER_EVENT = "customers";
 }
@@ -1,39 +1,94 @@
 package ec.com.nttdata.customer_service.listener.eventTransaction;
 
+import static ec.com.nttdata.customer_service.listener.Topics.DLT_SUFFIX;
+import static ec.com.nttdata.customer_service.listener.Topics.RETRY_ATTEMPT_SUFFIX;
 import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_TRANSACTION_EVENT;
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_TRANSACTION_RETRY;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import ec.com.nttdata.customer_service.config.kafka.KafkaMessage;
 import ec.com.nttdata.customer_service.listener.eventTransaction.dto.TransactionCustomerDto;
 import ec.com.nttdata.customer_service.service.CustomerService;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.retrytopic.DltStrategy;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class CustomerAccountTransactionListener {
 
-    private final ObjectMapper objectMapper;
     private final Logger log = LoggerFactory.getLogger(CustomerAccountTransactionListener.class);
     private final CustomerService service;
 
     @KafkaListener(
             topics = TOPIC_TRANSACTION_EVENT,
+            containerFactory = "config.kafka.batchConsumerFactory"
+    )
+    public void kafkaConsumer(@Payload List<KafkaMessage<TransactionCustomerDto>> messages) {
+        log.debug("Consumiendo lote de {} mensajes", messages.size());
+        for (int index = 0; index < messages.size(); index++) {
+            this.process(messages.get(index), index);
+        }
+    }
+
+    /**
+     * Reintentos no bloqueantes: el primero ocurre sin espera al consumir {@code movements-retry}; cada intento
+     * fallido pasa luego al siguiente topic {@code movements-retry-attempt-N} con un retardo exponencial (1s, 2s,
+     * 4s...), sin detener las particiones del topic principal. Agotados los intentos, el registro
+     * queda en {@code movements-retry-dlt} para re-procesarlo con el endpoint de replay.
+     */
+    @RetryableTopic(
+            attempts = "${app.kafka.retry.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${app.kafka.retry.initial-delay-ms:1000}",
+                    multiplierExpression = "${app.kafka.retry.multiplier:2.0}",
+                    maxDelayExpression = "${app.kafka.retry.max-delay-ms:30000}"
+            ),
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            retryTopicSuffix = RETRY_ATTEMPT_SUFFIX,
+            dltTopicSuffix = DLT_SUFFIX,
+            numPartitions = "${app.kafka.topics.movements.partitions:6}",
+            replicationFactor = "${app.kafka.topics.movements.replicas:1}",
+            // Un error en la DLT solo se registra: reenviarlo a la misma DLT generaría un ciclo
+            dltStrategy = DltStrategy.FAIL_ON_ERROR,
+            kafkaTemplate = "kafkaTemplate"
+    )
+    @KafkaListener(
+            topics = TOPIC_TRANSACTION_RETRY,
             containerFactory = "config.kafka.consumerFactory"
     )
-    public void kafkaConsumer(@Payload KafkaMessage message) {
+    public void retryConsumer(@Payload KafkaMessage<TransactionCustomerDto> message) {
+        service.eventTransactionAccountProcessed(message.getData());
+    }
+
+    @DltHandler
+    public void deadLetter(@Payload KafkaMessage<TransactionCustomerDto> message,
+                           @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+        log.error("Evento de cliente {} enviado a {} tras agotar los reintentos",
+                message.getData() != null ? message.getData().getCustomerId() : null, topic);
+    }
+
+    private void process(KafkaMessage<TransactionCustomerDto> message, int index) {
+        // Un mensaje que no se pudo deserializar (o de un tipo desconocido) llega como null dentro del lote
+        if (message == null) {
+            throw new BatchListenerFailedException("Mensaje no deserializable", index);
+        }
         try {
-            TransactionCustomerDto dto = objectMapper.convertValue(
-                    message.getData(), TransactionCustomerDto.class);
-            service.eventTransactionAccountProcessed(dto);
-        } catch (IllegalArgumentException ilarex) {
-            log.error("Error al consumir topic : {}", ilarex.getMessage(), ilarex);
-        } catch (Throwable th) {
-            log.error("Error al consumir topic th: {}", th.getMessage(), th);
+            service.eventTransactionAccountProcessed(message.getData());
+        } catch (RuntimeException ex) {
+            log.warn("Error al consumir topic, se envía a reintentos: {}", ex.getMessage());
+            throw new BatchListenerFailedException(ex.getMessage(), ex, index);
         }
     }
-}
\ No newline at end of file
+}
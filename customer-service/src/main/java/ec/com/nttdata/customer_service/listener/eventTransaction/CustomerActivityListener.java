@@ -0,0 +1,75 @@
+package ec.com.nttdata.customer_service.listener.eventTransaction;
+
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_TRANSACTION_EVENT;
+
+import ec.com.nttdata.customer_service.config.kafka.KafkaEventHeaders;
+import ec.com.nttdata.customer_service.config.kafka.KafkaMessage;
+import ec.com.nttdata.customer_service.listener.eventTransaction.dto.TransactionCustomerDto;
+import ec.com.nttdata.customer_service.service.activity.CustomerActivityStore;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+/**
+ * Alimenta el {@link CustomerActivityStore}. Cada instancia usa su propio grupo para recibir todas las particiones y,
+ * al asignarse, continúa desde los offsets del snapshot local (o desde el inicio si no hay snapshot).
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerActivityListener implements ConsumerSeekAware {
+
+    private final Logger log = LoggerFactory.getLogger(CustomerActivityListener.class);
+    private final CustomerActivityStore store;
+
+    @KafkaListener(
+            id = "customer-activity",
+            topics = TOPIC_TRANSACTION_EVENT,
+            groupId = "${app.activity.group-id:${spring.kafka.consumer.group-id:customer_service}-activity}",
+            containerFactory = "config.kafka.activityConsumerFactory"
+    )
+    public void kafkaConsumer(List<ConsumerRecord<String, KafkaMessage<?>>> records) {
+        for (ConsumerRecord<String, KafkaMessage<?>> record : records) {
+            try {
+                store.apply(record.partition(), record.offset(), eventOf(record),
+                        Instant.ofEpochMilli(record.timestamp()));
+            } catch (RuntimeException e) {
+                // Se reintenta desde este registro; los anteriores del lote ya quedaron aplicados
+                throw new BatchListenerFailedException("No se pudo aplicar el evento al agregado", e, record);
+            }
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        for (TopicPartition partition : assignments.keySet()) {
+            Long next = store.nextOffset(partition.partition());
+            if (next != null) {
+                callback.seek(partition.topic(), partition.partition(), next);
+            } else {
+                callback.seekToBeginning(List.of(partition));
+            }
+        }
+    }
+
+    private TransactionCustomerDto eventOf(ConsumerRecord<String, KafkaMessage<?>> record) {
+        // Los re-envíos desde la DLT ya fueron contabilizados cuando se publicó el evento original
+        if (record.headers().lastHeader(KafkaEventHeaders.REPLAYED) != null) {
+            return null;
+        }
+        if (record.value() == null || !(record.value().getData() instanceof TransactionCustomerDto event)) {
+            log.warn("Evento no deserializable en {}-{}@{}, se omite del agregado",
+                    record.topic(), record.partition(), record.offset());
+            return null;
+        }
+        return event;
+    }
+}
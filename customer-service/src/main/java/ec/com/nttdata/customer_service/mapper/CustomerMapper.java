@@ -3,6 +3,7 @@ package ec.com.nttdata.customer_service.mapper;
 import ec.com.nttdata.customer_service.dto.request.CustomerRequest;
 import ec.com.nttdata.customer_service.dto.response.CustomerResponse;
 import ec.com.nttdata.customer_service.model.Customer;
+import ec.com.nttdata.customer_service.repository.CustomerRepository;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValueCheckStrategy;
@@ -21,5 +22,7 @@ public interface CustomerMapper {
 
     CustomerResponse toResponse(Customer customer);
 
+    CustomerResponse toResponse(CustomerRepository.ResponseView view);
+
     void updateModel(CustomerRequest request, @MappingTarget Customer customer);
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package ec.com.nttdata.customer_service.model;
+
+import ec.com.nttdata.customer_service.enums.OutboxStatusEnum;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Evento pendiente de publicar en Kafka, escrito en la misma transacción que el cambio del cliente que lo origina.
+ * Un borrado se guarda sin payload y se publica como tombstone.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "outbox_events")
+@EqualsAndHashCode(of = "id")
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+    @Column(nullable = false)
+    private Long customerId;
+    @Column(nullable = false)
+    private String topic;
+    @Column(nullable = false)
+    private String action;
+    @Column(length = 4000)
+    private String payload; //JSON, nulo en los tombstones
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private OutboxStatusEnum status = OutboxStatusEnum.PENDING;
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist()
+    void prePersist() {
+        createdAt = LocalDateTime.now();
+    }
+}
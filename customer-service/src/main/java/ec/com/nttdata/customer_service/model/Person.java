@@ -6,6 +6,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -18,7 +20,8 @@ import lombok.NoArgsConstructor;
 public abstract class Person {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customers_seq")
+    @SequenceGenerator(name = "customers_seq", sequenceName = "customers_seq", allocationSize = 50)
     private Long id;
     private String name;
     private String gender;
@@ -28,6 +31,9 @@ public abstract class Person {
     private String phone;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // Se incrementa en cada actualización; base del ETag de las lecturas
+    @Version
+    private Long version;
 
     @PrePersist()
     void prePersist() {
@@ -0,0 +1,76 @@
+package ec.com.nttdata.customer_service.producer;
+
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_CUSTOMER_EVENT;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ec.com.nttdata.customer_service.model.Customer;
+import ec.com.nttdata.customer_service.model.OutboxEvent;
+import ec.com.nttdata.customer_service.producer.dto.CustomerEventDto;
+import ec.com.nttdata.customer_service.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Registra el estado de cada cliente en el outbox del topic compactado {@code customers}, dentro de la transacción
+ * que guarda el cambio; {@link ec.com.nttdata.customer_service.producer.outbox.CustomerOutboxRelay} lo publica
+ * después del commit con el id como clave. El borrado se registra sin payload y se publica como tombstone (valor
+ * nulo) para que la compactación elimine al cliente.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerEventPublisher {
+
+    public static final String ACTION_CREATE = "create";
+    public static final String ACTION_UPDATE = "update";
+    public static final String ACTION_DELETE = "delete";
+    public static final int EVENT_VERSION = 1;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishCreated(Customer customer) {
+        record(ACTION_CREATE, customer.getId(), toEvent(customer));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishUpdated(Customer customer) {
+        record(ACTION_UPDATE, customer.getId(), toEvent(customer));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishDeleted(Long customerId) {
+        record(ACTION_DELETE, customerId, null);
+    }
+
+    private void record(String action, Long customerId, CustomerEventDto data) {
+        log.debug("Recording {} event for customer {} in outbox", action, customerId);
+        outboxEventRepository.save(OutboxEvent.builder()
+                .customerId(customerId)
+                .topic(TOPIC_CUSTOMER_EVENT)
+                .action(action)
+                .payload(data != null ? this.writePayload(data) : null)
+                .build());
+    }
+
+    private String writePayload(CustomerEventDto data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize customer event", e);
+        }
+    }
+
+    private static CustomerEventDto toEvent(Customer customer) {
+        return CustomerEventDto.builder()
+                .id(customer.getId())
+                .name(customer.getName())
+                .status(customer.getIsActive())
+                .build();
+    }
+}
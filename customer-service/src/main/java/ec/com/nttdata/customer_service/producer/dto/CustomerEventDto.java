@@ -0,0 +1,17 @@
+package ec.com.nttdata.customer_service.producer.dto;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CustomerEventDto implements Serializable {
+    private Long id;
+    private String name;
+    private Boolean status;
+}
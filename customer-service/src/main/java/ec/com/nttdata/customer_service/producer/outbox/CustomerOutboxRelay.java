@@ -0,0 +1,189 @@
+package ec.com.nttdata.customer_service.producer.outbox;
+
+import static ec.com.nttdata.customer_service.producer.CustomerEventPublisher.EVENT_VERSION;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ec.com.nttdata.customer_service.config.kafka.KafkaEventHeaders;
+import ec.com.nttdata.customer_service.config.kafka.KafkaMessage;
+import ec.com.nttdata.customer_service.enums.OutboxStatusEnum;
+import ec.com.nttdata.customer_service.model.OutboxEvent;
+import ec.com.nttdata.customer_service.repository.OutboxEventRepository;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publica en el topic compactado {@code customers} los eventos del outbox.
+ *
+ * <p>Lee lotes de eventos {@code PENDING} en orden de {@code id} y los envía con el id del cliente como clave. Los
+ * eventos de un mismo cliente salen de a uno: el siguiente se envía solo cuando Kafka confirmó el anterior, y el
+ * primer fallo detiene al cliente hasta la siguiente pasada; así la compactación conserva siempre el último estado
+ * (un tombstone nunca queda detrás de un alta anterior). Los clientes distintos avanzan juntos, un evento por
+ * cliente en cada ronda. Un evento que nunca podrá publicarse (payload ilegible o no serializable) se marca
+ * {@code DEAD} con el motivo. Solo se eliminan los eventos confirmados. Se asume un único relay activo por base de
+ * datos.</p>
+ */
+@Slf4j
+@Component
+public class CustomerOutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository repository;
+    private final KafkaTemplate<String, KafkaMessage<?>> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final Duration sendTimeout;
+
+    public CustomerOutboxRelay(OutboxEventRepository repository,
+                               KafkaTemplate<String, KafkaMessage<?>> kafkaTemplate,
+                               ObjectMapper objectMapper,
+                               @Value("${app.outbox.relay.batch-size:500}") int batchSize,
+                               @Value("${app.outbox.relay.send-timeout:30s}") Duration sendTimeout) {
+        this.repository = repository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = Math.max(1, batchSize);
+        this.sendTimeout = sendTimeout;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.fixed-delay-ms:200}")
+    public void relay() {
+        int relayed;
+        do {
+            relayed = this.relayBatch();
+        } while (relayed == batchSize);
+    }
+
+    int relayBatch() {
+        List<OutboxEvent> batch = repository.findByStatusOrderByIdAsc(OutboxStatusEnum.PENDING,
+                PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Deque<OutboxEvent>> pendingByCustomer = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            pendingByCustomer.computeIfAbsent(event.getCustomerId(), customerId -> new ArrayDeque<>()).add(event);
+        }
+
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        Set<Long> failedCustomers = new LinkedHashSet<>();
+        while (!pendingByCustomer.isEmpty()) {
+            // Una ronda: el evento más antiguo que le queda a cada cliente
+            Map<OutboxEvent, CompletableFuture<?>> round = new LinkedHashMap<>();
+            for (Deque<OutboxEvent> pending : pendingByCustomer.values()) {
+                OutboxEvent event = pending.peek();
+                round.put(event, this.send(event));
+            }
+            this.awaitAll(round.values());
+
+            round.forEach((event, send) -> {
+                Deque<OutboxEvent> pending = pendingByCustomer.get(event.getCustomerId());
+                Throwable failure = failureOf(send);
+                if (failure == null) {
+                    sentIds.add(event.getId());
+                } else if (isPoison(failure)) {
+                    this.deadLetter(event, failure);
+                } else {
+                    failedCustomers.add(event.getCustomerId());
+                    pendingByCustomer.remove(event.getCustomerId());
+                    return;
+                }
+                pending.poll();
+                if (pending.isEmpty()) {
+                    pendingByCustomer.remove(event.getCustomerId());
+                }
+            });
+        }
+
+        if (!sentIds.isEmpty()) {
+            repository.deleteAllByIdInBatch(sentIds);
+        }
+        if (!failedCustomers.isEmpty()) {
+            log.warn("Outbox relay could not publish events for customers {}; retrying on next run", failedCustomers);
+            return 0;
+        }
+        log.debug("Outbox relay published {} events", sentIds.size());
+        return batch.size();
+    }
+
+    private CompletableFuture<?> send(OutboxEvent event) {
+        try {
+            // Sin payload es un borrado: se publica el tombstone
+            KafkaMessage<?> message = event.getPayload() != null
+                    ? new KafkaMessage<>(event.getAction(), EVENT_VERSION, objectMapper.readTree(event.getPayload()))
+                    : null;
+            return kafkaTemplate.send(new ProducerRecord<>(event.getTopic(), null,
+                    String.valueOf(event.getCustomerId()), message,
+                    KafkaEventHeaders.of(event.getAction(), EVENT_VERSION)));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // El error se trata igual que un envío rechazado por Kafka
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void deadLetter(OutboxEvent event, Throwable failure) {
+        log.error("Outbox event {} of customer {} can never be published; marking it {}", event.getId(),
+                event.getCustomerId(), OutboxStatusEnum.DEAD, failure);
+        String error = String.valueOf(failure);
+        repository.markDead(event.getId(), error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH) : error);
+    }
+
+    // null si el envío se confirmó; un envío que no terminó a tiempo cuenta como fallido
+    private static Throwable failureOf(CompletableFuture<?> send) {
+        if (!send.isDone()) {
+            return new TimeoutException("Send not acknowledged in time");
+        }
+        try {
+            send.join();
+            return null;
+        } catch (CompletionException e) {
+            return e.getCause() != null ? e.getCause() : e;
+        }
+    }
+
+    // Reintentar no cambia el resultado: el payload o su serialización son inválidos
+    private static boolean isPoison(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof JsonProcessingException || cause instanceof SerializationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void awaitAll(Collection<CompletableFuture<?>> sends) {
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // Los envíos fallidos o pendientes se evalúan uno a uno
+            log.debug("Outbox round completed with errors: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
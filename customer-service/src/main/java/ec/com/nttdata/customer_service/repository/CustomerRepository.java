@@ -1,11 +1,95 @@
 package ec.com.nttdata.customer_service.repository;
 
 import ec.com.nttdata.customer_service.model.Customer;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
 
     boolean existsByDni(String dni);
+
+    // Keyset por id (clave primaria): el costo no depende de cuántas filas quedan antes del cursor
+    List<Customer> findAllByOrderByIdAsc(Pageable pageable);
+
+    List<Customer> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // Solo la versión, sin hidratar la entidad: alcanza para responder 304 a una lectura condicional
+    @Query("select c.version from Customer c where c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("select c.id as id, c.version as version from Customer c where c.id in :ids")
+    List<VersionView> findVersionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Proyección con las columnas de la respuesta: las filas no se registran en el contexto de persistencia
+    @Query("select c.id as id, c.name as name, c.gender as gender, c.age as age, c.dni as dni, " +
+            "c.address as address, c.phone as phone, c.isActive as isActive, c.createdAt as createdAt, " +
+            "c.updatedAt as updatedAt, c.version as version from Customer c where c.id in :ids")
+    List<ResponseView> findResponseViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select coalesce(max(c.id), 0) from Customer c")
+    long findMaxId();
+
+    // Solo las columnas del índice de búsqueda, por rangos de id para cargarlos en paralelo
+    @Query("select c.id as id, c.name as name, c.phone as phone, c.dni as dni, c.version as version " +
+            "from Customer c where c.id between :from and :to")
+    List<SearchView> findSearchViewsByIdBetween(@Param("from") Long from, @Param("to") Long to);
+
+    interface VersionView {
+        Long getId();
+
+        Long getVersion();
+    }
+
+    interface ResponseView {
+        Long getId();
+
+        String getName();
+
+        String getGender();
+
+        Integer getAge();
+
+        String getDni();
+
+        String getAddress();
+
+        String getPhone();
+
+        Boolean getIsActive();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+
+        Long getVersion();
+    }
+
+    interface SearchView {
+        Long getId();
+
+        String getName();
+
+        String getPhone();
+
+        String getDni();
+
+        Long getVersion();
+    }
+
+    // Solo la columna dni, leída por bloques: requiere una transacción abierta y cerrar el stream
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select c.dni from Customer c where c.dni is not null")
+    Stream<String> streamAllDnis();
 }
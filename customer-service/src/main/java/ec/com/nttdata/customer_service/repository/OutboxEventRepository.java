@@ -0,0 +1,27 @@
+package ec.com.nttdata.customer_service.repository;
+
+import ec.com.nttdata.customer_service.enums.OutboxStatusEnum;
+import ec.com.nttdata.customer_service.model.OutboxEvent;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    List<OutboxEvent> findByStatusOrderByIdAsc(OutboxStatusEnum status, Pageable pageable);
+
+    /**
+     * Saca el evento de la cola del relay sin borrarlo, con el motivo del fallo.
+     */
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent e set e.status = ec.com.nttdata.customer_service.enums.OutboxStatusEnum.DEAD, "
+            + "e.lastError = :error where e.id = :id")
+    int markDead(@Param("id") Long id, @Param("error") String error);
+}
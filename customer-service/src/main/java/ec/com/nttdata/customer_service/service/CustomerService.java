@@ -1,17 +1,33 @@
 package ec.com.nttdata.customer_service.service;
 
 import ec.com.nttdata.customer_service.dto.request.CustomerRequest;
+import ec.com.nttdata.customer_service.dto.response.CustomerActivityResponse;
+import ec.com.nttdata.customer_service.dto.response.CursorPage;
 import ec.com.nttdata.customer_service.dto.response.CustomerResponse;
+import ec.com.nttdata.customer_service.dto.response.CustomerSearchResponse;
+import ec.com.nttdata.customer_service.dto.response.IdentifierValidationResponse;
 import ec.com.nttdata.customer_service.listener.eventTransaction.dto.TransactionCustomerDto;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface CustomerService {
     Page<CustomerResponse> index(Pageable pageable);
 
+    /**
+     * Listado por cursor ordenado por id, sin consulta de conteo; {@code cursor} vacío pide la primera página.
+     */
+    CursorPage<CustomerResponse> scroll(String cursor, int size);
+
     CustomerResponse show(Long id);
 
+    /**
+     * Versión actual del cliente leída sin hidratar la entidad; vacío si no existe.
+     */
+    Optional<Long> findVersion(Long id);
+
     CustomerResponse create(CustomerRequest request);
 
     CustomerResponse update(Long id, CustomerRequest customerRequest);
@@ -21,4 +37,27 @@ public interface CustomerService {
     void eventTransactionAccountProcessed(TransactionCustomerDto transactionCustomerDto);
 
     List<CustomerResponse> findByIds(List<Long> customerIds);
+
+    /**
+     * Entrega los clientes encontrados de a uno, consultando la base en bloques para que la memoria no crezca con la
+     * cantidad de ids.
+     */
+    void streamByIds(List<Long> customerIds, Consumer<CustomerResponse> consumer);
+
+    /**
+     * Huella de los pares (id, versión) de los clientes pedidos: cambia si alguno se crea, modifica o elimina.
+     */
+    String fingerprintByIds(List<Long> customerIds);
+
+    CustomerActivityResponse activity(Long id);
+
+    /**
+     * Busca en memoria por prefijo de nombre, teléfono o DNI; cada término de la consulta debe coincidir.
+     */
+    List<CustomerSearchResponse> search(String query, int limit);
+
+    /**
+     * Valida cada identificación (cédula o RUC) en el orden recibido, sin consultar la base.
+     */
+    List<IdentifierValidationResponse> validateIdentifiers(List<String> identifiers);
 }
@@ -0,0 +1,8 @@
+package ec.com.nttdata.customer_service.service;
+
+import ec.com.nttdata.customer_service.dto.response.DeadLetterReplayResponse;
+
+public interface DeadLetterReplayService {
+
+    DeadLetterReplayResponse replayMovements(int maxRecords);
+}
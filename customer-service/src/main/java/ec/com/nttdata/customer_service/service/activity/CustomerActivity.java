@@ -0,0 +1,36 @@
+package ec.com.nttdata.customer_service.service.activity;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Agregado inmutable de los movimientos de un cliente. Los montos se acumulan en valor absoluto.
+ */
+public record CustomerActivity(
+        BigDecimal depositTotal,
+        long depositCount,
+        BigDecimal withdrawalTotal,
+        long withdrawalCount,
+        Instant lastActivityAt) {
+
+    public static final String DEPOSIT = "DEPOSITO";
+    public static final String WITHDRAWAL = "RETIRO";
+
+    public static final CustomerActivity EMPTY =
+            new CustomerActivity(BigDecimal.ZERO, 0, BigDecimal.ZERO, 0, null);
+
+    public CustomerActivity plus(String movementType, BigDecimal amount, Instant occurredAt) {
+        BigDecimal value = amount != null ? amount.abs() : BigDecimal.ZERO;
+        Instant last = lastActivityAt == null || (occurredAt != null && occurredAt.isAfter(lastActivityAt))
+                ? occurredAt : lastActivityAt;
+        if (DEPOSIT.equalsIgnoreCase(movementType)) {
+            return new CustomerActivity(depositTotal.add(value), depositCount + 1, withdrawalTotal, withdrawalCount,
+                    last);
+        }
+        if (WITHDRAWAL.equalsIgnoreCase(movementType)) {
+            return new CustomerActivity(depositTotal, depositCount, withdrawalTotal.add(value), withdrawalCount + 1,
+                    last);
+        }
+        return new CustomerActivity(depositTotal, depositCount, withdrawalTotal, withdrawalCount, last);
+    }
+}
@@ -0,0 +1,148 @@
+package ec.com.nttdata.customer_service.service.activity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ec.com.nttdata.customer_service.listener.eventTransaction.dto.TransactionCustomerDto;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Estado en memoria con los agregados de movimientos por cliente, alimentado desde el topic {@code movements}.
+ *
+ * <p>Junto al estado se guarda, por partición, el siguiente offset a consumir. Ambos se escriben juntos en un
+ * snapshot local (escritura a un temporal y luego {@code move} atómico); al reiniciar se carga el snapshot y el
+ * listener continúa desde esos offsets en lugar de re-leer el topic completo. Los eventos se aplican bajo el lock de
+ * lectura y el snapshot se toma bajo el de escritura, así estado y offsets siempre corresponden.</p>
+ */
+@Slf4j
+@Component
+public class CustomerActivityStore implements DisposableBean {
+
+    private final ConcurrentHashMap<Long, CustomerActivity> activities = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, Long> offsets = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+    private final AtomicLong changes = new AtomicLong();
+    private long checkpointedChanges;
+
+    private final ObjectMapper objectMapper;
+    private final Path snapshotPath;
+
+    public CustomerActivityStore(ObjectMapper objectMapper,
+                                 @Value("${app.activity.snapshot.path:./data/customer-activity.json}")
+                                 Path snapshotPath) {
+        this.objectMapper = objectMapper;
+        this.snapshotPath = snapshotPath;
+        this.restore();
+    }
+
+    public void apply(int partition, long offset, TransactionCustomerDto event, Instant occurredAt) {
+        snapshotLock.readLock().lock();
+        try {
+            Long next = offsets.get(partition);
+            if (next != null && offset < next) {
+                // Ya incluido en el snapshot restaurado
+                return;
+            }
+            if (event != null && event.getCustomerId() != null) {
+                activities.compute(event.getCustomerId(), (id, current) ->
+                        (current != null ? current : CustomerActivity.EMPTY)
+                                .plus(event.getMovementType(), event.getAmount(), occurredAt));
+            }
+            offsets.put(partition, offset + 1);
+            changes.incrementAndGet();
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    public Optional<CustomerActivity> find(Long customerId) {
+        return Optional.ofNullable(activities.get(customerId));
+    }
+
+    /**
+     * Siguiente offset a consumir de la partición, o {@code null} si el snapshot no la incluye.
+     */
+    public Long nextOffset(int partition) {
+        return offsets.get(partition);
+    }
+
+    @Scheduled(fixedDelayString = "${app.activity.snapshot.interval-ms:10000}")
+    public synchronized void checkpoint() {
+        Snapshot snapshot;
+        long version;
+        snapshotLock.writeLock().lock();
+        try {
+            version = changes.get();
+            if (version == checkpointedChanges) {
+                return;
+            }
+            snapshot = new Snapshot(new HashMap<>(offsets), new HashMap<>(activities));
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+        write(snapshot);
+        checkpointedChanges = version;
+        log.debug("Customer activity snapshot written: {} customers", snapshot.customers().size());
+    }
+
+    @Override
+    public void destroy() {
+        checkpoint();
+    }
+
+    private void write(Snapshot snapshot) {
+        try {
+            Path parent = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, snapshotPath.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), snapshot);
+            try {
+                Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write customer activity snapshot " + snapshotPath, e);
+        }
+    }
+
+    private void restore() {
+        if (!Files.exists(snapshotPath)) {
+            log.info("No customer activity snapshot at {}, the store will be rebuilt from the topic", snapshotPath);
+            return;
+        }
+        try {
+            Snapshot snapshot = objectMapper.readValue(snapshotPath.toFile(), Snapshot.class);
+            if (snapshot.offsets() != null) {
+                offsets.putAll(snapshot.offsets());
+            }
+            if (snapshot.customers() != null) {
+                activities.putAll(snapshot.customers());
+            }
+            log.info("Customer activity restored: {} customers, offsets {}", activities.size(), offsets);
+        } catch (IOException e) {
+            // Un snapshot ilegible no impide arrancar: el estado se reconstruye desde el inicio del topic
+            log.warn("Ignoring unreadable customer activity snapshot {}: {}", snapshotPath, e.getMessage());
+            offsets.clear();
+            activities.clear();
+        }
+    }
+
+    public record Snapshot(Map<Integer, Long> offsets, Map<Long, CustomerActivity> customers) {
+    }
+}
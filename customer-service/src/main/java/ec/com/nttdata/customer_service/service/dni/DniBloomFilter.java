@@ -0,0 +1,139 @@
+package ec.com.nttdata.customer_service.service.dni;
+
+import ec.com.nttdata.customer_service.repository.CustomerRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Filtro de Bloom en memoria con los DNI ya registrados.
+ *
+ * <p>Responde "seguro que no existe" sin consultar la base; un positivo puede ser falso y debe confirmarse con
+ * {@code existsByDni}. Se reconstruye al arrancar recorriendo la columna {@code dni} en streaming y cada alta
+ * exitosa agrega su DNI. Las bajas no se quitan (un Bloom no admite borrado): solo suben la tasa de falsos
+ * positivos hasta el siguiente arranque. Mientras no termina la reconstrucción todo DNI se reporta como posible,
+ * así la validación cae a la base y nunca se pierde un duplicado.</p>
+ */
+@Slf4j
+@Component
+public class DniBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+    private static final long SECOND_HASH_SEED = 0x9E3779B97F4A7C15L;
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final AtomicLong insertions = new AtomicLong();
+    private final CustomerRepository repository;
+    private volatile boolean ready;
+
+    public DniBloomFilter(CustomerRepository repository,
+                          @Value("${app.customers.dni-filter.expected-insertions:1000000}") long expectedInsertions,
+                          @Value("${app.customers.dni-filter.fpp:0.01}") double fpp) {
+        long n = Math.max(1, expectedInsertions);
+        // m = -n ln(p) / ln(2)^2 bits y k = m/n ln(2) funciones, redondeado a palabras de 64 bits
+        long optimalBits = (long) Math.ceil(-n * Math.log(fpp) / (LN2 * LN2));
+        int words = (int) Math.max(1, (optimalBits + 63) >>> 6);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words << 6;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / n * LN2));
+        this.repository = repository;
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        try (Stream<String> dnis = repository.streamAllDnis()) {
+            dnis.forEach(this::put);
+        }
+        ready = true;
+        log.info("DNI filter rebuilt with {} entries ({} bits, {} hashes) in {} ms",
+                insertions.get(), bitSize, hashFunctions, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public boolean mightContain(String dni) {
+        if (!ready) {
+            return true;
+        }
+        if (dni == null) {
+            return false;
+        }
+        long hash1 = hash(dni);
+        long hash2 = mix(hash1 ^ SECOND_HASH_SEED);
+        for (int i = 0; i < hashFunctions; i++) {
+            if (!isSet(index(hash1, hash2, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void put(String dni) {
+        if (dni == null) {
+            return;
+        }
+        long hash1 = hash(dni);
+        long hash2 = mix(hash1 ^ SECOND_HASH_SEED);
+        for (int i = 0; i < hashFunctions; i++) {
+            set(index(hash1, hash2, i));
+        }
+        insertions.incrementAndGet();
+    }
+
+    private long index(long hash1, long hash2, int i) {
+        // Doble hashing (Kirsch-Mitzenmacher): k posiciones a partir de dos hashes de 64 bits
+        return ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+    }
+
+    private boolean isSet(long bitIndex) {
+        return (bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) != 0;
+    }
+
+    private void set(long bitIndex) {
+        int word = (int) (bitIndex >>> 6);
+        long mask = 1L << bitIndex;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private static long hash(String dni) {
+        // FNV-1a sobre los bytes y mezcla final para repartir los bits altos
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : dni.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    int hashFunctions() {
+        return hashFunctions;
+    }
+}
@@ -1,38 +1,81 @@
 package ec.com.nttdata.customer_service.service.impl;
 
 import ec.com.nttdata.customer_service.dto.request.CustomerRequest;
+import ec.com.nttdata.customer_service.dto.response.CustomerActivityResponse;
+import ec.com.nttdata.customer_service.dto.response.CursorPage;
 import ec.com.nttdata.customer_service.dto.response.CustomerResponse;
+import ec.com.nttdata.customer_service.dto.response.CustomerSearchResponse;
+import ec.com.nttdata.customer_service.dto.response.IdentifierValidationResponse;
 import ec.com.nttdata.customer_service.exception.CustomerDniFoundException;
 import ec.com.nttdata.customer_service.exception.CustomerDniInvalidException;
 import ec.com.nttdata.customer_service.exception.CustomerNotFoundException;
 import ec.com.nttdata.customer_service.listener.eventTransaction.dto.TransactionCustomerDto;
 import ec.com.nttdata.customer_service.mapper.CustomerMapper;
 import ec.com.nttdata.customer_service.model.Customer;
+import ec.com.nttdata.customer_service.producer.CustomerEventPublisher;
 import ec.com.nttdata.customer_service.repository.CustomerRepository;
 import ec.com.nttdata.customer_service.service.CustomerService;
+import ec.com.nttdata.customer_service.service.activity.CustomerActivity;
+import ec.com.nttdata.customer_service.service.activity.CustomerActivityStore;
+import ec.com.nttdata.customer_service.service.dni.DniBloomFilter;
+import ec.com.nttdata.customer_service.service.search.CustomerSearchIndex;
+import ec.com.nttdata.customer_service.util.IdentificationType;
 import ec.com.nttdata.customer_service.util.IdentificationValidator;
+import ec.com.nttdata.customer_service.util.PageCursor;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CustomerServiceImpl implements CustomerService {
+    private static final int BY_IDS_CHUNK_SIZE = 500;
+    private static final String DNI_UNIQUE_INDEX = "ux_customers_dni";
+
     private final CustomerRepository repository;
     private final CustomerMapper customerMapper;
     private final PasswordEncoder passwordEncoder;
+    private final CustomerActivityStore activityStore;
+    private final CustomerEventPublisher eventPublisher;
+    private final DniBloomFilter dniFilter;
+    private final CustomerSearchIndex searchIndex;
+    private final TransactionOperations transactionOperations;
 
     @Override
     public Page<CustomerResponse> index(Pageable pageable) {
         return repository.findAll(pageable).map(customerMapper::toResponse);
     }
 
+    @Override
+    public CursorPage<CustomerResponse> scroll(String cursor, int size) {
+        Long afterId = PageCursor.decode(cursor);
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        List<Customer> rows = afterId == null
+                ? repository.findAllByOrderByIdAsc(limit)
+                : repository.findByIdGreaterThanOrderByIdAsc(afterId, limit);
+        return PageCursor.slice(rows, size, customerMapper::toResponse, Customer::getId);
+    }
+
     @Override
     public CustomerResponse show(Long id) {
         String message = String.format("Customer doest no exists %d", id);
@@ -41,13 +84,19 @@ public class CustomerServiceImpl implements CustomerService {
         return customerMapper.toResponse(customer);
     }
 
+    @Override
+    public Optional<Long> findVersion(Long id) {
+        return repository.findVersionById(id);
+    }
+
     @Override
     public CustomerResponse create(CustomerRequest request) {
         Customer entity = customerMapper.toModel(request);
         this.validate(request);
         String encryptedPassword = passwordEncoder.encode(request.getPassword());
         entity.setPassword(encryptedPassword);
-        repository.save(entity);
+        this.save(entity, eventPublisher::publishCreated);
+        searchIndex.put(entity);
         return customerMapper.toResponse(entity);
     }
 
@@ -57,15 +106,21 @@ public class CustomerServiceImpl implements CustomerService {
         Customer entity = repository.findById(id).orElseThrow(() -> new CustomerNotFoundException(message));
         customerMapper.updateModel(customerRequest, entity);
         entity.setCustomerId(UUID.randomUUID().toString());
-        repository.save(entity);
-        return customerMapper.toResponse(entity);
+        // merge devuelve la copia gestionada, con la versión ya incrementada
+        Customer updated = this.save(entity, eventPublisher::publishUpdated);
+        searchIndex.put(updated);
+        return customerMapper.toResponse(updated);
     }
 
     @Override
     public void delete(Long id) {
         String message = String.format("Customer doest no exists %d", id);
         Customer entity = repository.findById(id).orElseThrow(() -> new CustomerNotFoundException(message));
-        repository.delete(entity);
+        transactionOperations.executeWithoutResult(status -> {
+            repository.delete(entity);
+            eventPublisher.publishDeleted(id);
+        });
+        searchIndex.remove(id);
     }
 
     @Override
@@ -81,20 +136,122 @@ public class CustomerServiceImpl implements CustomerService {
 
     @Override
     public List<CustomerResponse> findByIds(List<Long> ids) {
-        List<Customer> customers = repository.findAllById(ids);
-        return customers.stream()
-                .map(customerMapper::toResponse) // convierte entidad a DTO
-                .toList();
+        List<CustomerResponse> customers = new ArrayList<>();
+        this.streamByIds(ids, customers::add);
+        return customers;
+    }
+
+    @Override
+    public void streamByIds(List<Long> ids, Consumer<CustomerResponse> consumer) {
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        for (int from = 0; from < distinctIds.size(); from += BY_IDS_CHUNK_SIZE) {
+            // Cada bloque es una consulta IN acotada que lee proyecciones, no entidades: con open-in-view el
+            // EntityManager de la petición sigue abierto durante todo el streaming y retendría cada cliente leído
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + BY_IDS_CHUNK_SIZE, distinctIds.size()));
+            repository.findResponseViewsByIdIn(chunk).forEach(view -> consumer.accept(customerMapper.toResponse(view)));
+        }
+    }
+
+    @Override
+    public String fingerprintByIds(List<Long> ids) {
+        MessageDigest digest = sha256();
+        ByteBuffer pair = ByteBuffer.allocate(2 * Long.BYTES);
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        for (int from = 0; from < distinctIds.size(); from += BY_IDS_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + BY_IDS_CHUNK_SIZE, distinctIds.size()));
+            Map<Long, Long> versions = repository.findVersionsByIdIn(chunk).stream()
+                    .collect(Collectors.toMap(CustomerRepository.VersionView::getId,
+                            CustomerRepository.VersionView::getVersion));
+            for (Long id : chunk) {
+                // -1 marca un id inexistente, así crear o eliminar ese cliente también cambia la huella
+                pair.clear();
+                pair.putLong(id).putLong(versions.getOrDefault(id, -1L));
+                digest.update(pair.array());
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+
+    @Override
+    public CustomerActivityResponse activity(Long id) {
+        // Lectura en memoria, sin consultar la base: un cliente sin movimientos devuelve totales en cero
+        CustomerActivity activity = activityStore.find(id).orElse(CustomerActivity.EMPTY);
+        return CustomerActivityResponse.builder()
+                .customerId(id)
+                .depositTotal(activity.depositTotal())
+                .depositCount(activity.depositCount())
+                .withdrawalTotal(activity.withdrawalTotal())
+                .withdrawalCount(activity.withdrawalCount())
+                .lastActivityAt(activity.lastActivityAt())
+                .build();
+    }
+
+    @Override
+    public List<CustomerSearchResponse> search(String query, int limit) {
+        return searchIndex.search(query, limit);
+    }
+
+    @Override
+    public List<IdentifierValidationResponse> validateIdentifiers(List<String> identifiers) {
+        List<IdentifierValidationResponse> results = new ArrayList<>(identifiers.size());
+        for (String identifier : identifiers) {
+            IdentificationType type = IdentificationValidator.identify(identifier);
+            results.add(IdentifierValidationResponse.builder()
+                    .identifier(identifier)
+                    .valid(type.isValid())
+                    .type(type)
+                    .build());
+        }
+        return results;
     }
 
     void validateIdentificationExists(CustomerRequest request) {
-        boolean exists = repository.existsByDni(request.getDni());
+        // El filtro descarta sin consultar la base los DNI que seguro son nuevos; un positivo se confirma en la base
+        boolean exists = dniFilter.mightContain(request.getDni()) && repository.existsByDni(request.getDni());
         if (exists) {
-            String message = String.format("customer with %s already exists", request.getDni());
-            throw new CustomerDniFoundException(message);
+            throw dniAlreadyExists(request.getDni());
         }
     }
 
+    /**
+     * Guarda el cliente y registra su evento en el outbox en una sola transacción: si el evento no se puede
+     * registrar tampoco se guarda el cliente, y viceversa. El hash de la contraseña se calcula antes, sin conexión
+     * tomada.
+     */
+    Customer save(Customer entity, Consumer<Customer> publish) {
+        Customer saved;
+        try {
+            saved = transactionOperations.execute(status -> {
+                // saveAndFlush: el índice único de DNI rechaza el INSERT dentro del try y no recién al confirmar
+                Customer persisted = repository.saveAndFlush(entity);
+                publish.accept(persisted);
+                return persisted;
+            });
+        } catch (DataIntegrityViolationException ex) {
+            // Dos altas concurrentes con el mismo DNI pasan la validación; el índice único rechaza la segunda
+            String cause = String.valueOf(ex.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+            if (cause.contains(DNI_UNIQUE_INDEX)) {
+                throw dniAlreadyExists(entity.getDni());
+            }
+            throw ex;
+        }
+        dniFilter.put(entity.getDni());
+        return saved;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static CustomerDniFoundException dniAlreadyExists(String dni) {
+        String message = String.format("customer with %s already exists", dni);
+        return new CustomerDniFoundException(message);
+    }
+
     void validateIdentificationEc(CustomerRequest request) {
         boolean validDni = IdentificationValidator.isValidIdentifier(request.getDni());
         if (!validDni) {
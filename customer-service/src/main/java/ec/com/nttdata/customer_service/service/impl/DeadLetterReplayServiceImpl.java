@@ -0,0 +1,142 @@
+package ec.com.nttdata.customer_service.service.impl;
+
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_TRANSACTION_DLT;
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_TRANSACTION_EVENT;
+
+import ec.com.nttdata.customer_service.config.kafka.KafkaEventHeaders;
+import ec.com.nttdata.customer_service.dto.response.DeadLetterReplayResponse;
+import ec.com.nttdata.customer_service.service.DeadLetterReplayService;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Service;
+
+/**
+ * Re-publica en bloque los registros de la DLT de movimientos hacia el topic principal.
+ *
+ * <p>Los registros se copian como bytes (clave, valor y cabeceras del evento), sin las cabeceras de diagnóstico que
+ * agregan los reintentos. Los offsets de la DLT se confirman en un grupo propio solo después de que todos los envíos
+ * fueron aceptados, así que un replay interrumpido puede repetirse sin perder registros.</p>
+ */
+@Slf4j
+@Service
+public class DeadLetterReplayServiceImpl implements DeadLetterReplayService {
+
+    private static final String REPLAY_GROUP_SUFFIX = "-dlt-replay";
+    private static final String RETRY_TOPIC_HEADER_PREFIX = "retry_topic-";
+    private static final String DLT_HEADER_PREFIX = KafkaHeaders.PREFIX + "dlt-";
+    private static final byte[] REPLAYED = "true".getBytes(StandardCharsets.UTF_8);
+
+    private final ConsumerFactory<byte[], byte[]> consumerFactory;
+    private final KafkaTemplate<byte[], byte[]> replayTemplate;
+    private final String replayGroup;
+    private final Duration pollTimeout;
+    private final Duration sendTimeout;
+
+    public DeadLetterReplayServiceImpl(
+            @Qualifier("config.kafka.replayConsumerFactory") ConsumerFactory<byte[], byte[]> consumerFactory,
+            @Qualifier("config.kafka.replayTemplate") KafkaTemplate<byte[], byte[]> replayTemplate,
+            @Value("${spring.kafka.consumer.group-id:customer_service}") String groupId,
+            @Value("${app.kafka.dlt.replay.poll-timeout:2s}") Duration pollTimeout,
+            @Value("${app.kafka.dlt.replay.send-timeout:30s}") Duration sendTimeout) {
+        this.consumerFactory = consumerFactory;
+        this.replayTemplate = replayTemplate;
+        this.replayGroup = groupId + REPLAY_GROUP_SUFFIX;
+        this.pollTimeout = pollTimeout;
+        this.sendTimeout = sendTimeout;
+    }
+
+    @Override
+    public synchronized DeadLetterReplayResponse replayMovements(int maxRecords) {
+        int replayed = 0;
+        try (Consumer<byte[], byte[]> consumer = consumerFactory.createConsumer(replayGroup, null)) {
+            consumer.assign(partitionsOf(consumer, TOPIC_TRANSACTION_DLT));
+
+            Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+            List<CompletableFuture<?>> sends = new ArrayList<>();
+            while (replayed < maxRecords) {
+                ConsumerRecords<byte[], byte[]> records = consumer.poll(pollTimeout);
+                if (records.isEmpty()) {
+                    break;
+                }
+                for (ConsumerRecord<byte[], byte[]> record : records) {
+                    if (replayed == maxRecords) {
+                        break;
+                    }
+                    sends.add(replayTemplate.send(toReplayRecord(record)));
+                    offsets.put(new TopicPartition(record.topic(), record.partition()),
+                            new OffsetAndMetadata(record.offset() + 1));
+                    replayed++;
+                }
+            }
+
+            awaitSends(sends);
+            if (!offsets.isEmpty()) {
+                consumer.commitSync(offsets);
+            }
+        }
+        log.info("DLT replay: {} registros re-publicados de {} a {}", replayed, TOPIC_TRANSACTION_DLT,
+                TOPIC_TRANSACTION_EVENT);
+        return DeadLetterReplayResponse.builder()
+                .source(TOPIC_TRANSACTION_DLT)
+                .target(TOPIC_TRANSACTION_EVENT)
+                .replayed(replayed)
+                .build();
+    }
+
+    private static List<TopicPartition> partitionsOf(Consumer<byte[], byte[]> consumer, String topic) {
+        List<PartitionInfo> partitions = consumer.partitionsFor(topic);
+        if (partitions == null) {
+            return List.of();
+        }
+        return partitions.stream()
+                .map(partition -> new TopicPartition(partition.topic(), partition.partition()))
+                .toList();
+    }
+
+    private static ProducerRecord<byte[], byte[]> toReplayRecord(ConsumerRecord<byte[], byte[]> record) {
+        RecordHeaders headers = new RecordHeaders();
+        for (Header header : record.headers()) {
+            if (!header.key().startsWith(DLT_HEADER_PREFIX) && !header.key().startsWith(RETRY_TOPIC_HEADER_PREFIX)) {
+                headers.add(header);
+            }
+        }
+        headers.add(KafkaEventHeaders.REPLAYED, REPLAYED);
+        return new ProducerRecord<>(TOPIC_TRANSACTION_EVENT, null, record.key(), record.value(), headers);
+    }
+
+    private void awaitSends(List<CompletableFuture<?>> sends) {
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("DLT replay interrupted", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new KafkaException("DLT replay failed, offsets were not committed", e);
+        }
+    }
+}
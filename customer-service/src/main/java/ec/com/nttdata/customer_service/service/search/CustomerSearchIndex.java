@@ -0,0 +1,290 @@
+package ec.com.nttdata.customer_service.service.search;
+
+import ec.com.nttdata.customer_service.dto.response.CustomerSearchResponse;
+import ec.com.nttdata.customer_service.model.Customer;
+import ec.com.nttdata.customer_service.repository.CustomerRepository;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Índice en memoria para buscar clientes por prefijo de nombre, teléfono o DNI.
+ *
+ * <p>Cada cliente aporta sus tokens normalizados (palabras del nombre en minúsculas y sin tildes, dígitos del
+ * teléfono, DNI) a un mapa ordenado token → ids; un prefijo es un rango {@code subMap} del mapa y la búsqueda se
+ * corta al llegar al límite de resultados, así el costo no crece con la cantidad de clientes. Se mantiene con cada
+ * alta, actualización y baja, y se reconstruye al arrancar leyendo rangos de ids en paralelo. Las entradas de la
+ * reconstrucción solo reemplazan versiones más antiguas, para no pisar cambios hechos mientras se carga.</p>
+ */
+@Slf4j
+@Component
+public class CustomerSearchIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ConcurrentSkipListMap<String, Set<Long>> tokens = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, IndexedCustomer> customers = new ConcurrentHashMap<>();
+    private final Set<Long> removedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private final CustomerRepository repository;
+    private final int rebuildThreads;
+    private final int rebuildChunkSize;
+    private volatile boolean ready;
+
+    public CustomerSearchIndex(CustomerRepository repository,
+                               @Value("${app.customers.search.rebuild-threads:0}") int rebuildThreads,
+                               @Value("${app.customers.search.rebuild-chunk-size:10000}") int rebuildChunkSize) {
+        this.repository = repository;
+        this.rebuildThreads = rebuildThreads > 0 ? rebuildThreads : Runtime.getRuntime().availableProcessors();
+        this.rebuildChunkSize = Math.max(1, rebuildChunkSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() throws InterruptedException {
+        long start = System.nanoTime();
+        long maxId = repository.findMaxId();
+        ExecutorService executor = Executors.newFixedThreadPool(rebuildThreads);
+        try {
+            List<Future<?>> ranges = new ArrayList<>();
+            for (long from = 0; from <= maxId; from += rebuildChunkSize) {
+                long to = Math.min(maxId, from + rebuildChunkSize - 1);
+                long rangeFrom = from;
+                ranges.add(executor.submit(() -> repository.findSearchViewsByIdBetween(rangeFrom, to)
+                        .forEach(view -> index(view.getId(), view.getName(), view.getPhone(), view.getDni(),
+                                view.getVersion(), true))));
+            }
+            for (Future<?> range : ranges) {
+                range.get();
+            }
+        } catch (ExecutionException e) {
+            // El índice queda parcial; las altas y cambios siguientes igual se indexan
+            log.error("Customer search index rebuild failed: {}", e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+        ready = true;
+        removedDuringRebuild.clear();
+        log.info("Customer search index rebuilt with {} customers and {} tokens in {} ms",
+                customers.size(), tokens.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public void put(Customer customer) {
+        long version = customer.getVersion() != null ? customer.getVersion() : 0L;
+        index(customer.getId(), customer.getName(), customer.getPhone(), customer.getDni(), version, false);
+    }
+
+    public void remove(Long id) {
+        if (!ready) {
+            removedDuringRebuild.add(id);
+        }
+        customers.computeIfPresent(id, (key, current) -> {
+            current.tokens().forEach(token -> unlink(token, id));
+            return null;
+        });
+    }
+
+    /**
+     * Clientes cuyos tokens empiezan con cada término de la consulta; por ejemplo "mar 0982" encuentra a
+     * "María Pérez" con teléfono 0982...
+     */
+    public List<CustomerSearchResponse> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String driver = selectDriver(terms);
+        Set<Long> matches = new LinkedHashSet<>();
+        for (Set<Long> ids : prefixRange(driver).values()) {
+            for (Long id : ids) {
+                IndexedCustomer customer = customers.get(id);
+                if (customer != null && customer.matchesAll(terms)) {
+                    matches.add(id);
+                    if (matches.size() >= limit) {
+                        return toResponses(matches);
+                    }
+                }
+            }
+        }
+        return toResponses(matches);
+    }
+
+    /**
+     * Término con menos candidatos: recorre sus coincidencias y filtra por los demás. El conteo se corta al superar
+     * el mejor hasta el momento, así un prefijo muy común ("and" de Andrade y Andrés) no se recorre entero.
+     */
+    private String selectDriver(List<String> terms) {
+        if (terms.size() == 1) {
+            return terms.get(0);
+        }
+        List<String> byLength = new ArrayList<>(terms);
+        byLength.sort(Comparator.comparingInt(String::length).reversed());
+        String driver = byLength.get(0);
+        long best = Long.MAX_VALUE;
+        for (String term : byLength) {
+            long candidates = 0;
+            for (Set<Long> ids : prefixRange(term).values()) {
+                candidates += ids.size();
+                if (candidates >= best) {
+                    break;
+                }
+            }
+            if (candidates < best) {
+                best = candidates;
+                driver = term;
+            }
+        }
+        return driver;
+    }
+
+    private ConcurrentNavigableMap<String, Set<Long>> prefixRange(String prefix) {
+        return tokens.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private void index(Long id, String name, String phone, String dni, long version, boolean fromRebuild) {
+        if (id == null) {
+            return;
+        }
+        IndexedCustomer indexed = new IndexedCustomer(id, name, phone, dni, version, tokensOf(name, phone, dni));
+        customers.compute(id, (key, current) -> {
+            // Se revisa dentro del compute: una baja concurrente del mismo id queda ordenada antes o después
+            if (fromRebuild && removedDuringRebuild.contains(id)) {
+                return current;
+            }
+            if (current != null) {
+                if (fromRebuild && current.version() >= version) {
+                    return current;
+                }
+                current.tokens().forEach(token -> unlink(token, id));
+            }
+            indexed.tokens().forEach(token -> link(token, id));
+            return indexed;
+        });
+    }
+
+    /**
+     * El compute de {@link ConcurrentSkipListMap} no es atómico (puede reintentar la función), así que el alta y
+     * la baja de un id en el conjunto de un token se sincronizan sobre ese conjunto: un conjunto que quedó vacío se
+     * quita del mapa bajo su lock y el alta, al encontrarlo ya desvinculado, vuelve a buscar el vigente.
+     */
+    private void link(String token, Long id) {
+        while (true) {
+            // La mayoría de los tokens (teléfono, DNI) tiene un solo id: el conjunto arranca con la tabla mínima
+            Set<Long> ids = tokens.computeIfAbsent(token, t -> ConcurrentHashMap.newKeySet(1));
+            synchronized (ids) {
+                if (tokens.get(token) == ids) {
+                    ids.add(id);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void unlink(String token, Long id) {
+        Set<Long> ids = tokens.get(token);
+        if (ids == null) {
+            return;
+        }
+        synchronized (ids) {
+            if (ids.remove(id) && ids.isEmpty()) {
+                tokens.remove(token, ids);
+            }
+        }
+    }
+
+    private List<CustomerSearchResponse> toResponses(Set<Long> ids) {
+        List<CustomerSearchResponse> responses = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            IndexedCustomer customer = customers.get(id);
+            if (customer != null) {
+                responses.add(CustomerSearchResponse.builder()
+                        .id(customer.id())
+                        .name(customer.name())
+                        .phone(customer.phone())
+                        .dni(customer.dni())
+                        .build());
+            }
+        }
+        return responses;
+    }
+
+    static List<String> tokenize(String value) {
+        if (value == null || value.isBlank()) {
+            return Collections.emptyList();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> result = new ArrayList<>();
+        for (String token : SEPARATORS.split(normalized)) {
+            if (!token.isEmpty()) {
+                result.add(token);
+            }
+        }
+        return result;
+    }
+
+    private static List<String> tokensOf(String name, String phone, String dni) {
+        Set<String> result = new LinkedHashSet<>(tokenize(name));
+        // Teléfono y DNI se indexan como un solo token con sus dígitos, sin guiones ni espacios
+        String phoneDigits = String.join("", tokenize(phone));
+        if (!phoneDigits.isEmpty()) {
+            result.add(phoneDigits);
+        }
+        String dniDigits = String.join("", tokenize(dni));
+        if (!dniDigits.isEmpty()) {
+            result.add(dniDigits);
+        }
+        return List.copyOf(result);
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    int size() {
+        return customers.size();
+    }
+
+    int tokenCount() {
+        return tokens.size();
+    }
+
+    private record IndexedCustomer(Long id, String name, String phone, String dni, long version,
+                                   List<String> tokens) {
+
+        boolean matchesAll(List<String> terms) {
+            for (String term : terms) {
+                if (!hasPrefix(term)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean hasPrefix(String term) {
+            for (String token : tokens) {
+                if (token.startsWith(term)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
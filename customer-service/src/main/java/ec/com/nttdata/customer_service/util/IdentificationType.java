@@ -0,0 +1,16 @@
+package ec.com.nttdata.customer_service.util;
+
+/**
+ * Tipo de identificación ecuatoriana reconocido por {@link IdentificationValidator}.
+ */
+public enum IdentificationType {
+    CEDULA,
+    RUC_NATURAL,
+    RUC_PUBLIC,
+    RUC_PRIVATE,
+    INVALID;
+
+    public boolean isValid() {
+        return this != INVALID;
+    }
+}
@@ -1,38 +1,121 @@
 package ec.com.nttdata.customer_service.util;
 
+/**
+ * Validación de cédula (10 dígitos) y RUC (13 dígitos) ecuatorianos.
+ *
+ * <p>Recorre los caracteres directamente, sin crear arreglos ni streams por llamada, y rechaza cualquier carácter
+ * que no sea un dígito ASCII.</p>
+ */
 public class IdentificationValidator {
+    private static final int CEDULA_LENGTH = 10;
+    private static final int RUC_LENGTH = 13;
+    private static final int MAX_PROVINCE = 24;
+
     private IdentificationValidator() {
     }
 
     public static boolean isValidIdentifier(String dni) {
-        // Validar longitud
-        if (dni == null || dni.length() != 10) {
-            return false;
+        return identify(dni).isValid();
+    }
+
+    public static IdentificationType identify(String dni) {
+        if (dni == null) {
+            return IdentificationType.INVALID;
         }
+        if (dni.length() == CEDULA_LENGTH) {
+            return isValidCedula(dni) ? IdentificationType.CEDULA : IdentificationType.INVALID;
+        }
+        if (dni.length() == RUC_LENGTH) {
+            return identifyRuc(dni);
+        }
+        return IdentificationType.INVALID;
+    }
 
-        try {
-            int[] cedulaDigits = dni.chars().map(Character::getNumericValue).toArray();
+    static boolean isValidCedula(CharSequence value) {
+        if (!hasValidProvince(value)) {
+            return false;
+        }
 
-            // Validar el código de provincia (debe estar en el rango 01-24)
-            int provinceCode = cedulaDigits[0] * 10 + cedulaDigits[1];
-            if (provinceCode < 1 || provinceCode > 24) {
+        // Módulo 10 con coeficientes 2,1,2,1... sobre los 9 primeros dígitos
+        int sum = 0;
+        for (int i = 0; i < 9; i++) {
+            int digit = digitAt(value, i);
+            if (digit < 0) {
                 return false;
             }
+            int product = (i % 2 == 0) ? digit * 2 : digit;
+            sum += (product > 9) ? (product - 9) : product;
+        }
+
+        int checkDigit = digitAt(value, 9);
+        return checkDigit >= 0 && (10 - (sum % 10)) % 10 == checkDigit;
+    }
 
-            // Calcular el dígito de verificación
-            int[] weights = {2, 1};
-            int sum = 0;
-            for (int i = 0; i < 9; i++) {
-                int product = cedulaDigits[i] * weights[i % 2];
-                sum += (product > 9) ? (product - 9) : product;
+    static IdentificationType identifyRuc(CharSequence value) {
+        if (!hasValidProvince(value)) {
+            return IdentificationType.INVALID;
+        }
+
+        // El tercer dígito define el tipo de contribuyente
+        int third = digitAt(value, 2);
+        if (third >= 0 && third < 6) {
+            return isValidCedula(value) && hasEstablishment(value, 10)
+                    ? IdentificationType.RUC_NATURAL : IdentificationType.INVALID;
+        }
+        if (third == 6) {
+            // Sector público: verificador en la posición 9 y establecimiento de 4 dígitos
+            return hasModulo11CheckDigit(value, 8) && hasEstablishment(value, 9)
+                    ? IdentificationType.RUC_PUBLIC : IdentificationType.INVALID;
+        }
+        if (third == 9) {
+            return hasModulo11CheckDigit(value, 9) && hasEstablishment(value, 10)
+                    ? IdentificationType.RUC_PRIVATE : IdentificationType.INVALID;
+        }
+        return IdentificationType.INVALID;
+    }
+
+    private static boolean hasModulo11CheckDigit(CharSequence value, int checkIndex) {
+        // Coeficientes 4,3,2,7,6,5,4,3,2 (privadas) o 3,2,7,6,5,4,3,2 (públicas): 2..7 cíclico de derecha a izquierda
+        int sum = 0;
+        for (int i = 0; i < checkIndex; i++) {
+            int digit = digitAt(value, i);
+            if (digit < 0) {
+                return false;
             }
+            sum += digit * (2 + (checkIndex - 1 - i) % 6);
+        }
+
+        int remainder = sum % 11;
+        int expected = remainder == 0 ? 0 : 11 - remainder;
+        return expected != 10 && expected == digitAt(value, checkIndex);
+    }
 
-            int expectedDigit = (10 - (sum % 10)) % 10;
+    private static boolean hasEstablishment(CharSequence value, int from) {
+        // Número de establecimiento: solo dígitos y distinto de cero
+        boolean nonZero = false;
+        for (int i = from; i < value.length(); i++) {
+            int digit = digitAt(value, i);
+            if (digit < 0) {
+                return false;
+            }
+            nonZero |= digit != 0;
+        }
+        return nonZero;
+    }
 
-            // Comparar el dígito de verificación calculado con el proporcionado
-            return expectedDigit == cedulaDigits[9];
-        } catch (NumberFormatException e) {
+    private static boolean hasValidProvince(CharSequence value) {
+        // Código de provincia en el rango 01-24
+        int tens = digitAt(value, 0);
+        int units = digitAt(value, 1);
+        if (tens < 0 || units < 0) {
             return false;
         }
+        int provinceCode = tens * 10 + units;
+        return provinceCode >= 1 && provinceCode <= MAX_PROVINCE;
+    }
+
+    private static int digitAt(CharSequence value, int index) {
+        int digit = value.charAt(index) - '0';
+        return (digit >= 0 && digit <= 9) ? digit : -1;
     }
 }
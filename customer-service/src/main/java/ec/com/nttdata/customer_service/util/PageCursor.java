@@ -0,0 +1,48 @@
+package ec.com.nttdata.customer_service.util;
+
+import ec.com.nttdata.customer_service.dto.response.CursorPage;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Token opaco (Base64 URL-safe) con el id de la última fila entregada en un listado por cursor.
+ */
+public class PageCursor {
+    private PageCursor() {
+    }
+
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Devuelve el id codificado en el token, o {@code null} si el token está vacío (primera página).
+     */
+    public static Long decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + token);
+        }
+    }
+
+    /**
+     * Arma la página a partir de {@code size + 1} filas leídas: la fila extra solo indica que hay más y no se
+     * entrega, así se evita el {@code COUNT(*)}.
+     */
+    public static <E, T> CursorPage<T> slice(List<E> rows, int size, Function<E, T> mapper, Function<E, Long> idOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        return CursorPage.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .size(page.size())
+                .nextCursor(hasNext ? encode(idOf.apply(page.get(page.size() - 1))) : null)
+                .build();
+    }
+}
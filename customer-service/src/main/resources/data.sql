@@ -4,11 +4,12 @@
 
 -- Insertar datos en la tabla de clientes
 INSERT INTO "customers" (
-    "customer_id", "name", "gender", "age", "dni", "address", "phone", "password", "is_active", "created_at"
+    "id", "customer_id", "name", "gender", "age", "dni", "address", "phone", "password", "is_active", "created_at"
 ) VALUES
-('CUST001', 'Jose Lema', 'M', 30, '100000001', 'Otavalo sn y principal', '098254785', '1234', true, NOW()),
-('CUST002', 'Marianela Montalvo', 'F', 28, '100000002', 'Amazonas y NNUU', '097548965', '5678', true, NOW()),
-('CUST003', 'Juan Osorio', 'M', 32, '100000003', '13 junio y Equinoccial', '098874587', '1245', true, NOW());
--- Sincronizar el contador de autoincremento para la tabla de clientes
--- Esto asegura que el próximo ID generado sea mayor que el último ID insertado.
-ALTER TABLE "customers" ALTER COLUMN "id" RESTART WITH (SELECT MAX("id") + 1 FROM "customers");
+(1, 'CUST001', 'Jose Lema', 'M', 30, '100000001', 'Otavalo sn y principal', '098254785', '1234', true, NOW()),
+(2, 'CUST002', 'Marianela Montalvo', 'F', 28, '100000002', 'Amazonas y NNUU', '097548965', '5678', true, NOW()),
+(3, 'CUST003', 'Juan Osorio', 'M', 32, '100000003', '13 junio y Equinoccial', '098874587', '1245', true, NOW());
+-- Sincronizar la secuencia de clientes con los datos insertados.
+-- Con el optimizador pooled el valor de la secuencia es el tope del bloque reservado,
+-- por eso se suma el tamaño del bloque (50): el primer id generado será MAX("id") + 1.
+ALTER SEQUENCE "customers_seq" RESTART WITH (SELECT MAX("id") + 50 FROM "customers");
@@ -1,7 +1,14 @@
+DROP TABLE IF EXISTS "outbox_events";
 DROP TABLE IF EXISTS "customers";
+DROP SEQUENCE IF EXISTS "customers_seq";
+DROP SEQUENCE IF EXISTS "outbox_events_seq";
+
+-- Secuencia con incremento 50 para el optimizador pooled de Hibernate (permite lotes JDBC)
+CREATE SEQUENCE "customers_seq" START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE "outbox_events_seq" START WITH 1 INCREMENT BY 50;
 
 CREATE TABLE "customers" (
-    "id" BIGINT PRIMARY KEY AUTO_INCREMENT,
+    "id" BIGINT PRIMARY KEY,
     "customer_id" VARCHAR(255),
     "name" VARCHAR(255),
     "gender" VARCHAR(255),
@@ -12,5 +19,25 @@ CREATE TABLE "customers" (
     "password" VARCHAR(255),
     "is_active" BOOLEAN,
     "created_at" TIMESTAMP NULL,
-    "updated_at" TIMESTAMP NULL
+    "updated_at" TIMESTAMP NULL,
+    "version" BIGINT DEFAULT 0 NOT NULL
 );
+
+-- Índice único: existsByDni deja de recorrer la tabla y dos altas concurrentes no pueden duplicar el DNI
+CREATE UNIQUE INDEX "ux_customers_dni" ON "customers" ("dni");
+
+-- Outbox de eventos del topic "customers": se escribe en la misma transacción que el cambio del cliente
+-- y un relay en segundo plano lo publica en Kafka en orden de "id". Un borrado se guarda sin payload (tombstone).
+CREATE TABLE "outbox_events" (
+    "id" BIGINT PRIMARY KEY,
+    "customer_id" BIGINT NOT NULL,
+    "topic" VARCHAR(255) NOT NULL,
+    "action" VARCHAR(255) NOT NULL,
+    "payload" VARCHAR(4000),
+    "status" VARCHAR(20) DEFAULT 'PENDING' NOT NULL,
+    "last_error" VARCHAR(1000),
+    "created_at" TIMESTAMP DEFAULT NOW()
+);
+
+-- El relay lee solo los PENDING en orden de id; los DEAD quedan para revisión manual
+CREATE INDEX "ix_outbox_events_status_id" ON "outbox_events" ("status", "id");
@@ -0,0 +1,150 @@
+package ec.com.nttdata.customer_service.config.kafka;
+
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_TRANSACTION_EVENT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ec.com.nttdata.customer_service.config.ObjectMapperConfig;
+import ec.com.nttdata.customer_service.listener.KafkaEventTypeResolver;
+import ec.com.nttdata.customer_service.listener.eventTransaction.dto.TransactionCustomerDto;
+import java.math.BigDecimal;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.GenericRecordBuilder;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+class KafkaEventDeserializerTest {
+
+    private static final byte[] JSON_PAYLOAD = ("{\"action\":\"create\",\"version\":1,"
+            + "\"data\":{\"customer_id\":7,\"amount\":25.50,\"movement_type\":\"DEPOSITO\"}}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private Schema schema;
+    private KafkaEventDeserializer deserializer;
+
+    @BeforeEach
+    void setUp() {
+        schema = AvroEventDecoder.fromClasspath(KafkaFactory.MOVEMENT_EVENT_SCHEMA,
+                KafkaFactory.MOVEMENT_EVENT_WRITER_SCHEMAS, new ObjectMapper()).getSchema();
+        deserializer = deserializer(List.of(schema));
+    }
+
+    private KafkaEventDeserializer deserializer(List<Schema> writerSchemas) {
+        ObjectMapper objectMapper = new ObjectMapperConfig().objectMapper();
+        KafkaEventTypeResolver typeResolver = new KafkaEventTypeResolver(objectMapper.getTypeFactory());
+        JsonDeserializer<KafkaMessage<?>> jsonDeserializer = new JsonDeserializer<>(objectMapper);
+        jsonDeserializer.setTypeResolver(typeResolver);
+        return new KafkaEventDeserializer(jsonDeserializer, typeResolver,
+                Map.of(TOPIC_TRANSACTION_EVENT, new AvroEventDecoder(schema, writerSchemas, objectMapper)));
+    }
+
+    // Versión posterior del productor: agrega al data un campo que este servicio no conoce
+    private Schema writerSchemaWithChannel() {
+        return new Schema.Parser().parse(schema.toString().replace("{\"name\":\"movement_type\"",
+                "{\"name\":\"channel\",\"type\":\"string\",\"default\":\"web\"},{\"name\":\"movement_type\""));
+    }
+
+    private RecordHeaders headers(String codecName, String version) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(KafkaEventHeaders.TYPE, "create".getBytes(StandardCharsets.UTF_8));
+        headers.add(KafkaEventHeaders.VERSION, version.getBytes(StandardCharsets.UTF_8));
+        if (codecName != null) {
+            headers.add(KafkaEventHeaders.CODEC, codecName.getBytes(StandardCharsets.UTF_8));
+        }
+        return headers;
+    }
+
+    // Lo que publica el productor: codificación de objeto único con su esquema de escritura
+    private static byte[] encode(Schema writerSchema, Long customerId, String amount, String movementType) {
+        Schema dataSchema = writerSchema.getField("data").schema();
+        GenericRecordBuilder data = new GenericRecordBuilder(dataSchema)
+                .set("customer_id", customerId)
+                .set("amount", amount)
+                .set("movement_type", movementType);
+        if (dataSchema.getField("channel") != null) {
+            data.set("channel", "mobile");
+        }
+        GenericRecord message = new GenericRecordBuilder(writerSchema)
+                .set("action", "create")
+                .set("version", 1)
+                .set("data", data.build())
+                .build();
+        try {
+            return new BinaryMessageEncoder<GenericRecord>(GenericData.get(), writerSchema).encode(message).array();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    void shouldDecodeAvroStraightToDto() {
+        byte[] payload = encode(schema, 7L, "25.50", "DEPOSITO");
+
+        KafkaMessage<?> message = deserializer.deserialize(TOPIC_TRANSACTION_EVENT, headers("avro", "1"), payload);
+
+        TransactionCustomerDto dto = assertInstanceOf(TransactionCustomerDto.class, message.getData());
+        assertEquals(7L, dto.getCustomerId());
+        assertEquals(new BigDecimal("25.50"), dto.getAmount());
+        assertEquals("DEPOSITO", dto.getMovementType());
+        assertEquals("create", message.getAction());
+        assertEquals(1, message.getVersion());
+    }
+
+    @Test
+    void shouldDecodeAvroNullFields() {
+        byte[] payload = encode(schema, 7L, null, null);
+
+        KafkaMessage<?> message = deserializer.deserialize(TOPIC_TRANSACTION_EVENT, headers("avro", "1"), payload);
+
+        TransactionCustomerDto dto = assertInstanceOf(TransactionCustomerDto.class, message.getData());
+        assertEquals(7L, dto.getCustomerId());
+        assertNull(dto.getAmount());
+        assertNull(dto.getMovementType());
+    }
+
+    @Test
+    void shouldResolveANewerWriterSchemaAgainstTheReaderSchema() {
+        // Con el esquema de escritura registrado el mensaje se resuelve y el campo nuevo se descarta
+        Schema writerV2 = writerSchemaWithChannel();
+        KafkaEventDeserializer resolving = deserializer(List.of(schema, writerV2));
+
+        KafkaMessage<?> message = resolving.deserialize(TOPIC_TRANSACTION_EVENT, headers("avro", "1"),
+                encode(writerV2, 7L, "25.50", "DEPOSITO"));
+
+        TransactionCustomerDto dto = assertInstanceOf(TransactionCustomerDto.class, message.getData());
+        assertEquals(7L, dto.getCustomerId());
+        assertEquals(new BigDecimal("25.50"), dto.getAmount());
+        assertEquals("DEPOSITO", dto.getMovementType());
+    }
+
+    @Test
+    void shouldFallBackToJsonWithoutCodecHeader() {
+        KafkaMessage<?> message = deserializer.deserialize(TOPIC_TRANSACTION_EVENT, headers(null, "1"), JSON_PAYLOAD);
+
+        TransactionCustomerDto dto = assertInstanceOf(TransactionCustomerDto.class, message.getData());
+        assertEquals(new BigDecimal("25.50"), dto.getAmount());
+    }
+
+    @Test
+    void shouldRejectAvroWrittenWithAnUnknownSchema() {
+        RecordHeaders headers = headers("avro", "1");
+        byte[] payload = encode(writerSchemaWithChannel(), 7L, "25.50", "DEPOSITO");
+
+        assertThrows(SerializationException.class,
+                () -> deserializer.deserialize(TOPIC_TRANSACTION_EVENT, headers, payload));
+    }
+}
@@ -0,0 +1,107 @@
+package ec.com.nttdata.customer_service.config.kafka;
+
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_TRANSACTION_DLT;
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_TRANSACTION_EVENT;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+
+class KafkaFactoryTest {
+
+    private static final byte[] POISON = {0x00, (byte) 0xff, 0x7b, 0x22, (byte) 0xc3, 0x28};
+
+    @Test
+    void undeserializableRecordShouldReachTheDltWithItsOriginalBytes() {
+        MockProducer<String, Object> jsonProducer = new MockProducer<>(true, new StringSerializer(), (t, d) -> null);
+        MockProducer<String, byte[]> bytesProducer =
+                new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        DefaultErrorHandler errorHandler = KafkaFactory.batchErrorHandler(
+                new KafkaTemplate<>(new MockProducerFactory<>(() -> jsonProducer)),
+                new KafkaTemplate<>(new MockProducerFactory<>(() -> bytesProducer)));
+
+        // El deserializador real deja el valor en null y guarda los bytes originales en la cabecera de la excepción
+        Deserializer<Object> failing = (topic, data) -> {
+            throw new SerializationException("payload inválido");
+        };
+        RecordHeaders headers = new RecordHeaders();
+        Object value;
+        try (ErrorHandlingDeserializer<Object> deserializer = new ErrorHandlingDeserializer<>(failing)) {
+            value = deserializer.deserialize(TOPIC_TRANSACTION_EVENT, headers, POISON);
+        }
+        assertNull(value);
+        ConsumerRecord<String, Object> poison = new ConsumerRecord<>(TOPIC_TRANSACTION_EVENT, 0, 42L,
+                ConsumerRecord.NO_TIMESTAMP, TimestampType.NO_TIMESTAMP_TYPE, POISON.length, POISON.length, "7", value,
+                headers, Optional.empty());
+        ConsumerRecords<String, Object> records =
+                new ConsumerRecords<>(Map.of(new TopicPartition(TOPIC_TRANSACTION_EVENT, 0), List.of(poison)));
+
+        MessageListenerContainer container = mock(MessageListenerContainer.class);
+        when(container.getContainerProperties()).thenReturn(new ContainerProperties(TOPIC_TRANSACTION_EVENT));
+        errorHandler.handleBatch(new BatchListenerFailedException("mensaje no deserializable", poison),
+                records, mock(Consumer.class), container, () -> { });
+
+        assertTrue(jsonProducer.history().isEmpty());
+        assertEquals(1, bytesProducer.history().size());
+        ProducerRecord<String, byte[]> published = bytesProducer.history().get(0);
+        assertEquals(TOPIC_TRANSACTION_DLT, published.topic());
+        assertEquals("7", published.key());
+        assertArrayEquals(POISON, published.value());
+        assertEquals(TOPIC_TRANSACTION_EVENT, new String(
+                published.headers().lastHeader("kafka_dlt-original-topic").value(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void activityFailureShouldSeekBackInsteadOfPublishing() {
+        DefaultErrorHandler errorHandler = KafkaFactory.activityErrorHandler(0L);
+        TopicPartition partition = new TopicPartition(TOPIC_TRANSACTION_EVENT, 0);
+        List<ConsumerRecord<String, Object>> batch = List.of(
+                new ConsumerRecord<>(TOPIC_TRANSACTION_EVENT, 0, 41L, "7", null),
+                new ConsumerRecord<>(TOPIC_TRANSACTION_EVENT, 0, 42L, "7", null),
+                new ConsumerRecord<>(TOPIC_TRANSACTION_EVENT, 0, 43L, "7", null));
+        ConsumerRecords<String, Object> records = new ConsumerRecords<>(Map.of(partition, batch));
+        MessageListenerContainer container = mock(MessageListenerContainer.class);
+        when(container.getContainerProperties()).thenReturn(new ContainerProperties(TOPIC_TRANSACTION_EVENT));
+        Consumer<?, ?> consumer = mock(Consumer.class);
+
+        // Ni con muchos fallos seguidos el registro se da por recuperado: siempre se vuelve a buscar
+        for (int attempt = 0; attempt < 20; attempt++) {
+            assertThrows(KafkaException.class, () -> errorHandler.handleBatch(
+                    new BatchListenerFailedException("store no disponible", batch.get(1)),
+                    records, consumer, container, () -> { }));
+        }
+
+        verify(consumer, times(20)).seek(partition, 42L);
+    }
+}
@@ -1,24 +1,40 @@
 package ec.com.nttdata.customer_service.controller;
 
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import ec.com.nttdata.customer_service.config.TestSecurityConfig;
 import ec.com.nttdata.customer_service.dto.request.CustomerRequest;
+import ec.com.nttdata.customer_service.dto.response.CursorPage;
+import ec.com.nttdata.customer_service.dto.response.CustomerActivityResponse;
 import ec.com.nttdata.customer_service.dto.response.CustomerResponse;
+import ec.com.nttdata.customer_service.dto.response.CustomerSearchResponse;
+import ec.com.nttdata.customer_service.dto.response.IdentifierValidationResponse;
 import ec.com.nttdata.customer_service.service.CustomerService;
+import ec.com.nttdata.customer_service.util.IdentificationType;
+import java.math.BigDecimal;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.Random;
+import java.util.function.Consumer;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +49,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 
 //@WebMvcTest(CustomerController.class)
@@ -86,6 +103,50 @@ class CustomerControllerTest {
                         Matchers.equalTo(uuid))); // Adjust the jsonPath as per your DTO
     }
 
+    @Test
+    void testShow_ReturnsVersionETagAndCacheControl() throws Exception {
+        Long id = 9L;
+        CustomerResponse customerDto = this.buildCustomerResponse();
+        customerDto.setId(id);
+        customerDto.setVersion(4L);
+        when(customerService.findVersion(id)).thenReturn(Optional.of(4L));
+        when(customerService.show(id)).thenReturn(customerDto);
+
+        mockMvc.perform(get(path + "/{id}", id).header("If-None-Match", "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(header().string("Cache-Control", Matchers.containsString("must-revalidate")))
+                .andExpect(jsonPath("$.version").value(4));
+    }
+
+    @Test
+    void testShow_NotModifiedSkipsLoadingCustomer() throws Exception {
+        Long id = 9L;
+        when(customerService.findVersion(id)).thenReturn(Optional.of(4L));
+
+        mockMvc.perform(get(path + "/{id}", id).header("If-None-Match", "W/\"4\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(content().string(""));
+
+        verify(customerService, never()).show(id);
+    }
+
+    @Test
+    void testGetCustomersByIds_NotModified() throws Exception {
+        List<Long> ids = List.of(1L, 2L);
+        when(customerService.fingerprintByIds(ids)).thenReturn("abc123");
+
+        mockMvc.perform(post(path + "/by-ids")
+                        .contentType("application/json")
+                        .header("If-None-Match", "\"abc123\"")
+                        .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"abc123\""));
+
+        verify(customerService, never()).streamByIds(any(), any());
+    }
+
     @Test
     void testCreate() throws Exception {
         CustomerRequest customerRequest = this.buildCustomerRequest();
@@ -132,13 +193,92 @@ class CustomerControllerTest {
         CustomerResponse customerDto = this.buildCustomerResponse();
         customerDto.setId(id);
 
-        when(customerService.findByIds(any())).thenReturn(Collections.singletonList(customerDto));
+        doAnswer(invocation -> {
+            Consumer<CustomerResponse> consumer = invocation.getArgument(1);
+            consumer.accept(customerDto);
+            return null;
+        }).when(customerService).streamByIds(any(), any());
 
-        mockMvc.perform(post(path + "/by-ids")
+        MvcResult result = mockMvc.perform(post(path + "/by-ids")
                         .contentType("application/json")
                         .content(objectMapper.writeValueAsString(Collections.singletonList(id))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(Matchers.equalTo(id)))
+                .andExpect(jsonPath("$[0].name").value("JUAN"));
+    }
+
+    @Test
+    void testScroll() throws Exception {
+        CursorPage<CustomerResponse> page = CursorPage.<CustomerResponse>builder()
+                .content(List.of(this.buildCustomerResponse()))
+                .size(1)
+                .nextCursor("NDI")
+                .build();
+        when(customerService.scroll("", 1)).thenReturn(page);
+
+        mockMvc.perform(get(path).param("cursor", "").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("JUAN"))
+                .andExpect(jsonPath("$.next_cursor").value("NDI"));
+    }
+
+    @Test
+    void testScroll_InvalidSize() throws Exception {
+        mockMvc.perform(get(path).param("cursor", "").param("size", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testSearch() throws Exception {
+        when(customerService.search("mar 0975", 20)).thenReturn(List.of(
+                new CustomerSearchResponse(2L, "Marianela Montalvo", "097548965", "100000002")));
+
+        mockMvc.perform(get(path + "/search").param("q", "mar 0975"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[0].name").value("Marianela Montalvo"));
+    }
+
+    @Test
+    void testSearch_BlankQuery() throws Exception {
+        mockMvc.perform(get(path + "/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testActivity() throws Exception {
+        Long id = 7L;
+        when(customerService.activity(id)).thenReturn(CustomerActivityResponse.builder()
+                .customerId(id)
+                .depositTotal(BigDecimal.valueOf(150))
+                .depositCount(2)
+                .withdrawalTotal(BigDecimal.ZERO)
+                .build());
+
+        mockMvc.perform(get(path + "/{id}/activity", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customer_id").value(7))
+                .andExpect(jsonPath("$.deposit_count").value(2));
+    }
+
+    @Test
+    void testValidateIdentifiers() throws Exception {
+        List<String> identifiers = List.of("1790011674001", "17100340a5");
+        when(customerService.validateIdentifiers(identifiers)).thenReturn(List.of(
+                new IdentifierValidationResponse("1790011674001", true, IdentificationType.RUC_PRIVATE),
+                new IdentifierValidationResponse("17100340a5", false, IdentificationType.INVALID)));
+
+        mockMvc.perform(post(path + "/validate-identifiers")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(identifiers)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(Matchers.equalTo(id)));
+                .andExpect(jsonPath("$[0].valid").value(true))
+                .andExpect(jsonPath("$[0].type").value("RUC_PRIVATE"))
+                .andExpect(jsonPath("$[1].valid").value(false));
     }
 
     private CustomerRequest buildCustomerRequest() {
@@ -0,0 +1,54 @@
+package ec.com.nttdata.customer_service.controller;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import ec.com.nttdata.customer_service.config.TestSecurityConfig;
+import ec.com.nttdata.customer_service.dto.response.DeadLetterReplayResponse;
+import ec.com.nttdata.customer_service.service.DeadLetterReplayService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+class DeadLetterControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @MockitoBean
+    private DeadLetterReplayService deadLetterReplayService;
+
+    private final String path = "/dead-letters/movements/replay";
+
+    @Test
+    void testReplayMovements() throws Exception {
+        when(deadLetterReplayService.replayMovements(250)).thenReturn(DeadLetterReplayResponse.builder()
+                .source("movements-retry-dlt")
+                .target("movements")
+                .replayed(3)
+                .build());
+
+        mockMvc.perform(post(path).param("maxRecords", "250"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.replayed").value(3))
+                .andExpect(jsonPath("$.target").value("movements"));
+
+        verify(deadLetterReplayService).replayMovements(250);
+    }
+
+    @Test
+    void testReplayMovementsRejectsInvalidLimit() throws Exception {
+        mockMvc.perform(post(path).param("maxRecords", "0"))
+                .andExpect(status().isBadRequest());
+    }
+}
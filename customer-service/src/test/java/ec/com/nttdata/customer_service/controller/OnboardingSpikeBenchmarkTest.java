@@ -0,0 +1,162 @@
+package ec.com.nttdata.customer_service.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import ec.com.nttdata.customer_service.producer.CustomerEventPublisher;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * Prueba de carga: latencia de {@code GET /customers/{id}} en reposo y durante una ráfaga de altas
+ * ({@code POST /customers}), que hashean la contraseña con BCrypt en el pool acotado.
+ *
+ * <p>Las altas que exceden la cola reciben 503; las lecturas deben mantener su latencia porque el hashing solo
+ * ocupa {@code app.password.hashing.threads} núcleos. Se ejecuta con {@code ./gradlew benchmark}.</p>
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.password.bcrypt-strength=12")
+class OnboardingSpikeBenchmarkTest {
+
+    private static final int READERS = 8;
+    private static final int READS_PER_READER = 500;
+    private static final int ONBOARDING_CLIENTS = 150;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final AtomicInteger dniSequence = new AtomicInteger(1_000_000);
+
+    @LocalServerPort
+    private int port;
+
+    @MockitoBean
+    private CustomerEventPublisher eventPublisher;
+
+    @Test
+    void readLatencyShouldHoldDuringOnboardingSpike() throws Exception {
+        HttpResponse<String> created = createCustomer();
+        assertEquals(201, created.statusCode(), created.body());
+        String readUri = "/customers/" + created.body().replaceAll(".*\"id\":(\\d+).*", "$1");
+
+        long[] baseline = measureReads(readUri);
+
+        AtomicBoolean spiking = new AtomicBoolean(true);
+        Map<Integer, LongAdder> onboardingStatuses = new ConcurrentHashMap<>();
+        ExecutorService onboarding = Executors.newFixedThreadPool(ONBOARDING_CLIENTS);
+        for (int i = 0; i < ONBOARDING_CLIENTS; i++) {
+            onboarding.submit(() -> {
+                while (spiking.get()) {
+                    int status = createCustomer().statusCode();
+                    onboardingStatuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+                }
+                return null;
+            });
+        }
+        Thread.sleep(1_000);
+        long[] duringSpike = measureReads(readUri);
+        spiking.set(false);
+        onboarding.shutdown();
+        assertTrue(onboarding.awaitTermination(1, TimeUnit.MINUTES));
+
+        log.info("GET {} idle: p50={} ms p99={} ms", readUri, millis(percentile(baseline, 0.50)),
+                millis(percentile(baseline, 0.99)));
+        log.info("GET {} during onboarding spike: p50={} ms p99={} ms (POST statuses {})", readUri,
+                millis(percentile(duringSpike, 0.50)), millis(percentile(duringSpike, 0.99)), onboardingStatuses);
+
+        long allowed = Math.max(percentile(baseline, 0.99) * 5, TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(percentile(duringSpike, 0.99) < allowed, "read p99 degraded during onboarding spike");
+    }
+
+    private long[] measureReads(String uri) throws Exception {
+        ExecutorService readers = Executors.newFixedThreadPool(READERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int r = 0; r < READERS; r++) {
+            futures.add(readers.submit(() -> {
+                long[] latencies = new long[READS_PER_READER];
+                start.await();
+                for (int i = 0; i < READS_PER_READER; i++) {
+                    long begin = System.nanoTime();
+                    HttpResponse<String> response = send(HttpRequest.newBuilder(uri(uri)).GET().build());
+                    latencies[i] = System.nanoTime() - begin;
+                    assertEquals(200, response.statusCode());
+                }
+                return latencies;
+            }));
+        }
+        start.countDown();
+        long[] all = new long[READERS * READS_PER_READER];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] latencies = future.get(2, TimeUnit.MINUTES);
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+            offset += latencies.length;
+        }
+        readers.shutdown();
+        Arrays.sort(all);
+        return all;
+    }
+
+    private HttpResponse<String> createCustomer() throws Exception {
+        String body = String.format("{\"name\":\"Cliente\",\"gender\":\"F\",\"age\":30,\"dni\":\"%s\","
+                + "\"address\":\"Quito\",\"phone\":\"0999999999\",\"password\":\"s3cret\",\"is_active\":true}",
+                nextDni());
+        return send(HttpRequest.newBuilder(uri("/customers"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    // Cédula válida: provincia 17 + secuencia de 7 dígitos + dígito verificador (módulo 10)
+    private String nextDni() {
+        String base = "17" + dniSequence.incrementAndGet();
+        int sum = 0;
+        for (int i = 0; i < 9; i++) {
+            int product = Character.getNumericValue(base.charAt(i)) * (i % 2 == 0 ? 2 : 1);
+            sum += product > 9 ? product - 9 : product;
+        }
+        return base + (10 - sum % 10) % 10;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,80 @@
+package ec.com.nttdata.customer_service.listener;
+
+import static ec.com.nttdata.customer_service.listener.Topics.RETRY_ATTEMPT_SUFFIX;
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_TRANSACTION_DLT;
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_TRANSACTION_EVENT;
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_TRANSACTION_RETRY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ec.com.nttdata.customer_service.config.ObjectMapperConfig;
+import ec.com.nttdata.customer_service.config.kafka.KafkaEventHeaders;
+import ec.com.nttdata.customer_service.config.kafka.KafkaMessage;
+import ec.com.nttdata.customer_service.listener.eventTransaction.dto.TransactionCustomerDto;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+class KafkaEventTypeResolverTest {
+
+    private static final byte[] PAYLOAD = ("{\"action\":\"create\",\"version\":1,"
+            + "\"data\":{\"customer_id\":7,\"amount\":25.50,\"movement_type\":\"DEPOSITO\"}}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private JsonDeserializer<KafkaMessage<?>> deserializer;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapperConfig().objectMapper();
+        deserializer = new JsonDeserializer<>(objectMapper);
+        deserializer.setTypeResolver(new KafkaEventTypeResolver(objectMapper.getTypeFactory()));
+    }
+
+    private RecordHeaders headers(String type, String version) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(KafkaEventHeaders.TYPE, type.getBytes(StandardCharsets.UTF_8));
+        headers.add(KafkaEventHeaders.VERSION, version.getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+
+    @Test
+    void shouldBindDataStraightToDtoFromHeaders() {
+        KafkaMessage<?> message = deserializer.deserialize(TOPIC_TRANSACTION_EVENT, headers("create", "1"), PAYLOAD);
+
+        TransactionCustomerDto dto = assertInstanceOf(TransactionCustomerDto.class, message.getData());
+        assertEquals(7L, dto.getCustomerId());
+        assertEquals(new BigDecimal("25.50"), dto.getAmount());
+        assertEquals("DEPOSITO", dto.getMovementType());
+        assertEquals(1, message.getVersion());
+    }
+
+    @Test
+    void shouldFallBackToTopicTypeWhenHeadersAreMissing() {
+        KafkaMessage<?> message = deserializer.deserialize(TOPIC_TRANSACTION_EVENT, new RecordHeaders(), PAYLOAD);
+
+        assertInstanceOf(TransactionCustomerDto.class, message.getData());
+    }
+
+    @Test
+    void shouldRejectUnknownEventVersions() {
+        RecordHeaders headers = headers("create", "99");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> deserializer.deserialize(TOPIC_TRANSACTION_EVENT, headers, PAYLOAD));
+    }
+
+    @Test
+    void shouldResolveRetryAndDeadLetterTopicsLikeTheirBaseTopic() {
+        KafkaMessage<?> retry = deserializer.deserialize(TOPIC_TRANSACTION_RETRY + RETRY_ATTEMPT_SUFFIX + "-1",
+                headers("create", "1"), PAYLOAD);
+        KafkaMessage<?> deadLetter = deserializer.deserialize(TOPIC_TRANSACTION_DLT, new RecordHeaders(), PAYLOAD);
+
+        assertInstanceOf(TransactionCustomerDto.class, retry.getData());
+        assertInstanceOf(TransactionCustomerDto.class, deadLetter.getData());
+    }
+}
@@ -0,0 +1,92 @@
+package ec.com.nttdata.customer_service.listener.eventTransaction;
+
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_TRANSACTION_EVENT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import ec.com.nttdata.customer_service.config.kafka.KafkaEventHeaders;
+import ec.com.nttdata.customer_service.config.kafka.KafkaMessage;
+import ec.com.nttdata.customer_service.service.CustomerService;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+
+/**
+ * Mide cuántos eventos de movimiento por segundo procesa el listener por lotes contra un broker embebido.
+ * Se ejecuta con {@code ./gradlew benchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "spring.kafka.consumer.group-id=customer-listener-throughput",
+        "app.kafka.topics.movements.partitions=" + CustomerAccountTransactionListenerThroughputTest.PARTITIONS
+})
+@EmbeddedKafka(partitions = CustomerAccountTransactionListenerThroughputTest.PARTITIONS,
+        topics = TOPIC_TRANSACTION_EVENT)
+class CustomerAccountTransactionListenerThroughputTest {
+
+    static final int PARTITIONS = 6;
+    private static final int MESSAGES = 50_000;
+    private static final int ACCOUNTS = 500;
+    private static final int MIN_MESSAGES_PER_SECOND = 2_000;
+
+    @Autowired
+    private KafkaTemplate<String, KafkaMessage<?>> kafkaTemplate;
+    @Autowired
+    private KafkaListenerEndpointRegistry registry;
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+    @SpyBean
+    private CustomerService customerService;
+
+    @Test
+    void listenerShouldKeepUpWithThousandsOfMovementsPerSecond() throws Exception {
+        for (MessageListenerContainer container : registry.getListenerContainers()) {
+            ContainerTestUtils.waitForAssignment(container, broker.getPartitionsPerTopic());
+        }
+        CountDownLatch processed = new CountDownLatch(MESSAGES);
+        doAnswer(invocation -> {
+            processed.countDown();
+            return null;
+        }).when(customerService).eventTransactionAccountProcessed(any());
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MESSAGES; i++) {
+            KafkaMessage<?> message = new KafkaMessage<>("create", 1,
+                    Map.of("customer_id", i % 100, "amount", 10, "movement_type", "DEPOSITO"));
+            kafkaTemplate.send(new ProducerRecord<>(TOPIC_TRANSACTION_EVENT, null, String.valueOf(i % ACCOUNTS),
+                    message, List.<Header>of(
+                    new RecordHeader(KafkaEventHeaders.TYPE, "create".getBytes(StandardCharsets.UTF_8)),
+                    new RecordHeader(KafkaEventHeaders.VERSION, "1".getBytes(StandardCharsets.UTF_8)))));
+        }
+        kafkaTemplate.flush();
+
+        boolean completed = processed.await(2, TimeUnit.MINUTES);
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        long throughput = MESSAGES * 1_000L / elapsedMillis;
+        log.info("Processed {} movement events in {} ms ({} events/s, {} partitions)",
+                MESSAGES - processed.getCount(), elapsedMillis, throughput, PARTITIONS);
+
+        assertThat(completed).isTrue();
+        assertThat(throughput).isGreaterThan(MIN_MESSAGES_PER_SECOND);
+    }
+}
@@ -0,0 +1,133 @@
+package ec.com.nttdata.customer_service.producer.outbox;
+
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_CUSTOMER_EVENT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ec.com.nttdata.customer_service.config.kafka.KafkaEventHeaders;
+import ec.com.nttdata.customer_service.config.kafka.KafkaMessage;
+import ec.com.nttdata.customer_service.enums.OutboxStatusEnum;
+import ec.com.nttdata.customer_service.model.OutboxEvent;
+import ec.com.nttdata.customer_service.repository.OutboxEventRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.kafka.core.KafkaTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerOutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository repository;
+    @Mock
+    private KafkaTemplate<String, KafkaMessage<?>> kafkaTemplate;
+
+    private CustomerOutboxRelay relay;
+    private final List<ProducerRecord<String, KafkaMessage<?>>> sent = new ArrayList<>();
+    private final Queue<CompletableFuture<?>> results = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        relay = new CustomerOutboxRelay(repository, kafkaTemplate, new ObjectMapper(), 10, Duration.ofSeconds(1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void acceptSends() {
+        // Cada envío consume el siguiente resultado programado; sin resultados pendientes, Kafka confirma
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            sent.add(invocation.getArgument(0));
+            CompletableFuture<?> result = results.poll();
+            return result != null ? result : CompletableFuture.completedFuture(null);
+        });
+    }
+
+    private void givenPending(OutboxEvent... events) {
+        when(repository.findByStatusOrderByIdAsc(eq(OutboxStatusEnum.PENDING), any(Pageable.class)))
+                .thenReturn(List.of(events));
+    }
+
+    private static OutboxEvent event(Long id, Long customerId, String action, String payload) {
+        return OutboxEvent.builder()
+                .id(id)
+                .customerId(customerId)
+                .topic(TOPIC_CUSTOMER_EVENT)
+                .action(action)
+                .payload(payload)
+                .build();
+    }
+
+    private static OutboxEvent created(Long id, Long customerId) {
+        return event(id, customerId, "create", "{\"id\":" + customerId + ",\"name\":\"Jose\",\"status\":true}");
+    }
+
+    @Test
+    void relayBatch_PublishesInIdOrderKeyedByCustomerAndDeletesSentEvents() {
+        givenPending(created(1L, 5L), created(2L, 6L), event(3L, 5L, "delete", null));
+        acceptSends();
+
+        assertEquals(3, relay.relayBatch());
+
+        assertEquals(List.of("5", "6", "5"), sent.stream().map(ProducerRecord::key).toList());
+        KafkaMessage<?> message = sent.get(0).value();
+        assertEquals("create", message.getAction());
+        assertEquals("Jose", ((JsonNode) message.getData()).get("name").asText());
+        assertEquals("create", KafkaEventHeaders.lastValue(sent.get(0).headers(), KafkaEventHeaders.TYPE));
+        verify(repository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void relayBatch_PublishesDeleteAsTombstone() {
+        givenPending(event(1L, 5L, "delete", null));
+        acceptSends();
+
+        relay.relayBatch();
+
+        assertNull(sent.get(0).value());
+        assertEquals("delete", KafkaEventHeaders.lastValue(sent.get(0).headers(), KafkaEventHeaders.TYPE));
+    }
+
+    @Test
+    void relayBatch_KeepsFailedEventAndLaterEventsOfSameCustomer() {
+        givenPending(created(1L, 5L), created(2L, 6L), event(3L, 5L, "delete", null));
+        results.add(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        acceptSends();
+
+        assertEquals(0, relay.relayBatch());
+
+        // El tombstone del cliente 5 no sale antes que su alta, que falló: se reintentan juntos en la próxima pasada
+        assertEquals(List.of("5", "6"), sent.stream().map(ProducerRecord::key).toList());
+        verify(repository).deleteAllByIdInBatch(List.of(2L));
+        verify(repository, never()).markDead(anyLong(), anyString());
+    }
+
+    @Test
+    void relayBatch_DeadLettersUnreadablePayloadWithoutBlockingTheCustomer() {
+        givenPending(event(1L, 5L, "update", "{not json"), created(2L, 5L));
+        acceptSends();
+
+        assertEquals(2, relay.relayBatch());
+
+        verify(repository).markDead(eq(1L), anyString());
+        assertEquals(1, sent.size());
+        verify(repository).deleteAllByIdInBatch(List.of(2L));
+    }
+}
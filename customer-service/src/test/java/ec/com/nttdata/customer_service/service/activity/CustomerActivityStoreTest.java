@@ -0,0 +1,103 @@
+package ec.com.nttdata.customer_service.service.activity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ec.com.nttdata.customer_service.config.ObjectMapperConfig;
+import ec.com.nttdata.customer_service.listener.eventTransaction.dto.TransactionCustomerDto;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CustomerActivityStoreTest {
+
+    private static final Instant T1 = Instant.parse("2025-01-01T10:00:00Z");
+    private static final Instant T2 = Instant.parse("2025-01-01T11:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    private ObjectMapper objectMapper;
+    private Path snapshot;
+    private CustomerActivityStore store;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapperConfig().objectMapper();
+        snapshot = tempDir.resolve("activity.json");
+        store = new CustomerActivityStore(objectMapper, snapshot);
+    }
+
+    private TransactionCustomerDto event(Long customerId, String type, String amount) {
+        return TransactionCustomerDto.builder()
+                .customerId(customerId)
+                .movementType(type)
+                .amount(new BigDecimal(amount))
+                .build();
+    }
+
+    @Test
+    void shouldAggregateDepositsAndWithdrawals() {
+        store.apply(0, 0, event(7L, "DEPOSITO", "100.00"), T1);
+        store.apply(1, 0, event(7L, "RETIRO", "-30.50"), T2);
+        store.apply(0, 1, event(7L, "DEPOSITO", "20.00"), T1);
+
+        CustomerActivity activity = store.find(7L).orElseThrow();
+        assertEquals(new BigDecimal("120.00"), activity.depositTotal());
+        assertEquals(2, activity.depositCount());
+        assertEquals(new BigDecimal("30.50"), activity.withdrawalTotal());
+        assertEquals(1, activity.withdrawalCount());
+        assertEquals(T2, activity.lastActivityAt());
+        assertEquals(2L, store.nextOffset(0));
+        assertEquals(1L, store.nextOffset(1));
+    }
+
+    @Test
+    void shouldAdvanceOffsetForSkippedEvents() {
+        store.apply(0, 4, null, T1);
+
+        assertEquals(5L, store.nextOffset(0));
+        assertTrue(store.find(7L).isEmpty());
+    }
+
+    @Test
+    void shouldRestoreStateAndOffsetsFromSnapshot() {
+        store.apply(0, 0, event(7L, "DEPOSITO", "100.00"), T1);
+        store.apply(0, 1, event(8L, "RETIRO", "10.00"), T2);
+        store.checkpoint();
+
+        CustomerActivityStore restored = new CustomerActivityStore(objectMapper, snapshot);
+        // El listener re-entrega un offset anterior al snapshot: no debe contarse dos veces
+        restored.apply(0, 1, event(8L, "RETIRO", "10.00"), T2);
+
+        assertEquals(2L, restored.nextOffset(0));
+        assertEquals(new BigDecimal("100.00"), restored.find(7L).orElseThrow().depositTotal());
+        assertEquals(1, restored.find(8L).orElseThrow().withdrawalCount());
+        assertEquals(T2, restored.find(8L).orElseThrow().lastActivityAt());
+    }
+
+    @Test
+    void checkpointShouldSkipWritingWithoutChanges() {
+        store.checkpoint();
+
+        assertFalse(Files.exists(snapshot));
+        assertNull(store.nextOffset(0));
+    }
+
+    @Test
+    void shouldStartEmptyFromUnreadableSnapshot() throws Exception {
+        Files.writeString(snapshot, "{not json");
+
+        CustomerActivityStore restored = new CustomerActivityStore(objectMapper, snapshot);
+
+        assertNull(restored.nextOffset(0));
+        assertTrue(restored.find(7L).isEmpty());
+    }
+}
@@ -0,0 +1,71 @@
+package ec.com.nttdata.customer_service.service.dni;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import ec.com.nttdata.customer_service.repository.CustomerRepository;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DniBloomFilterTest {
+
+    private static final int EXPECTED = 100_000;
+
+    @Mock
+    private CustomerRepository repository;
+
+    @Test
+    void mightContain_BeforeRebuild_ReportsEveryDniAsPossible() {
+        DniBloomFilter filter = new DniBloomFilter(repository, EXPECTED, 0.01);
+
+        assertFalse(filter.isReady());
+        assertTrue(filter.mightContain("1710034065"));
+    }
+
+    @Test
+    void rebuild_LoadsExistingDnisWithoutFalseNegatives() {
+        when(repository.streamAllDnis()).thenReturn(IntStream.range(0, EXPECTED).mapToObj(DniBloomFilterTest::dni));
+        DniBloomFilter filter = new DniBloomFilter(repository, EXPECTED, 0.01);
+
+        filter.rebuild();
+
+        assertTrue(filter.isReady());
+        assertTrue(IntStream.range(0, EXPECTED).mapToObj(DniBloomFilterTest::dni).allMatch(filter::mightContain));
+    }
+
+    @Test
+    void mightContain_UnknownDnis_StaysNearConfiguredFalsePositiveRate() {
+        when(repository.streamAllDnis()).thenReturn(IntStream.range(0, EXPECTED).mapToObj(DniBloomFilterTest::dni));
+        DniBloomFilter filter = new DniBloomFilter(repository, EXPECTED, 0.01);
+        filter.rebuild();
+
+        long falsePositives = IntStream.range(EXPECTED, EXPECTED * 2)
+                .mapToObj(DniBloomFilterTest::dni)
+                .filter(filter::mightContain)
+                .count();
+
+        // fpp 0.01 con holgura para la varianza del muestreo
+        assertTrue(falsePositives < EXPECTED * 0.02, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void put_AfterRebuild_IsVisibleImmediately() {
+        when(repository.streamAllDnis()).thenReturn(Stream.empty());
+        DniBloomFilter filter = new DniBloomFilter(repository, EXPECTED, 0.01);
+        filter.rebuild();
+
+        assertFalse(filter.mightContain("0912345678"));
+        filter.put("0912345678");
+        assertTrue(filter.mightContain("0912345678"));
+    }
+
+    private static String dni(int i) {
+        return String.format("%010d", 1_700_000_000L + i);
+    }
+}
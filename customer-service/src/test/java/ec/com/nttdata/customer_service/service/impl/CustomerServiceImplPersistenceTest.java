@@ -0,0 +1,78 @@
+package ec.com.nttdata.customer_service.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import ec.com.nttdata.customer_service.dto.response.CustomerResponse;
+import ec.com.nttdata.customer_service.mapper.CustomerMapperImpl;
+import ec.com.nttdata.customer_service.model.Customer;
+import ec.com.nttdata.customer_service.producer.CustomerEventPublisher;
+import ec.com.nttdata.customer_service.service.activity.CustomerActivityStore;
+import ec.com.nttdata.customer_service.service.dni.DniBloomFilter;
+import ec.com.nttdata.customer_service.service.search.CustomerSearchIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * La transacción de la prueba mantiene un único EntityManager durante toda la llamada, igual que open-in-view en el
+ * hilo del {@code StreamingResponseBody}: lo leído en un bloque no debe quedar retenido al leer el siguiente.
+ */
+@DataJpaTest
+@Import({CustomerServiceImpl.class, CustomerMapperImpl.class})
+class CustomerServiceImplPersistenceTest {
+
+    private static final int CUSTOMERS = 1_100;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private CustomerServiceImpl customerService;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+    @MockitoBean
+    private CustomerActivityStore activityStore;
+    @MockitoBean
+    private CustomerEventPublisher eventPublisher;
+    @MockitoBean
+    private DniBloomFilter dniFilter;
+    @MockitoBean
+    private CustomerSearchIndex searchIndex;
+
+    @Test
+    void streamByIds_KeepsPersistenceContextEmptyBetweenChunks() {
+        List<Long> ids = IntStream.range(0, CUSTOMERS)
+                .mapToObj(i -> entityManager.persistAndGetId(customer(i), Long.class))
+                .toList();
+        entityManager.flush();
+        entityManager.clear();
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+
+        List<CustomerResponse> streamed = new ArrayList<>();
+        List<Integer> managedEntities = new ArrayList<>();
+        customerService.streamByIds(ids, customer -> {
+            streamed.add(customer);
+            managedEntities.add(session.getStatistics().getEntityCount());
+        });
+
+        assertEquals(ids, streamed.stream().map(CustomerResponse::getId).sorted().toList());
+        assertEquals(List.of(0), managedEntities.stream().distinct().toList());
+    }
+
+    private Customer customer(int index) {
+        Customer customer = new Customer();
+        customer.setName("Cliente " + index);
+        customer.setDni(String.format("9%09d", index));
+        customer.setAge(30);
+        customer.setIsActive(true);
+        return customer;
+    }
+}
@@ -1,39 +1,65 @@
 package ec.com.nttdata.customer_service.service.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import ec.com.nttdata.customer_service.dto.request.CustomerRequest;
+import ec.com.nttdata.customer_service.dto.response.CustomerActivityResponse;
+import ec.com.nttdata.customer_service.dto.response.CursorPage;
 import ec.com.nttdata.customer_service.dto.response.CustomerResponse;
+import ec.com.nttdata.customer_service.dto.response.CustomerSearchResponse;
+import ec.com.nttdata.customer_service.dto.response.IdentifierValidationResponse;
 import ec.com.nttdata.customer_service.exception.CustomerDniFoundException;
 import ec.com.nttdata.customer_service.exception.CustomerDniInvalidException;
 import ec.com.nttdata.customer_service.exception.CustomerNotFoundException;
 import ec.com.nttdata.customer_service.listener.eventTransaction.dto.TransactionCustomerDto;
 import ec.com.nttdata.customer_service.mapper.CustomerMapper;
 import ec.com.nttdata.customer_service.model.Customer;
+import ec.com.nttdata.customer_service.producer.CustomerEventPublisher;
 import ec.com.nttdata.customer_service.repository.CustomerRepository;
+import ec.com.nttdata.customer_service.service.activity.CustomerActivity;
+import ec.com.nttdata.customer_service.service.activity.CustomerActivityStore;
+import ec.com.nttdata.customer_service.service.dni.DniBloomFilter;
+import ec.com.nttdata.customer_service.service.search.CustomerSearchIndex;
+import ec.com.nttdata.customer_service.util.IdentificationType;
 import ec.com.nttdata.customer_service.util.IdentificationValidator;
+import ec.com.nttdata.customer_service.util.PageCursor;
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionOperations;
 
 @ExtendWith(MockitoExtension.class)
 public class CustomerServiceImplTest {
@@ -44,6 +70,16 @@ public class CustomerServiceImplTest {
     private CustomerMapper customerMapper;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private CustomerActivityStore activityStore;
+    @Mock
+    private CustomerEventPublisher eventPublisher;
+    @Mock
+    private DniBloomFilter dniFilter;
+    @Mock
+    private CustomerSearchIndex searchIndex;
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
 
     @InjectMocks
     private CustomerServiceImpl customerService;
@@ -96,13 +132,14 @@ public class CustomerServiceImplTest {
         String identification = customerRequest.getDni();
 
         when(customerMapper.toModel(any(CustomerRequest.class))).thenReturn(customer);
+        when(dniFilter.mightContain(identification)).thenReturn(true);
         when(repository.existsByDni(identification)).thenReturn(false);
 
         try (MockedStatic<IdentificationValidator> mockedValidator = mockStatic(IdentificationValidator.class)) {
             mockedValidator.when(() -> IdentificationValidator.isValidIdentifier(identification)).thenReturn(true);
 
             when(passwordEncoder.encode(any(String.class))).thenReturn("encryptedPassword");
-            when(repository.save(any(Customer.class))).thenReturn(customer);
+            when(repository.saveAndFlush(any(Customer.class))).thenReturn(customer);
             when(customerMapper.toResponse(any(Customer.class))).thenReturn(customerDto);
 
             CustomerResponse result = customerService.create(customerRequest);
@@ -110,12 +147,92 @@ public class CustomerServiceImplTest {
             assertEquals(customerDto, result);
             verify(passwordEncoder).encode("myPassword123");
             assertEquals("encryptedPassword", customer.getPassword());
+            verify(eventPublisher).publishCreated(customer);
+            verify(dniFilter).put(customer.getDni());
+            verify(searchIndex).put(customer);
+        }
+    }
+
+    @Test
+    void create_DniNotInFilter_SkipsDatabaseCheck() {
+        String identification = customerRequest.getDni();
+        when(customerMapper.toModel(any(CustomerRequest.class))).thenReturn(customer);
+        when(dniFilter.mightContain(identification)).thenReturn(false);
+
+        try (MockedStatic<IdentificationValidator> mockedValidator = mockStatic(IdentificationValidator.class)) {
+            mockedValidator.when(() -> IdentificationValidator.isValidIdentifier(identification)).thenReturn(true);
+            when(passwordEncoder.encode(any(String.class))).thenReturn("encryptedPassword");
+            when(customerMapper.toResponse(any(Customer.class))).thenReturn(customerDto);
+
+            customerService.create(customerRequest);
+
+            verify(repository, never()).existsByDni(any());
+            verify(repository).saveAndFlush(customer);
+        }
+    }
+
+    @Test
+    void create_ConcurrentDuplicateDni_MapsUniqueIndexViolation() {
+        String identification = customerRequest.getDni();
+        when(customerMapper.toModel(any(CustomerRequest.class))).thenReturn(customer);
+        when(dniFilter.mightContain(identification)).thenReturn(false);
+
+        try (MockedStatic<IdentificationValidator> mockedValidator = mockStatic(IdentificationValidator.class)) {
+            mockedValidator.when(() -> IdentificationValidator.isValidIdentifier(identification)).thenReturn(true);
+            when(passwordEncoder.encode(any(String.class))).thenReturn("encryptedPassword");
+            when(repository.saveAndFlush(any(Customer.class))).thenThrow(new DataIntegrityViolationException(
+                    "could not execute statement",
+                    new RuntimeException("Unique index or primary key violation: \"PUBLIC.ux_customers_dni\"")));
+
+            Exception exception =
+                    assertThrows(CustomerDniFoundException.class, () -> customerService.create(customerRequest));
+            assertEquals("customer with " + identification + " already exists", exception.getMessage());
+            verify(eventPublisher, never()).publishCreated(any());
+            verify(dniFilter, never()).put(any());
+        }
+    }
+
+    @Test
+    void create_OtherIntegrityViolation_IsRethrown() {
+        String identification = customerRequest.getDni();
+        when(customerMapper.toModel(any(CustomerRequest.class))).thenReturn(customer);
+        when(dniFilter.mightContain(identification)).thenReturn(false);
+
+        try (MockedStatic<IdentificationValidator> mockedValidator = mockStatic(IdentificationValidator.class)) {
+            mockedValidator.when(() -> IdentificationValidator.isValidIdentifier(identification)).thenReturn(true);
+            when(passwordEncoder.encode(any(String.class))).thenReturn("encryptedPassword");
+            when(repository.saveAndFlush(any(Customer.class))).thenThrow(new DataIntegrityViolationException(
+                    "could not execute statement", new RuntimeException("NULL not allowed for column \"name\"")));
+
+            assertThrows(DataIntegrityViolationException.class, () -> customerService.create(customerRequest));
+        }
+    }
+
+    @Test
+    void create_OutboxFailure_LeavesCustomerOutOfIndexAndFilter() {
+        String identification = customerRequest.getDni();
+        when(customerMapper.toModel(any(CustomerRequest.class))).thenReturn(customer);
+        when(dniFilter.mightContain(identification)).thenReturn(false);
+
+        try (MockedStatic<IdentificationValidator> mockedValidator = mockStatic(IdentificationValidator.class)) {
+            mockedValidator.when(() -> IdentificationValidator.isValidIdentifier(identification)).thenReturn(true);
+            when(passwordEncoder.encode(any(String.class))).thenReturn("encryptedPassword");
+            when(repository.saveAndFlush(any(Customer.class))).thenReturn(customer);
+            doThrow(new IllegalStateException("Could not serialize customer event"))
+                    .when(eventPublisher).publishCreated(customer);
+
+            // El evento se registra dentro de la transacción del alta: si falla, el alta se revierte
+            assertThrows(IllegalStateException.class, () -> customerService.create(customerRequest));
+            verify(transactionOperations).execute(any());
+            verify(dniFilter, never()).put(any());
+            verify(searchIndex, never()).put(any());
         }
     }
 
     @Test
     void create_IdentificationExists_ThrowsCustomerIdentificationFoundException() {
         String identification = customerRequest.getDni();
+        when(dniFilter.mightContain(identification)).thenReturn(true);
         when(repository.existsByDni(identification)).thenReturn(true);
 
         Exception exception =
@@ -126,6 +243,7 @@ public class CustomerServiceImplTest {
     @Test
     void create_InvalidIdentification_ThrowsCustomerIdentificationInvalidException() {
         String identification = customerRequest.getDni();
+        when(dniFilter.mightContain(identification)).thenReturn(true);
         when(repository.existsByDni(identification)).thenReturn(false);
 
         try (MockedStatic<IdentificationValidator> mockedValidator = mockStatic(IdentificationValidator.class)) {
@@ -141,13 +259,15 @@ public class CustomerServiceImplTest {
     void update_CustomerExists_ReturnsUpdatedCustomerDto() {
         when(repository.findById(any(Long.class))).thenReturn(Optional.of(customer));
         doNothing().when(customerMapper).updateModel(any(CustomerRequest.class), any(Customer.class));
-        when(repository.save(any(Customer.class))).thenReturn(customer);
+        when(repository.saveAndFlush(any(Customer.class))).thenReturn(customer);
         when(customerMapper.toResponse(any(Customer.class))).thenReturn(customerDto);
 
         CustomerResponse result = customerService.update(customer.getId(), customerRequest);
 
         assertEquals(customerDto, result);
-        verify(repository).save(customer);
+        verify(repository).saveAndFlush(customer);
+        verify(eventPublisher).publishUpdated(customer);
+        verify(searchIndex).put(customer);
     }
 
     @Test
@@ -169,6 +289,8 @@ public class CustomerServiceImplTest {
         customerService.delete(customer.getId());
 
         verify(repository, times(1)).delete(customer);
+        verify(eventPublisher).publishDeleted(customer.getId());
+        verify(searchIndex).remove(customer.getId());
     }
 
     @Test
@@ -193,6 +315,50 @@ public class CustomerServiceImplTest {
         assertEquals(customerDto.getDni(), result.getContent().get(0).getDni());
     }
 
+    @Test
+    void scroll_ReturnsCursorOfLastDeliveredRow() {
+        Customer next = new Customer();
+        next.setId(customer.getId() + 1);
+        when(repository.findByIdGreaterThanOrderByIdAsc(5L, PageRequest.ofSize(2))).thenReturn(List.of(customer, next));
+        when(customerMapper.toResponse(customer)).thenReturn(customerDto);
+
+        CursorPage<CustomerResponse> result = customerService.scroll(PageCursor.encode(5L), 1);
+
+        assertEquals(List.of(customerDto), result.getContent());
+        assertEquals(customer.getId(), PageCursor.decode(result.getNextCursor()));
+        verify(repository, never()).count();
+    }
+
+    @Test
+    void fingerprintByIds_ChangesWithVersionsAndMissingIds() {
+        CustomerRepository.VersionView v1 = versionView(1L, 0L);
+        CustomerRepository.VersionView v2 = versionView(2L, 0L);
+        CustomerRepository.VersionView v2Updated = versionView(2L, 1L);
+        when(repository.findVersionsByIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(v1, v2), List.of(v2, v1), List.of(v1, v2Updated), List.of(v1));
+
+        String original = customerService.fingerprintByIds(List.of(2L, 1L));
+        String reordered = customerService.fingerprintByIds(List.of(1L, 2L, 2L));
+        String updated = customerService.fingerprintByIds(List.of(1L, 2L));
+        String deleted = customerService.fingerprintByIds(List.of(1L, 2L));
+
+        assertEquals(original, reordered);
+        assertNotEquals(original, updated);
+        assertNotEquals(original, deleted);
+        assertNotEquals(updated, deleted);
+    }
+
+    @Test
+    void scroll_LastPageHasNoCursor() {
+        when(repository.findAllByOrderByIdAsc(PageRequest.ofSize(21))).thenReturn(List.of(customer));
+        when(customerMapper.toResponse(customer)).thenReturn(customerDto);
+
+        CursorPage<CustomerResponse> result = customerService.scroll("", 20);
+
+        assertEquals(1, result.getSize());
+        assertNull(result.getNextCursor());
+    }
+
     @Test
     void eventTransactionAccountProcessed_logsCorrectly() {
         TransactionCustomerDto transactionDto = new TransactionCustomerDto();
@@ -207,13 +373,92 @@ public class CustomerServiceImplTest {
     @Test
     void findByIds_ReturnsCustomerDtos() {
         List<Long> ids = List.of(1L, 2L);
-        List<Customer> customers = List.of(customer, customer);
-        when(repository.findAllById(ids)).thenReturn(customers);
-        when(customerMapper.toResponse(any(Customer.class))).thenReturn(customerDto);
+        CustomerRepository.ResponseView view = mock(CustomerRepository.ResponseView.class);
+        when(repository.findResponseViewsByIdIn(ids)).thenReturn(List.of(view, view));
+        when(customerMapper.toResponse(view)).thenReturn(customerDto);
 
         List<CustomerResponse> result = customerService.findByIds(ids);
 
         assertEquals(2, result.size());
-        verify(repository).findAllById(ids);
+        verify(repository).findResponseViewsByIdIn(ids);
+        verify(repository, never()).findAllById(any());
+    }
+
+    @Test
+    void streamByIds_QueriesInBoundedChunksWithoutDuplicates() {
+        List<Long> ids = new ArrayList<>(LongStream.rangeClosed(1, 1_200).boxed().toList());
+        ids.add(1L);
+        ids.add(null);
+        CustomerRepository.ResponseView view = mock(CustomerRepository.ResponseView.class);
+        when(repository.findResponseViewsByIdIn(any())).thenReturn(List.of(view));
+        when(customerMapper.toResponse(view)).thenReturn(customerDto);
+
+        List<CustomerResponse> streamed = new ArrayList<>();
+        customerService.streamByIds(ids, streamed::add);
+
+        ArgumentCaptor<List<Long>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(3)).findResponseViewsByIdIn(chunks.capture());
+        assertEquals(List.of(500, 500, 200), chunks.getAllValues().stream().map(List::size).toList());
+        assertEquals(3, streamed.size());
+    }
+
+    @Test
+    void activity_ReturnsAggregateFromStore() {
+        Instant lastActivity = Instant.parse("2025-01-01T10:00:00Z");
+        when(activityStore.find(1L)).thenReturn(Optional.of(
+                new CustomerActivity(BigDecimal.valueOf(150), 2, BigDecimal.valueOf(40), 1, lastActivity)));
+
+        CustomerActivityResponse result = customerService.activity(1L);
+
+        assertEquals(1L, result.getCustomerId());
+        assertEquals(BigDecimal.valueOf(150), result.getDepositTotal());
+        assertEquals(2, result.getDepositCount());
+        assertEquals(1, result.getWithdrawalCount());
+        assertEquals(lastActivity, result.getLastActivityAt());
+    }
+
+    @Test
+    void validateIdentifiers_ReturnsResultPerIdentifierInOrder() {
+        List<IdentifierValidationResponse> result =
+                customerService.validateIdentifiers(List.of("1710034065", "1760001550001", "123"));
+
+        assertEquals(List.of("1710034065", "1760001550001", "123"),
+                result.stream().map(IdentifierValidationResponse::getIdentifier).toList());
+        assertEquals(List.of(IdentificationType.CEDULA, IdentificationType.RUC_PUBLIC, IdentificationType.INVALID),
+                result.stream().map(IdentifierValidationResponse::getType).toList());
+        assertFalse(result.get(2).isValid());
+    }
+
+    @Test
+    void activity_ReturnsZerosWithoutMovements() {
+        when(activityStore.find(2L)).thenReturn(Optional.empty());
+
+        CustomerActivityResponse result = customerService.activity(2L);
+
+        assertEquals(BigDecimal.ZERO, result.getDepositTotal());
+        assertEquals(0, result.getWithdrawalCount());
+    }
+
+    @Test
+    void search_DelegatesToIndexWithoutHittingRepository() {
+        List<CustomerSearchResponse> hits = List.of(new CustomerSearchResponse(1L, "Jose Lema", "098254785", "1"));
+        when(searchIndex.search("jose", 20)).thenReturn(hits);
+
+        assertEquals(hits, customerService.search("jose", 20));
+        verifyNoInteractions(repository);
+    }
+
+    private static CustomerRepository.VersionView versionView(Long id, Long version) {
+        return new CustomerRepository.VersionView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,144 @@
+package ec.com.nttdata.customer_service.service.impl;
+
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_TRANSACTION_DLT;
+import static ec.com.nttdata.customer_service.listener.Topics.TOPIC_TRANSACTION_EVENT;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+import ec.com.nttdata.customer_service.dto.response.DeadLetterReplayResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class DeadLetterReplayServiceImplTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC_TRANSACTION_DLT, 0);
+
+    @Mock
+    private ConsumerFactory<byte[], byte[]> consumerFactory;
+    @Mock
+    private KafkaTemplate<byte[], byte[]> replayTemplate;
+
+    private MockConsumer<byte[], byte[]> consumer;
+    private DeadLetterReplayServiceImpl replayService;
+    private final List<ProducerRecord<byte[], byte[]>> sent = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // El servicio cierra el consumer; se ignora el cierre para poder verificar los offsets confirmados
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+            @Override
+            public synchronized void close() {
+            }
+        };
+        consumer.updatePartitions(TOPIC_TRANSACTION_DLT,
+                List.of(new PartitionInfo(TOPIC_TRANSACTION_DLT, 0, null, null, null)));
+        Map<TopicPartition, Long> beginning = new HashMap<>();
+        beginning.put(PARTITION, 0L);
+        consumer.updateBeginningOffsets(beginning);
+        when(consumerFactory.createConsumer(anyString(), isNull())).thenReturn(consumer);
+
+        replayService = new DeadLetterReplayServiceImpl(consumerFactory, replayTemplate, "customer_service",
+                Duration.ofMillis(10), Duration.ofSeconds(1));
+    }
+
+    private void scheduleRecords(int count) {
+        consumer.schedulePollTask(() -> {
+            for (int offset = 0; offset < count; offset++) {
+                ConsumerRecord<byte[], byte[]> record = new ConsumerRecord<>(TOPIC_TRANSACTION_DLT, 0, offset,
+                        ("key-" + offset).getBytes(StandardCharsets.UTF_8),
+                        ("value-" + offset).getBytes(StandardCharsets.UTF_8));
+                record.headers().add("event-type", "create".getBytes(StandardCharsets.UTF_8));
+                record.headers().add("kafka_dlt-exception-message", "boom".getBytes(StandardCharsets.UTF_8));
+                record.headers().add("retry_topic-attempts", new byte[]{4});
+                consumer.addRecord(record);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void acceptSends(CompletableFuture<?> result) {
+        when(replayTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            sent.add(invocation.getArgument(0));
+            return result;
+        });
+    }
+
+    @Test
+    void shouldReplayRecordsToMainTopicAndCommitOffsets() {
+        scheduleRecords(3);
+        acceptSends(CompletableFuture.completedFuture(null));
+
+        DeadLetterReplayResponse response = replayService.replayMovements(10);
+
+        assertEquals(3, response.getReplayed());
+        assertEquals(TOPIC_TRANSACTION_EVENT, response.getTarget());
+        assertEquals(3, sent.size());
+        ProducerRecord<byte[], byte[]> first = sent.get(0);
+        assertEquals(TOPIC_TRANSACTION_EVENT, first.topic());
+        assertArrayEquals("value-0".getBytes(StandardCharsets.UTF_8), first.value());
+        assertNotNull(first.headers().lastHeader("event-type"));
+        assertNotNull(first.headers().lastHeader("event-replayed"));
+        assertNull(first.headers().lastHeader("kafka_dlt-exception-message"));
+        assertNull(first.headers().lastHeader("retry_topic-attempts"));
+        assertEquals(3L, consumer.committed(Set.of(PARTITION)).get(PARTITION).offset());
+    }
+
+    @Test
+    void shouldStopAtMaxRecords() {
+        scheduleRecords(5);
+        acceptSends(CompletableFuture.completedFuture(null));
+
+        DeadLetterReplayResponse response = replayService.replayMovements(2);
+
+        assertEquals(2, response.getReplayed());
+        assertEquals(2L, consumer.committed(Set.of(PARTITION)).get(PARTITION).offset());
+    }
+
+    @Test
+    void shouldNotCommitWhenSendFails() {
+        scheduleRecords(2);
+        acceptSends(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        assertThrows(KafkaException.class, () -> replayService.replayMovements(10));
+
+        OffsetAndMetadata committed = consumer.committed(Set.of(PARTITION)).get(PARTITION);
+        assertNull(committed);
+    }
+
+    @Test
+    void shouldReturnZeroWhenDltIsEmpty() {
+        DeadLetterReplayResponse response = replayService.replayMovements(10);
+
+        assertEquals(0, response.getReplayed());
+        assertEquals(TOPIC_TRANSACTION_DLT, response.getSource());
+    }
+}
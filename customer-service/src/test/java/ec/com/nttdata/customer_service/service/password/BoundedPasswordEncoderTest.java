@@ -0,0 +1,91 @@
+package ec.com.nttdata.customer_service.service.password;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import ec.com.nttdata.customer_service.exception.PasswordHashingUnavailableException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    void encodeAndMatchesShouldDelegateToBcrypt() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1, Duration.ofSeconds(5));
+
+        String hash = encoder.encode("secret");
+
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertTrue(encoder.matches("secret", hash));
+        assertFalse(encoder.matches("other", hash));
+    }
+
+    @Test
+    void fullQueueShouldBeRejected() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blocking(started), 1, 1, Duration.ofSeconds(5));
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        awaitQueued();
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> encoder.encode("third"));
+
+        release.countDown();
+        assertEquals("hash:first", running.get(1, TimeUnit.SECONDS));
+        assertEquals("hash:second", queued.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void slowHashShouldTimeOut() {
+        encoder = new BoundedPasswordEncoder(blocking(new CountDownLatch(1)), 1, 1, Duration.ofMillis(50));
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> encoder.encode("secret"));
+    }
+
+    private PasswordEncoder blocking(CountDownLatch started) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+    }
+
+    private void awaitQueued() throws InterruptedException {
+        // La segunda solicitud entra a la cola de forma asíncrona; se espera a que ocupe el único lugar
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (encoder.queued() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package ec.com.nttdata.customer_service.service.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import ec.com.nttdata.customer_service.model.Customer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+/**
+ * Latencia de {@link CustomerSearchIndex#search} con un millón de clientes sintéticos: el p99 de búsquedas por
+ * prefijo de nombre, teléfono y DNI debe quedar bajo 5 ms. Se ejecuta con {@code ./gradlew benchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CustomerSearchIndexBenchmarkTest {
+
+    private static final int CUSTOMERS = 1_000_000;
+    private static final int SAMPLES = 10_000;
+    private static final int LIMIT = 20;
+    private static final long P99_BUDGET = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final List<String> FIRST_NAMES = List.of("José", "María", "Juan", "Ana", "Luis", "Gabriela",
+            "Carlos", "Lucía", "Andrés", "Verónica", "Diego", "Fernanda", "Jorge", "Paola", "Mario", "Sofía");
+    private static final List<String> LAST_NAMES = List.of("Lema", "Montalvo", "Osorio", "Pérez", "Andrade",
+            "Cevallos", "Zambrano", "Mendoza", "Vera", "Ortiz", "Guamán", "Chávez", "Salazar", "Ruiz", "Paredes");
+
+    private CustomerSearchIndex index;
+
+    @BeforeAll
+    void setUp() {
+        index = new CustomerSearchIndex(null, 1, 1);
+        long start = System.nanoTime();
+        LongStream.rangeClosed(1, CUSTOMERS).parallel().forEach(id -> index.put(customer(id)));
+        log.info("Indexed {} customers in {} ms", index.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Test
+    void p99SearchLatencyShouldStayUnderFiveMillis() {
+        assertEquals(CUSTOMERS, index.size());
+        assertFalse(index.search("maria lema", LIMIT).isEmpty());
+        assertEquals(1, index.search(dni(424_242), LIMIT).size());
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES * 2; i++) {
+            long id = random.nextLong(1, CUSTOMERS + 1);
+            String query = switch (i % 4) {
+                case 0 -> prefix(FIRST_NAMES.get(random.nextInt(FIRST_NAMES.size())), 3);
+                case 1 -> prefix(FIRST_NAMES.get(random.nextInt(FIRST_NAMES.size())), 4) + " "
+                        + prefix(LAST_NAMES.get(random.nextInt(LAST_NAMES.size())), 3);
+                case 2 -> prefix(phone(id), 6);
+                default -> prefix(dni(id), 8);
+            };
+            long start = System.nanoTime();
+            index.search(query, LIMIT);
+            // La primera mitad solo calienta el JIT
+            if (i >= SAMPLES) {
+                samples[i - SAMPLES] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(samples);
+        long p50 = samples[SAMPLES / 2];
+        long p99 = samples[SAMPLES * 99 / 100];
+
+        log.info("Search latency over {} customers: p50 = {} us, p99 = {} us", CUSTOMERS,
+                TimeUnit.NANOSECONDS.toMicros(p50), TimeUnit.NANOSECONDS.toMicros(p99));
+        assertTrue(p99 < P99_BUDGET, "p99 us: " + TimeUnit.NANOSECONDS.toMicros(p99));
+    }
+
+    private static Customer customer(long id) {
+        Customer customer = new Customer();
+        customer.setId(id);
+        customer.setName(FIRST_NAMES.get((int) (id % FIRST_NAMES.size())) + " "
+                + LAST_NAMES.get((int) (id / FIRST_NAMES.size() % LAST_NAMES.size())));
+        customer.setPhone(phone(id));
+        customer.setDni(dni(id));
+        customer.setVersion(0L);
+        return customer;
+    }
+
+    private static String phone(long id) {
+        return String.format("09%08d", id);
+    }
+
+    private static String dni(long id) {
+        return String.format("%010d", 1_700_000_000L + id);
+    }
+
+    private static String prefix(String value, int length) {
+        return value.substring(0, Math.min(length, value.length()));
+    }
+}
@@ -0,0 +1,194 @@
+package ec.com.nttdata.customer_service.service.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import ec.com.nttdata.customer_service.dto.response.CustomerSearchResponse;
+import ec.com.nttdata.customer_service.model.Customer;
+import ec.com.nttdata.customer_service.repository.CustomerRepository;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerSearchIndexTest {
+
+    @Mock
+    private CustomerRepository repository;
+
+    private CustomerSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CustomerSearchIndex(repository, 2, 2);
+    }
+
+    @Test
+    void search_MatchesNamePrefixIgnoringCaseAndAccents() {
+        index.put(customer(1L, "María José Pérez", "098-254-785", "1710034065", 0L));
+        index.put(customer(2L, "Mario Lema", "097548965", "0926687856", 0L));
+
+        assertEquals(List.of(1L, 2L), ids(index.search("MAR", 10)));
+        assertEquals(List.of(1L), ids(index.search("maria perez", 10)));
+        assertEquals(List.of(1L), ids(index.search("pérez", 10)));
+    }
+
+    @Test
+    void search_MatchesPhoneAndDniPrefixes() {
+        index.put(customer(1L, "María José Pérez", "098-254-785", "1710034065", 0L));
+        index.put(customer(2L, "Mario Lema", "097548965", "0926687856", 0L));
+
+        assertEquals(List.of(1L), ids(index.search("098254", 10)));
+        assertEquals(List.of(2L), ids(index.search("0926", 10)));
+        assertEquals(List.of(2L), ids(index.search("mar 0975", 10)));
+        assertTrue(index.search("lema 098", 10).isEmpty());
+    }
+
+    @Test
+    void search_StopsAtLimit() {
+        for (long id = 1; id <= 50; id++) {
+            index.put(customer(id, "Juan " + id, null, null, 0L));
+        }
+
+        assertEquals(5, index.search("juan", 5).size());
+    }
+
+    @Test
+    void put_ReplacesTokensOfPreviousVersion() {
+        index.put(customer(1L, "Jose Lema", "098254785", "100000001", 0L));
+        index.put(customer(1L, "Jose Andrade", "098254785", "100000001", 1L));
+
+        assertTrue(index.search("lema", 10).isEmpty());
+        assertEquals(List.of(1L), ids(index.search("andra", 10)));
+    }
+
+    @Test
+    void remove_DropsCustomerFromResults() {
+        index.put(customer(1L, "Jose Lema", "098254785", "100000001", 0L));
+
+        index.remove(1L);
+
+        assertTrue(index.search("jose", 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void rebuild_LoadsRangesWithoutOverwritingNewerChangesOrDeletes() throws Exception {
+        when(repository.findMaxId()).thenReturn(4L);
+        when(repository.findSearchViewsByIdBetween(anyLong(), anyLong())).thenAnswer(invocation -> {
+            long from = invocation.getArgument(0);
+            return List.of(view(from + 1, "Cliente Antiguo " + (from + 1), 0L));
+        });
+        // Cambios que llegan mientras se reconstruye
+        index.put(customer(1L, "Cliente Nuevo", null, null, 3L));
+        index.remove(3L);
+
+        index.rebuild();
+
+        assertTrue(index.isReady());
+        assertEquals(List.of(1L), ids(index.search("nuevo", 10)));
+        assertEquals(List.of(), ids(index.search("antiguo 3", 10)));
+        assertEquals(List.of(5L), ids(index.search("antiguo 5", 10)));
+    }
+
+    @Test
+    void remove_DropsTokensLeftWithoutCustomers() {
+        index.put(customer(1L, "Jose Lema", "098254785", "100000001", 0L));
+        index.put(customer(2L, "Jose Andrade", null, null, 0L));
+        index.put(customer(2L, "Luis Andrade", null, null, 1L));
+
+        index.remove(1L);
+
+        // Quedan solo "luis" y "andrade"; "jose", "lema", el teléfono y el DNI no dejan conjuntos vacíos
+        assertEquals(2, index.tokenCount());
+        index.remove(2L);
+        assertEquals(0, index.tokenCount());
+    }
+
+    @Test
+    void rebuild_NeverRestoresCustomersDeletedConcurrently() throws Exception {
+        int customers = 2_000;
+        List<CustomerRepository.SearchView> views = LongStream.rangeClosed(1, customers)
+                .mapToObj(id -> view(id, "Cliente " + id, 0L))
+                .toList();
+        when(repository.findMaxId()).thenReturn((long) customers);
+        when(repository.findSearchViewsByIdBetween(anyLong(), anyLong())).thenAnswer(invocation -> {
+            long from = invocation.getArgument(0);
+            long to = invocation.getArgument(1);
+            return views.subList((int) Math.max(0, from - 1), (int) to);
+        });
+        ExecutorService deletes = Executors.newSingleThreadExecutor();
+        try {
+            for (int round = 0; round < 20; round++) {
+                CustomerSearchIndex rebuilding = new CustomerSearchIndex(repository, 2, 250);
+                // Las bajas corren a la par de la carga, así caen entre la lectura de cada rango y su indexación
+                Future<?> deleted = deletes.submit(() -> {
+                    for (long id = customers; id >= 1; id--) {
+                        rebuilding.remove(id);
+                    }
+                });
+                rebuilding.rebuild();
+                deleted.get(10, TimeUnit.SECONDS);
+
+                assertEquals(0, rebuilding.size());
+                assertEquals(0, rebuilding.tokenCount());
+                assertTrue(rebuilding.search("cliente", 10).isEmpty());
+            }
+        } finally {
+            deletes.shutdownNow();
+        }
+    }
+
+    private static List<Long> ids(List<CustomerSearchResponse> results) {
+        return results.stream().map(CustomerSearchResponse::getId).toList();
+    }
+
+    private static Customer customer(Long id, String name, String phone, String dni, Long version) {
+        Customer customer = new Customer();
+        customer.setId(id);
+        customer.setName(name);
+        customer.setPhone(phone);
+        customer.setDni(dni);
+        customer.setVersion(version);
+        return customer;
+    }
+
+    private static CustomerRepository.SearchView view(Long id, String name, Long version) {
+        return new CustomerRepository.SearchView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getPhone() {
+                return null;
+            }
+
+            @Override
+            public String getDni() {
+                return null;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package ec.com.nttdata.customer_service.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class IdentificationValidatorTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "1710034065, CEDULA",
+            "0926687856, CEDULA",
+            "1710034065001, RUC_NATURAL",
+            "1760001550001, RUC_PUBLIC",
+            "1790011674001, RUC_PRIVATE"
+    })
+    void identify_ValidIdentifiers_ReturnsType(String identifier, IdentificationType expected) {
+        assertEquals(expected, IdentificationValidator.identify(identifier));
+        assertTrue(IdentificationValidator.isValidIdentifier(identifier));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {
+            "1710034066",      // dígito verificador incorrecto
+            "2510034065",      // provincia fuera de rango
+            "17100340a5",      // carácter no numérico
+            "171003406-",      // verificador no numérico
+            "1710034065000",   // RUC natural sin establecimiento
+            "1790011675001",   // RUC privado con verificador incorrecto
+            "1760001550000",   // RUC público sin establecimiento
+            "1780011674001",   // tercer dígito sin tipo de contribuyente
+            "17100340650"      // longitud inválida
+    })
+    void identify_InvalidIdentifiers_ReturnsInvalid(String identifier) {
+        assertEquals(IdentificationType.INVALID, IdentificationValidator.identify(identifier));
+        assertFalse(IdentificationValidator.isValidIdentifier(identifier));
+    }
+}